@@ -0,0 +1,464 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Uladzislau Seuruk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.vladislavsevruk.resolver.processor;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.annotation.processing.SupportedOptions;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.ExecutableType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.type.TypeVariable;
+import javax.lang.model.type.WildcardType;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Types;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardLocation;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Annotation processor that generates <code>PrecomputedRepresentationTable</code> implementations for types marked
+ * with <code>PrecomputedRepresentations</code>. Generated tables contain full name and short name representations of
+ * fields of type and its superclasses and signatures of constructors of type and methods of type, its superclasses
+ * and interfaces, i.e. the same members that are resolved by <code>FieldStringRepresentationResolver</code> and
+ * <code>ExecutableStringRepresentationResolver</code> for raw type. Members with types which representation depends
+ * on runtime resolving, like raw usages of generic types or unbounded wildcards, are skipped and resolved on runtime.
+ * Generated tables are registered as services so they can be discovered using <code>ServiceLoader</code>.<br>
+ * If <code>resolver.nativeImage</code> option is set to <code>true</code> processor also generates GraalVM
+ * native-image configuration: reflection metadata for annotated types and their hierarchy and arguments that
+ * initialize generated tables at image build time, so precomputed representations are stored at image heap.
+ */
+@SupportedAnnotationTypes(PrecomputedRepresentationProcessor.ANNOTATION_NAME)
+@SupportedOptions(PrecomputedRepresentationProcessor.NATIVE_IMAGE_OPTION)
+public final class PrecomputedRepresentationProcessor extends AbstractProcessor {
+
+    static final String ANNOTATION_NAME = "com.github.vladislavsevruk.resolver.precomputed.PrecomputedRepresentations";
+    static final String NATIVE_IMAGE_DIRECTORY
+            = "META-INF/native-image/com.github.vladislavsevruk/precomputed-representations/";
+    static final String NATIVE_IMAGE_OPTION = "resolver.nativeImage";
+    static final String TABLE_CLASS_SUFFIX = "_StringRepresentations";
+    private static final String CONSTRUCTOR_NAME = "<init>";
+    private static final String CONSTRUCTOR_RETURN_TYPE = "void";
+    private static final Pattern ENTRY_NAME_PATTERN = Pattern.compile("\"name\": \"([^\"]+)\",");
+    private static final String INITIALIZE_AT_BUILD_TIME_ARGS = "Args = --initialize-at-build-time=";
+    private static final String NATIVE_IMAGE_PROPERTIES_FILE = NATIVE_IMAGE_DIRECTORY + "native-image.properties";
+    private static final String REFLECT_CONFIG_FILE = NATIVE_IMAGE_DIRECTORY + "reflect-config.json";
+    private static final String TABLE_CLASS_NAME
+            = "com.github.vladislavsevruk.resolver.precomputed.PrecomputedRepresentationTable";
+    private static final String SERVICE_FILE = "META-INF/services/" + TABLE_CLASS_NAME;
+    private final Set<String> generatedTables = new LinkedHashSet<>();
+    private final Set<String> reflectedTypes = new LinkedHashSet<>();
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        if (roundEnv.processingOver()) {
+            writeServiceFile();
+            if (Boolean.parseBoolean(processingEnv.getOptions().get(NATIVE_IMAGE_OPTION))) {
+                writeNativeImageConfiguration();
+            }
+            return false;
+        }
+        for (TypeElement annotation : annotations) {
+            for (TypeElement typeElement : ElementFilter.typesIn(roundEnv.getElementsAnnotatedWith(annotation))) {
+                if (isAccessible(typeElement)) {
+                    generateTable(typeElement);
+                }
+            }
+        }
+        return true;
+    }
+
+    private void addInterfaces(Set<TypeElement> typeElements, TypeElement typeElement) {
+        for (TypeMirror interfaceType : typeElement.getInterfaces()) {
+            TypeElement interfaceElement = asTypeElement(interfaceType);
+            if (typeElements.add(interfaceElement)) {
+                addInterfaces(typeElements, interfaceElement);
+            }
+        }
+    }
+
+    private void appendExecutableRow(StringBuilder code, String descriptor, String returnType,
+            List<String> parameterTypes, List<String> exceptionTypes) {
+        code.append("            { { ").append(literal(descriptor)).append(", ").append(literal(returnType))
+                .append(" }, ");
+        appendStringArray(code, parameterTypes);
+        code.append(", ");
+        appendStringArray(code, exceptionTypes);
+        code.append(" },\n");
+    }
+
+    private void appendStringArray(StringBuilder code, List<String> values) {
+        code.append("{ ");
+        for (int i = 0; i < values.size(); ++i) {
+            if (i != 0) {
+                code.append(", ");
+            }
+            code.append(literal(values.get(i)));
+        }
+        code.append(values.isEmpty() ? "}" : " }");
+    }
+
+    private TypeElement asTypeElement(TypeMirror typeMirror) {
+        return (TypeElement) processingEnv.getTypeUtils().asElement(typeMirror);
+    }
+
+    private String binaryName(TypeElement typeElement) {
+        return processingEnv.getElementUtils().getBinaryName(typeElement).toString();
+    }
+
+    private List<TypeElement> collectClasses(TypeElement typeElement) {
+        List<TypeElement> classes = new ArrayList<>();
+        for (TypeElement current = typeElement; current != null && !isObject(current);
+                current = superclassOf(current)) {
+            classes.add(current);
+        }
+        return classes;
+    }
+
+    private void collectRows(TypeElement typeElement, boolean shortNames, StringBuilder fieldRows,
+            StringBuilder executableRows) {
+        Types types = processingEnv.getTypeUtils();
+        DeclaredType declaredType = (DeclaredType) typeElement.asType();
+        for (TypeElement declaringType : collectClasses(typeElement)) {
+            for (VariableElement field : ElementFilter.fieldsIn(declaringType.getEnclosedElements())) {
+                String representation = render(types.asMemberOf(declaredType, field), shortNames);
+                if (representation != null) {
+                    fieldRows.append("            ").append(literal(binaryName(declaringType) + "." + field
+                            .getSimpleName())).append(", ").append(literal(representation)).append(",\n");
+                }
+            }
+        }
+        if (hasResolvableConstructors(typeElement)) {
+            for (ExecutableElement constructor : ElementFilter
+                    .constructorsIn(typeElement.getEnclosedElements())) {
+                ExecutableType executableType = (ExecutableType) types.asMemberOf(declaredType, constructor);
+                List<String> parameterTypes = renderAll(executableType.getParameterTypes(), shortNames);
+                List<String> exceptionTypes = renderAll(executableType.getThrownTypes(), shortNames);
+                if (parameterTypes != null && exceptionTypes != null) {
+                    appendExecutableRow(executableRows, descriptor(typeElement, constructor),
+                            CONSTRUCTOR_RETURN_TYPE, parameterTypes, exceptionTypes);
+                }
+            }
+        }
+        Set<TypeElement> methodDeclaringTypes = new LinkedHashSet<>(collectClasses(typeElement));
+        for (TypeElement declaringType : new ArrayList<>(methodDeclaringTypes)) {
+            addInterfaces(methodDeclaringTypes, declaringType);
+        }
+        for (TypeElement declaringType : methodDeclaringTypes) {
+            reflectedTypes.add(binaryName(declaringType));
+            for (ExecutableElement method : ElementFilter.methodsIn(declaringType.getEnclosedElements())) {
+                ExecutableType executableType = (ExecutableType) types.asMemberOf(declaredType, method);
+                String returnType = render(executableType.getReturnType(), shortNames);
+                List<String> parameterTypes = renderAll(executableType.getParameterTypes(), shortNames);
+                List<String> exceptionTypes = renderAll(executableType.getThrownTypes(), shortNames);
+                if (returnType != null && parameterTypes != null && exceptionTypes != null) {
+                    appendExecutableRow(executableRows, descriptor(declaringType, method), returnType,
+                            parameterTypes, exceptionTypes);
+                }
+            }
+        }
+    }
+
+    private String descriptor(TypeElement declaringType, ExecutableElement executable) {
+        StringBuilder descriptor = new StringBuilder(binaryName(declaringType)).append('.')
+                .append(executable.getKind() == ElementKind.CONSTRUCTOR ? CONSTRUCTOR_NAME
+                        : executable.getSimpleName().toString()).append('(');
+        List<? extends VariableElement> parameters = executable.getParameters();
+        for (int i = 0; i < parameters.size(); ++i) {
+            if (i != 0) {
+                descriptor.append(',');
+            }
+            descriptor.append(erasedTypeName(processingEnv.getTypeUtils().erasure(parameters.get(i).asType())));
+        }
+        return descriptor.append(')').toString();
+    }
+
+    private String erasedTypeName(TypeMirror typeMirror) {
+        if (typeMirror.getKind().isPrimitive()) {
+            return typeMirror.getKind().name().toLowerCase(Locale.ROOT);
+        }
+        if (typeMirror.getKind() == TypeKind.ARRAY) {
+            return erasedTypeName(((ArrayType) typeMirror).getComponentType()) + "[]";
+        }
+        return binaryName(asTypeElement(typeMirror));
+    }
+
+    private void generateTable(TypeElement typeElement) {
+        StringBuilder fieldRows = new StringBuilder();
+        StringBuilder executableRows = new StringBuilder();
+        collectRows(typeElement, false, fieldRows, executableRows);
+        StringBuilder shortNameFieldRows = new StringBuilder();
+        StringBuilder shortNameExecutableRows = new StringBuilder();
+        collectRows(typeElement, true, shortNameFieldRows, shortNameExecutableRows);
+        writeTableClass(typeElement, fieldRows, executableRows, shortNameFieldRows, shortNameExecutableRows);
+    }
+
+    private boolean hasResolvableConstructors(TypeElement typeElement) {
+        // constructors of inner classes and enums receive implicit parameters
+        return typeElement.getKind() != ElementKind.ENUM && (typeElement.getNestingKind() == NestingKind.TOP_LEVEL
+                || typeElement.getModifiers().contains(Modifier.STATIC));
+    }
+
+    private boolean isAccessible(TypeElement typeElement) {
+        for (Element element = typeElement; element.getKind() != ElementKind.PACKAGE;
+                element = element.getEnclosingElement()) {
+            if (element.getModifiers().contains(Modifier.PRIVATE)) {
+                processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                        "Representations cannot be precomputed for private types.", typeElement);
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean isObject(TypeElement typeElement) {
+        return typeElement.getQualifiedName().contentEquals(Object.class.getName());
+    }
+
+    private String literal(String value) {
+        return processingEnv.getElementUtils().getConstantExpression(value);
+    }
+
+    private String name(TypeElement typeElement, boolean shortNames) {
+        return shortNames ? typeElement.getSimpleName().toString() : binaryName(typeElement);
+    }
+
+    private List<String> readResource(String path) {
+        try {
+            FileObject existingFile = processingEnv.getFiler().getResource(StandardLocation.CLASS_OUTPUT, "", path);
+            List<String> lines = new ArrayList<>();
+            try (BufferedReader reader = new BufferedReader(
+                    new InputStreamReader(existingFile.openInputStream(), StandardCharsets.UTF_8))) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    if (!line.trim().isEmpty()) {
+                        lines.add(line.trim());
+                    }
+                }
+            }
+            return lines;
+        } catch (IOException ioEx) {
+            // there is no such resource from previous compilations
+            return Collections.emptyList();
+        }
+    }
+
+    private String render(TypeMirror typeMirror, boolean shortNames) {
+        switch (typeMirror.getKind()) {
+        case ARRAY:
+            String componentRepresentation = render(((ArrayType) typeMirror).getComponentType(), shortNames);
+            return componentRepresentation == null ? null : componentRepresentation + "[]";
+        case DECLARED:
+            return renderDeclaredType((DeclaredType) typeMirror, shortNames);
+        case TYPEVAR:
+            return ((TypeVariable) typeMirror).asElement().getSimpleName().toString();
+        case VOID:
+            return "void";
+        case WILDCARD:
+            return renderWildcardType((WildcardType) typeMirror, shortNames);
+        default:
+            return typeMirror.getKind().isPrimitive() ? typeMirror.getKind().name().toLowerCase(Locale.ROOT) : null;
+        }
+    }
+
+    private List<String> renderAll(List<? extends TypeMirror> typeMirrors, boolean shortNames) {
+        List<String> representations = new ArrayList<>(typeMirrors.size());
+        for (TypeMirror typeMirror : typeMirrors) {
+            String representation = render(typeMirror, shortNames);
+            if (representation == null) {
+                return null;
+            }
+            representations.add(representation);
+        }
+        return representations;
+    }
+
+    private String renderDeclaredType(DeclaredType declaredType, boolean shortNames) {
+        TypeElement typeElement = (TypeElement) declaredType.asElement();
+        List<? extends TypeMirror> typeArguments = declaredType.getTypeArguments();
+        TypeMirror enclosingType = declaredType.getEnclosingType();
+        if (typeArguments.size() != typeElement.getTypeParameters().size()
+                || enclosingType.getKind() == TypeKind.DECLARED
+                && !((DeclaredType) enclosingType).getTypeArguments().isEmpty()) {
+            // raw usage of generic type or type nested into parameterized type
+            return null;
+        }
+        if (typeArguments.isEmpty()) {
+            return name(typeElement, shortNames);
+        }
+        List<String> argumentRepresentations = renderAll(typeArguments, shortNames);
+        if (argumentRepresentations == null) {
+            return null;
+        }
+        return name(typeElement, shortNames) + "<" + String.join(", ", argumentRepresentations) + ">";
+    }
+
+    private String renderWildcardType(WildcardType wildcardType, boolean shortNames) {
+        if (wildcardType.getExtendsBound() != null) {
+            String boundRepresentation = render(wildcardType.getExtendsBound(), shortNames);
+            return boundRepresentation == null ? null : "? extends " + boundRepresentation;
+        }
+        if (wildcardType.getSuperBound() != null) {
+            String boundRepresentation = render(wildcardType.getSuperBound(), shortNames);
+            return boundRepresentation == null ? null : "? super " + boundRepresentation;
+        }
+        // representation of unbounded wildcard is resolved on runtime
+        return null;
+    }
+
+    private TypeElement superclassOf(TypeElement typeElement) {
+        TypeMirror superclass = typeElement.getSuperclass();
+        return superclass.getKind() == TypeKind.DECLARED ? asTypeElement(superclass) : null;
+    }
+
+    private void writeNativeImageConfiguration() {
+        if (generatedTables.isEmpty()) {
+            return;
+        }
+        // merge configuration of tables generated by previous incremental compilations
+        Set<String> tables = new LinkedHashSet<>();
+        for (String line : readResource(NATIVE_IMAGE_PROPERTIES_FILE)) {
+            if (line.startsWith(INITIALIZE_AT_BUILD_TIME_ARGS)) {
+                tables.addAll(Arrays.asList(line.substring(INITIALIZE_AT_BUILD_TIME_ARGS.length()).split(",")));
+            }
+        }
+        tables.addAll(generatedTables);
+        Set<String> types = new LinkedHashSet<>();
+        for (String line : readResource(REFLECT_CONFIG_FILE)) {
+            Matcher entryNameMatcher = ENTRY_NAME_PATTERN.matcher(line);
+            if (entryNameMatcher.matches() && !tables.contains(entryNameMatcher.group(1))) {
+                types.add(entryNameMatcher.group(1));
+            }
+        }
+        types.addAll(reflectedTypes);
+        List<String> entries = new ArrayList<>();
+        for (String type : types) {
+            entries.add(String.format("  {\n    \"name\": \"%s\",\n    \"allDeclaredFields\": true,\n"
+                    + "    \"allDeclaredMethods\": true,\n    \"allDeclaredConstructors\": true\n  }", type));
+        }
+        for (String table : tables) {
+            entries.add(String.format("  {\n    \"name\": \"%s\",\n"
+                    + "    \"methods\": [ { \"name\": \"<init>\", \"parameterTypes\": [] } ]\n  }", table));
+        }
+        writeResource(REFLECT_CONFIG_FILE, String.format("[\n%s\n]\n", String.join(",\n", entries)));
+        writeResource(NATIVE_IMAGE_PROPERTIES_FILE,
+                String.format("%s%s\n", INITIALIZE_AT_BUILD_TIME_ARGS, String.join(",", tables)));
+    }
+
+    private void writeResource(String path, String content) {
+        try {
+            FileObject resource = processingEnv.getFiler().createResource(StandardLocation.CLASS_OUTPUT, "", path);
+            try (Writer writer = new OutputStreamWriter(resource.openOutputStream(), StandardCharsets.UTF_8)) {
+                writer.write(content);
+            }
+        } catch (IOException ioEx) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                    "Failed to write '" + path + "': " + ioEx.getMessage());
+        }
+    }
+
+    private void writeServiceFile() {
+        if (generatedTables.isEmpty()) {
+            return;
+        }
+        Set<String> services = new LinkedHashSet<>(readResource(SERVICE_FILE));
+        services.addAll(generatedTables);
+        StringBuilder content = new StringBuilder();
+        services.forEach(service -> content.append(service).append('\n'));
+        writeResource(SERVICE_FILE, content.toString());
+    }
+
+    private void writeTableClass(TypeElement typeElement, CharSequence fieldRows, CharSequence executableRows,
+            CharSequence shortNameFieldRows, CharSequence shortNameExecutableRows) {
+        PackageElement packageElement = processingEnv.getElementUtils().getPackageOf(typeElement);
+        String packageName = packageElement.isUnnamed() ? "" : packageElement.getQualifiedName().toString();
+        String binaryName = binaryName(typeElement);
+        String tableSimpleName = (packageName.isEmpty() ? binaryName : binaryName.substring(packageName.length() + 1))
+                .replace('$', '_') + TABLE_CLASS_SUFFIX;
+        StringBuilder code = new StringBuilder();
+        if (!packageName.isEmpty()) {
+            code.append("package ").append(packageName).append(";\n\n");
+        }
+        code.append("/**\n * Precomputed string representations of <code>").append(typeElement.getQualifiedName())
+                .append("</code>.\n * Generated by ").append(getClass().getName()).append(".\n */\n")
+                .append("public final class ").append(tableSimpleName).append(" extends ").append(TABLE_CLASS_NAME)
+                .append(" {\n\n")
+                .append("    private static final String[] FIELD_TABLE = {\n").append(fieldRows).append("    };\n")
+                .append("    private static final String[][][] EXECUTABLE_TABLE = {\n").append(executableRows)
+                .append("    };\n")
+                .append("    private static final String[] SHORT_NAME_FIELD_TABLE = {\n").append(shortNameFieldRows)
+                .append("    };\n")
+                .append("    private static final String[][][] SHORT_NAME_EXECUTABLE_TABLE = {\n")
+                .append(shortNameExecutableRows).append("    };\n\n")
+                .append("    public ").append(tableSimpleName).append("() {\n")
+                .append("        super(").append(typeElement.getQualifiedName())
+                .append(".class, FIELD_TABLE, EXECUTABLE_TABLE,\n")
+                .append("                SHORT_NAME_FIELD_TABLE, SHORT_NAME_EXECUTABLE_TABLE);\n")
+                .append("    }\n}\n");
+        String tableName = packageName.isEmpty() ? tableSimpleName : packageName + "." + tableSimpleName;
+        try {
+            JavaFileObject sourceFile = processingEnv.getFiler().createSourceFile(tableName, typeElement);
+            try (Writer writer = sourceFile.openWriter()) {
+                writer.write(code.toString());
+            }
+            generatedTables.add(tableName);
+        } catch (IOException ioEx) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                    "Failed to generate precomputed representation table: " + ioEx.getMessage(), typeElement);
+        }
+    }
+}
@@ -0,0 +1,242 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Uladzislau Seuruk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.vladislavsevruk.resolver.processor;
+
+import com.github.vladislavsevruk.resolver.precomputed.PrecomputedRepresentationTable;
+import com.github.vladislavsevruk.resolver.resolver.executable.ExecutableSignature;
+import com.github.vladislavsevruk.resolver.util.ClassNameStyle;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.ToolProvider;
+import java.io.IOException;
+import java.net.URI;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.ServiceLoader;
+
+class PrecomputedRepresentationProcessorTest {
+
+    private static final String MODEL_SOURCE = String.join("\n",
+            "package test.model;",
+            "",
+            "import com.github.vladislavsevruk.resolver.precomputed.PrecomputedRepresentations;",
+            "import java.util.List;",
+            "import java.util.Map;",
+            "",
+            "@PrecomputedRepresentations",
+            "public class Model<T> extends Parent<List<T>> {",
+            "    private Map<String, ? super T[]> mapField;",
+            "    private List rawField;",
+            "    public Model(int value) throws java.io.IOException {}",
+            "    public <V> V[] toArray(List<? extends V> values) { return null; }",
+            "    public static class Nested {",
+            "        private Nested inner;",
+            "    }",
+            "}",
+            "",
+            "class Parent<P> {",
+            "    P parentField;",
+            "}");
+    private static final String NESTED_MODEL_SOURCE = String.join("\n",
+            "package test.model;",
+            "",
+            "@com.github.vladislavsevruk.resolver.precomputed.PrecomputedRepresentations",
+            "public class Outer {",
+            "    @com.github.vladislavsevruk.resolver.precomputed.PrecomputedRepresentations",
+            "    public static class Inner {",
+            "        private Inner[] selfArray;",
+            "    }",
+            "}");
+    private static final String PRIVATE_MODEL_SOURCE = String.join("\n",
+            "package test.model;",
+            "",
+            "public class PrivateOuter {",
+            "    @com.github.vladislavsevruk.resolver.precomputed.PrecomputedRepresentations",
+            "    private static class Hidden {}",
+            "}");
+    @TempDir
+    Path outputDirectory;
+
+    @Test
+    void fieldsOfTypeAndSuperclassArePrecomputedTest() throws Exception {
+        PrecomputedRepresentationTable table = compileAndLoadTable("test.model.Model", MODEL_SOURCE);
+        Assertions.assertEquals("java.util.Map<java.lang.String, ? super T[]>",
+                table.getFieldRepresentation(ClassNameStyle.FULL_NAME, "test.model.Model.mapField"));
+        Assertions.assertEquals("java.util.List<T>",
+                table.getFieldRepresentation(ClassNameStyle.FULL_NAME, "test.model.Parent.parentField"));
+    }
+
+    @Test
+    void executableSignaturesArePrecomputedTest() throws Exception {
+        PrecomputedRepresentationTable table = compileAndLoadTable("test.model.Model", MODEL_SOURCE);
+        Assertions.assertEquals(new ExecutableSignature("void", Collections.singletonList("int"),
+                        Collections.singletonList("java.io.IOException")),
+                table.getExecutableSignature(ClassNameStyle.FULL_NAME, "test.model.Model.<init>(int)"));
+        Assertions.assertEquals(new ExecutableSignature("V[]",
+                        Collections.singletonList("java.util.List<? extends V>"), Collections.emptyList()),
+                table.getExecutableSignature(ClassNameStyle.FULL_NAME, "test.model.Model.toArray(java.util.List)"));
+    }
+
+    @Test
+    void nativeImageConfigurationIsGeneratedTest() throws IOException {
+        DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+        Assertions.assertTrue(compile(diagnostics, "Model", MODEL_SOURCE,
+                "-A" + PrecomputedRepresentationProcessor.NATIVE_IMAGE_OPTION + "=true"),
+                diagnostics.getDiagnostics().toString());
+        Path nativeImageDirectory = outputDirectory.resolve(PrecomputedRepresentationProcessor.NATIVE_IMAGE_DIRECTORY);
+        String reflectConfig = new String(Files.readAllBytes(nativeImageDirectory.resolve("reflect-config.json")),
+                StandardCharsets.UTF_8);
+        Assertions.assertTrue(reflectConfig.contains("\"name\": \"test.model.Model\""));
+        Assertions.assertTrue(reflectConfig.contains("\"name\": \"test.model.Parent\""));
+        Assertions.assertTrue(reflectConfig.contains("\"name\": \"test.model.Model_StringRepresentations\""));
+        String properties = new String(Files.readAllBytes(nativeImageDirectory.resolve("native-image.properties")),
+                StandardCharsets.UTF_8);
+        Assertions.assertEquals("Args = --initialize-at-build-time=test.model.Model_StringRepresentations\n",
+                properties);
+    }
+
+    @Test
+    void nativeImageConfigurationIsMergedWithPreviousCompilationTest() throws IOException {
+        String nativeImageOption = "-A" + PrecomputedRepresentationProcessor.NATIVE_IMAGE_OPTION + "=true";
+        DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+        Assertions.assertTrue(compile(diagnostics, "Model", MODEL_SOURCE, nativeImageOption),
+                diagnostics.getDiagnostics().toString());
+        Assertions.assertTrue(compile(diagnostics, "Outer", NESTED_MODEL_SOURCE, nativeImageOption),
+                diagnostics.getDiagnostics().toString());
+        Path nativeImageDirectory = outputDirectory.resolve(PrecomputedRepresentationProcessor.NATIVE_IMAGE_DIRECTORY);
+        String reflectConfig = new String(Files.readAllBytes(nativeImageDirectory.resolve("reflect-config.json")),
+                StandardCharsets.UTF_8);
+        Assertions.assertTrue(reflectConfig.contains("\"name\": \"test.model.Model\""));
+        Assertions.assertTrue(reflectConfig.contains("\"name\": \"test.model.Outer$Inner\""));
+        Assertions.assertTrue(reflectConfig.contains("\"name\": \"test.model.Model_StringRepresentations\""));
+        Assertions.assertTrue(reflectConfig.contains("\"name\": \"test.model.Outer_Inner_StringRepresentations\""));
+        Assertions.assertFalse(reflectConfig.contains("\"name\": \"<init>\",\n    \"allDeclaredFields\""));
+        String properties = new String(Files.readAllBytes(nativeImageDirectory.resolve("native-image.properties")),
+                StandardCharsets.UTF_8);
+        Assertions.assertEquals("Args = --initialize-at-build-time=test.model.Model_StringRepresentations,"
+                + "test.model.Outer_StringRepresentations,test.model.Outer_Inner_StringRepresentations\n", properties);
+    }
+
+    @Test
+    void nativeImageConfigurationIsNotGeneratedByDefaultTest() throws IOException {
+        DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+        Assertions.assertTrue(compile(diagnostics, "Model", MODEL_SOURCE), diagnostics.getDiagnostics().toString());
+        Assertions.assertFalse(Files.exists(outputDirectory.resolve(
+                PrecomputedRepresentationProcessor.NATIVE_IMAGE_DIRECTORY)));
+    }
+
+    @Test
+    void nestedTypesAreNamedByBinaryNameTest() throws Exception {
+        PrecomputedRepresentationTable table = compileAndLoadTable("test.model.Outer$Inner", NESTED_MODEL_SOURCE);
+        Assertions.assertEquals("test.model.Outer$Inner[]",
+                table.getFieldRepresentation(ClassNameStyle.FULL_NAME, "test.model.Outer$Inner.selfArray"));
+    }
+
+    @Test
+    void privateTypeIsRejectedTest() throws IOException {
+        DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+        Assertions.assertFalse(compile(diagnostics, "PrivateOuter", PRIVATE_MODEL_SOURCE));
+        Assertions.assertTrue(diagnostics.getDiagnostics().stream().anyMatch(
+                diagnostic -> diagnostic.getKind() == Diagnostic.Kind.ERROR && diagnostic.getMessage(null)
+                        .contains("private")));
+    }
+
+    @Test
+    void rawTypeUsageIsSkippedTest() throws Exception {
+        PrecomputedRepresentationTable table = compileAndLoadTable("test.model.Model", MODEL_SOURCE);
+        Assertions.assertNull(table.getFieldRepresentation(ClassNameStyle.FULL_NAME, "test.model.Model.rawField"));
+    }
+
+    @Test
+    void shortNameRepresentationsArePrecomputedTest() throws Exception {
+        PrecomputedRepresentationTable table = compileAndLoadTable("test.model.Model", MODEL_SOURCE);
+        Assertions.assertEquals("Map<String, ? super T[]>",
+                table.getFieldRepresentation(ClassNameStyle.SHORT_NAME, "test.model.Model.mapField"));
+        Assertions.assertEquals(new ExecutableSignature("void", Collections.singletonList("int"),
+                        Collections.singletonList("IOException")),
+                table.getExecutableSignature(ClassNameStyle.SHORT_NAME, "test.model.Model.<init>(int)"));
+        Assertions.assertEquals(new ExecutableSignature("V[]", Collections.singletonList("List<? extends V>"),
+                        Collections.emptyList()),
+                table.getExecutableSignature(ClassNameStyle.SHORT_NAME, "test.model.Model.toArray(java.util.List)"));
+    }
+
+    @Test
+    void shortNamesOfNestedTypesAreSimpleNamesTest() throws Exception {
+        PrecomputedRepresentationTable table = compileAndLoadTable("test.model.Outer$Inner", NESTED_MODEL_SOURCE);
+        Assertions.assertEquals("Inner[]",
+                table.getFieldRepresentation(ClassNameStyle.SHORT_NAME, "test.model.Outer$Inner.selfArray"));
+    }
+
+    private boolean compile(DiagnosticCollector<JavaFileObject> diagnostics, String fileName, String source,
+            String... processorOptions) throws IOException {
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        List<String> options = new ArrayList<>(Arrays.asList("-d", outputDirectory.toString(), "-classpath",
+                System.getProperty("java.class.path"), "-Xlint:none"));
+        options.addAll(Arrays.asList(processorOptions));
+        JavaFileObject sourceFile = new SimpleJavaFileObject(URI.create("string:///test/model/" + fileName + ".java"),
+                JavaFileObject.Kind.SOURCE) {
+            @Override
+            public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+                return source;
+            }
+        };
+        JavaCompiler.CompilationTask task = compiler.getTask(null, null, diagnostics, options, null,
+                Collections.singletonList(sourceFile));
+        task.setProcessors(Collections.singletonList(new PrecomputedRepresentationProcessor()));
+        return task.call();
+    }
+
+    private PrecomputedRepresentationTable compileAndLoadTable(String typeName, String source) throws Exception {
+        String fileName = typeName.substring(typeName.lastIndexOf('.') + 1).split("\\$")[0];
+        DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+        Assertions.assertTrue(compile(diagnostics, fileName, source), diagnostics.getDiagnostics().toString());
+        Path serviceFile = outputDirectory.resolve("META-INF/services/" + PrecomputedRepresentationTable.class
+                .getName());
+        Assertions.assertTrue(new String(Files.readAllBytes(serviceFile), StandardCharsets.UTF_8)
+                .contains(typeName.replace('$', '_') + PrecomputedRepresentationProcessor.TABLE_CLASS_SUFFIX));
+        URLClassLoader classLoader = new URLClassLoader(new URL[]{ outputDirectory.toUri().toURL() },
+                getClass().getClassLoader());
+        for (PrecomputedRepresentationTable table : ServiceLoader
+                .load(PrecomputedRepresentationTable.class, classLoader)) {
+            if (table.getType().getName().equals(typeName)) {
+                return table;
+            }
+        }
+        return Assertions.fail("Table for " + typeName + " was not generated");
+    }
+}
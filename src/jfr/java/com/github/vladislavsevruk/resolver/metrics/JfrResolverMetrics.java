@@ -0,0 +1,75 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Uladzislau Seuruk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.vladislavsevruk.resolver.metrics;
+
+import jdk.jfr.EventType;
+
+import java.lang.reflect.Type;
+
+/**
+ * Implementation of <code>ResolverMetrics</code> that emits Java Flight Recorder event for every resolution with name
+ * of resolved type, class of resolver, depth of nested resolution and duration. Resolvers skip measurement completely
+ * while event isn't enabled at any running recording, so cost is limited to single check when flight recorder is off.
+ * Requires JVM 11 or newer that contains <code>jdk.jfr</code> module, so class is compiled separately from classes
+ * that target Java 8.
+ *
+ * @see ResolverMetrics
+ */
+public final class JfrResolverMetrics implements ResolverMetrics {
+
+    private static final ThreadLocal<int[]> DEPTH = ThreadLocal.withInitial(() -> new int[1]);
+    private static final EventType EVENT_TYPE = EventType.getEventType(TypeResolutionEvent.class);
+
+    @Override
+    public boolean isEnabled() {
+        return EVENT_TYPE.isEnabled();
+    }
+
+    @Override
+    public void recordCacheAccess(Class<?> cacheOwner, boolean hit) {
+        // cache accesses are not recorded as events
+    }
+
+    @Override
+    public void recordContextRefresh() {
+        // context refreshes are not recorded as events
+    }
+
+    @Override
+    public ResolutionSample startResolution(Class<?> resolverClass, Type type) {
+        int[] depth = DEPTH.get();
+        TypeResolutionEvent event = new TypeResolutionEvent();
+        event.depth = depth[0]++;
+        event.begin();
+        return () -> {
+            event.end();
+            depth[0]--;
+            if (event.shouldCommit()) {
+                event.resolverClass = resolverClass;
+                event.typeName = type == null ? null : type.getTypeName();
+                event.commit();
+            }
+        };
+    }
+}
@@ -0,0 +1,76 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Uladzislau Seuruk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.vladislavsevruk.resolver.metrics;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+
+class JfrResolverMetricsTest {
+
+    @TempDir
+    Path temporaryDirectory;
+
+    @Test
+    void eventIsNotEnabledWithoutRecordingTest() {
+        Assertions.assertFalse(new JfrResolverMetrics().isEnabled());
+    }
+
+    @Test
+    void nestedResolutionsAreRecordedAsEventsTest() throws IOException {
+        JfrResolverMetrics metrics = new JfrResolverMetrics();
+        Path recordingFile = temporaryDirectory.resolve("recording.jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(TypeResolutionEvent.NAME).withoutThreshold();
+            recording.start();
+            Assertions.assertTrue(metrics.isEnabled());
+            ResolutionSample outerSample = metrics.startResolution(String.class, List.class);
+            metrics.startResolution(Integer.class, Long.class).stop();
+            outerSample.stop();
+            recording.stop();
+            recording.dump(recordingFile);
+        }
+        List<RecordedEvent> events = RecordingFile.readAllEvents(recordingFile).stream()
+                .filter(event -> TypeResolutionEvent.NAME.equals(event.getEventType().getName()))
+                .collect(Collectors.toList());
+        Assertions.assertEquals(2, events.size());
+        RecordedEvent innerEvent = events.stream().filter(event -> event.getInt("depth") == 1).findAny()
+                .orElseThrow(AssertionError::new);
+        Assertions.assertEquals(Long.class.getTypeName(), innerEvent.getString("typeName"));
+        Assertions.assertEquals(Integer.class.getName(), innerEvent.getClass("resolverClass").getName());
+        RecordedEvent outerEvent = events.stream().filter(event -> event.getInt("depth") == 0).findAny()
+                .orElseThrow(AssertionError::new);
+        Assertions.assertEquals(List.class.getTypeName(), outerEvent.getString("typeName"));
+        Assertions.assertEquals(String.class.getName(), outerEvent.getClass("resolverClass").getName());
+        Assertions.assertFalse(outerEvent.getDuration().isNegative());
+    }
+}
@@ -0,0 +1,79 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Uladzislau Seuruk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.vladislavsevruk.resolver.resolver.executable;
+
+import com.github.vladislavsevruk.resolver.test.context.BenchmarkContext;
+import com.github.vladislavsevruk.resolver.test.data.TestModel;
+import com.github.vladislavsevruk.resolver.type.TypeMeta;
+import com.github.vladislavsevruk.resolver.type.TypeProvider;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Measures return, parameter and exception types resolving for different method shapes of <code>TestModel</code>.
+ */
+@State(Scope.Benchmark)
+public class ExecutableStringRepresentationResolverBenchmark {
+
+    @Param({ "FULL_NAME", "SHORT_NAME" })
+    private BenchmarkContext context;
+    private Method method;
+    @Param({ "getSimpleReturnType", "getPrimitiveArrayReturnType", "getGenericReturnType",
+             "getParameterizedArrayReturnType", "getParameterizedReturnTypeSeveralInnerParameterTypes",
+             "getSeveralParameterizedParameterTypeSeveralInnerParameterTypes",
+             "getSingleLowerWildcardArrayParameterType", "getExceptionType" })
+    private String methodName;
+    private ExecutableStringRepresentationResolver resolver;
+    private TypeMeta<?> typeMeta;
+
+    @Benchmark
+    public List<String> getExceptionTypes() {
+        return resolver.getExceptionTypes(typeMeta, method);
+    }
+
+    @Benchmark
+    public List<String> getParameterTypes() {
+        return resolver.getParameterTypes(typeMeta, method);
+    }
+
+    @Benchmark
+    public String getReturnType() {
+        return resolver.getReturnType(typeMeta, method);
+    }
+
+    @Setup
+    public void setUp() {
+        resolver = new ExecutableStringRepresentationResolver(context.create());
+        method = Arrays.stream(TestModel.class.getDeclaredMethods()).filter(m -> m.getName().equals(methodName))
+                .findAny().orElseThrow(() -> new IllegalArgumentException("Unknown method: " + methodName));
+        typeMeta = new TypeProvider<TestModel<Long, Short>>() {}.getTypeMeta();
+    }
+}
@@ -0,0 +1,70 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Uladzislau Seuruk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.vladislavsevruk.resolver.resolver.field;
+
+import com.github.vladislavsevruk.resolver.test.context.BenchmarkContext;
+import com.github.vladislavsevruk.resolver.test.data.TestModel;
+import com.github.vladislavsevruk.resolver.type.TypeMeta;
+import com.github.vladislavsevruk.resolver.type.TypeProvider;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.lang.reflect.Field;
+
+/**
+ * Measures field resolving for different field shapes of <code>TestModel</code>.
+ */
+@State(Scope.Benchmark)
+public class FieldStringRepresentationResolverBenchmark {
+
+    @Param({ "FULL_NAME", "SHORT_NAME" })
+    private BenchmarkContext context;
+    private Field field;
+    @Param({ "simpleField", "primitiveField", "doubledArrayField", "genericField", "parameterizedArrayField",
+             "parameterizedFieldSingleParameter", "parameterizedFieldSeveralInnerParameters", "lowerWildcardField",
+             "upperWildcardField" })
+    private String fieldName;
+    private FieldStringRepresentationResolver resolver;
+    private TypeMeta<?> typeMeta;
+
+    @Benchmark
+    public String resolveField() {
+        return resolver.resolveField(typeMeta, field);
+    }
+
+    @Benchmark
+    public String resolveFieldWithoutTypeParameters() {
+        return resolver.resolveField(TestModel.class, field);
+    }
+
+    @Setup
+    public void setUp() throws NoSuchFieldException {
+        resolver = new FieldStringRepresentationResolver(context.create());
+        field = TestModel.class.getDeclaredField(fieldName);
+        typeMeta = new TypeProvider<TestModel<Long, Short>>() {}.getTypeMeta();
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Uladzislau Seuruk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.vladislavsevruk.resolver.resolver.storage;
+
+import com.github.vladislavsevruk.resolver.context.ResolvingContext;
+import com.github.vladislavsevruk.resolver.resolver.annotated.AnnotatedTypeResolver;
+import com.github.vladislavsevruk.resolver.test.context.BenchmarkContext;
+import com.github.vladislavsevruk.resolver.test.data.TestModel;
+import com.github.vladislavsevruk.resolver.type.TypeProvider;
+import com.github.vladislavsevruk.resolver.type.TypeVariableMap;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.lang.reflect.AnnotatedType;
+
+/**
+ * Measures every <code>AnnotatedTypeResolver</code> registered at <code>FullNameResolverStorage</code> and
+ * <code>ShortNameRepresentationResolverStorage</code> using annotated field types of <code>TestModel</code>.
+ */
+@State(Scope.Benchmark)
+public class AnnotatedTypeResolverBenchmark {
+
+    private AnnotatedType annotatedType;
+    private AnnotatedTypeResolver<String> annotatedTypeResolver;
+    @Param({ "ARRAY", "PARAMETERIZED", "SIMPLE" })
+    private AnnotatedTypeShape annotatedTypeShape;
+    @Param({ "FULL_NAME", "SHORT_NAME" })
+    private BenchmarkContext context;
+    private TypeVariableMap<String> typeVariableMap;
+
+    @Benchmark
+    public String resolve() {
+        return annotatedTypeResolver.resolve(typeVariableMap, annotatedType);
+    }
+
+    @Setup
+    public void setUp() throws NoSuchFieldException {
+        ResolvingContext<String> resolvingContext = context.create();
+        annotatedType = TestModel.class.getDeclaredField(annotatedTypeShape.fieldName).getAnnotatedType();
+        annotatedTypeResolver = resolvingContext.getTypeResolverStorage().getAnnotatedTypeResolvers().stream()
+                .filter(resolver -> resolver.canResolve(annotatedType)).findFirst()
+                .orElseThrow(() -> new IllegalStateException("No resolver for " + annotatedTypeShape));
+        typeVariableMap = resolvingContext.getMappedVariableHierarchyStorage()
+                .get(new TypeProvider<TestModel<Long, Short>>() {}.getTypeMeta()).getTypeVariableMap(TestModel.class);
+    }
+
+    public enum AnnotatedTypeShape {
+        ARRAY("parameterizedArrayField"),
+        PARAMETERIZED("parameterizedFieldSeveralInnerParameters"),
+        SIMPLE("simpleField");
+
+        private final String fieldName;
+
+        AnnotatedTypeShape(String fieldName) {
+            this.fieldName = fieldName;
+        }
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Uladzislau Seuruk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.vladislavsevruk.resolver.resolver.tree;
+
+import com.github.vladislavsevruk.resolver.resolver.field.FieldStringRepresentationResolver;
+import com.github.vladislavsevruk.resolver.test.context.BenchmarkContext;
+import com.github.vladislavsevruk.resolver.test.data.TestModel;
+import com.github.vladislavsevruk.resolver.type.TypeMeta;
+import com.github.vladislavsevruk.resolver.type.TypeProvider;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.lang.reflect.Field;
+
+/**
+ * Compares resolving full and short name representations of field type by two separate resolvers with resolving it
+ * once by <code>DualNameStringRepresentationResolver</code>.
+ */
+@State(Scope.Benchmark)
+public class DualNameStringRepresentationResolverBenchmark {
+
+    private DualNameStringRepresentationResolver dualNameResolver;
+    private Field field;
+    @Param({ "simpleField", "doubledArrayField", "genericField", "parameterizedFieldSingleParameter",
+             "parameterizedFieldSeveralInnerParameters", "upperWildcardField" })
+    private String fieldName;
+    private FieldStringRepresentationResolver fullNameResolver;
+    private FieldStringRepresentationResolver shortNameResolver;
+    private TypeMeta<?> typeMeta;
+
+    @Benchmark
+    public DualNameRepresentation resolveDualName() {
+        return dualNameResolver.resolveField(typeMeta, field);
+    }
+
+    @Benchmark
+    public void resolveFullAndShortNames(Blackhole blackhole) {
+        blackhole.consume(fullNameResolver.resolveField(typeMeta, field));
+        blackhole.consume(shortNameResolver.resolveField(typeMeta, field));
+    }
+
+    @Setup
+    public void setUp() throws NoSuchFieldException {
+        dualNameResolver = new DualNameStringRepresentationResolver();
+        fullNameResolver = new FieldStringRepresentationResolver(BenchmarkContext.FULL_NAME.create());
+        shortNameResolver = new FieldStringRepresentationResolver(BenchmarkContext.SHORT_NAME.create());
+        field = TestModel.class.getDeclaredField(fieldName);
+        typeMeta = new TypeProvider<TestModel<Long, Short>>() {}.getTypeMeta();
+    }
+}
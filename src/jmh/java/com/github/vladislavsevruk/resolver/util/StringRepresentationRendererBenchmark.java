@@ -0,0 +1,72 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Uladzislau Seuruk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.vladislavsevruk.resolver.util;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Map;
+
+/**
+ * Compares rendering of nested parameterized types by <code>StringRepresentationRenderer</code> with format based
+ * rendering. Types are rendered bottom-up the same way resolvers do it, e.g. for depth 2:
+ * <code>java.util.Map&lt;java.lang.Integer, java.util.Map&lt;java.lang.Integer, java.lang.String&gt;&gt;</code>.
+ */
+@State(Scope.Benchmark)
+public class StringRepresentationRendererBenchmark {
+
+    private static final String KEY_TYPE = Integer.class.getName();
+    private static final String LEAF_TYPE = String.class.getName();
+    private static final String RAW_TYPE = Map.class.getName();
+    @Param({ "1", "4", "8" })
+    private int depth;
+
+    @Benchmark
+    public String formatRendering() {
+        return renderWithFormat(depth);
+    }
+
+    @Benchmark
+    public String rendererRendering() {
+        return renderWithRenderer(depth);
+    }
+
+    private String renderWithFormat(int level) {
+        if (level == 0) {
+            return LEAF_TYPE;
+        }
+        String[] arguments = { KEY_TYPE, renderWithFormat(level - 1) };
+        return String.format("%s<%s>", RAW_TYPE, String.join(", ", arguments));
+    }
+
+    private String renderWithRenderer(int level) {
+        if (level == 0) {
+            return LEAF_TYPE;
+        }
+        String[] arguments = { KEY_TYPE, renderWithRenderer(level - 1) };
+        return StringRepresentationRenderer.renderParameterizedType(RAW_TYPE, arguments);
+    }
+}
@@ -0,0 +1,152 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Uladzislau Seuruk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.vladislavsevruk.resolver.cache;
+
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+/**
+ * Thread-safe cache with bounded size. Reads are performed without locking, when maximum size is exceeded eldest
+ * entries are evicted in insertion order. Insertions and clearing share single lock so eviction queue always contains
+ * exactly keys of cached entries.
+ *
+ * @param <K> type of cache keys.
+ * @param <V> type of cached values.
+ */
+public final class BoundedConcurrentCache<K, V> {
+
+    private final ConcurrentMap<K, V> entries = new ConcurrentHashMap<>();
+    private final Queue<K> insertionOrder = new ArrayDeque<>();
+    private final int maximumSize;
+    private final Lock writeLock = new ReentrantLock();
+
+    /**
+     * Creates new instance with received maximum number of entries.
+     *
+     * @param maximumSize maximum number of entries to keep.
+     */
+    public BoundedConcurrentCache(int maximumSize) {
+        if (maximumSize <= 0) {
+            throw new IllegalArgumentException("Maximum cache size should be positive but was: " + maximumSize);
+        }
+        this.maximumSize = maximumSize;
+    }
+
+    /**
+     * Removes all entries from cache.
+     */
+    public void clear() {
+        writeLock.lock();
+        try {
+            // keys left at queue would evict entries with the same keys added after clearing
+            entries.clear();
+            insertionOrder.clear();
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Returns value for received key or computes it using received function if it's absent. Mapping function is
+     * called outside of any lock so it may use this cache recursively, <code>null</code> results are not cached.
+     *
+     * @param key             key to get value for.
+     * @param mappingFunction function to compute value if it's absent.
+     * @return cached or computed value.
+     */
+    public V computeIfAbsent(K key, Function<? super K, ? extends V> mappingFunction) {
+        V value = entries.get(key);
+        if (value != null) {
+            return value;
+        }
+        V computedValue = mappingFunction.apply(key);
+        if (computedValue == null) {
+            return null;
+        }
+        writeLock.lock();
+        try {
+            V previousValue = entries.putIfAbsent(key, computedValue);
+            if (previousValue != null) {
+                return previousValue;
+            }
+            insertionOrder.offer(key);
+            evictExcessEntries();
+            return computedValue;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Returns cached value for received key or <code>null</code> if it's absent.
+     *
+     * @param key key to get value for.
+     */
+    public V get(K key) {
+        return entries.get(key);
+    }
+
+    /**
+     * Returns maximum number of entries this cache keeps.
+     */
+    public int getMaximumSize() {
+        return maximumSize;
+    }
+
+    /**
+     * Associates received value with received key replacing previously cached value if it's present.
+     *
+     * @param key   key to cache value for.
+     * @param value value to cache.
+     */
+    public void put(K key, V value) {
+        writeLock.lock();
+        try {
+            if (entries.put(key, value) == null) {
+                insertionOrder.offer(key);
+                evictExcessEntries();
+            }
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Returns current number of cached entries.
+     */
+    public int size() {
+        return entries.size();
+    }
+
+    private void evictExcessEntries() {
+        while (insertionOrder.size() > maximumSize) {
+            entries.remove(insertionOrder.poll());
+        }
+    }
+}
@@ -0,0 +1,212 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Uladzislau Seuruk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.vladislavsevruk.resolver.cache;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Executable;
+import java.lang.reflect.Field;
+import java.lang.reflect.GenericArrayType;
+import java.lang.reflect.Method;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.lang.reflect.TypeVariable;
+import java.lang.reflect.WildcardType;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.zip.CRC32;
+
+/**
+ * Computes fingerprints of classes based on their bytecode. Fingerprint of class covers bytecode of class itself, all
+ * its superclasses and implemented interfaces, so it changes when any of them is recompiled or replaced at classpath.
+ * Fingerprint also covers type parameters of classes used at types of fields, methods and constructors of these
+ * classes: raw usage of such class is represented with its type parameters while adding type parameter to class
+ * doesn't change bytecode of classes that use it. Bytecode of every class is read once and checksums are kept by class
+ * itself using <code>ClassValue</code>.
+ */
+public final class ClassFingerprint {
+
+    /**
+     * Value returned for classes which bytecode cannot be read, e.g. arrays, primitives or runtime generated classes.
+     */
+    public static final long UNAVAILABLE = -1L;
+    private static final int BUFFER_SIZE = 8192;
+    private static final ClassValue<Long> BYTECODE_CHECKSUMS = new ClassValue<Long>() {
+        @Override
+        protected Long computeValue(Class<?> type) {
+            return readBytecodeChecksum(type);
+        }
+    };
+    private static final ClassValue<Long> HIERARCHY_CHECKSUMS = new ClassValue<Long>() {
+        @Override
+        protected Long computeValue(Class<?> type) {
+            return computeHierarchyChecksum(type);
+        }
+    };
+
+    private ClassFingerprint() {
+    }
+
+    /**
+     * Returns fingerprint of received class and its hierarchy.
+     *
+     * @param clazz class to get fingerprint for.
+     * @return non-negative fingerprint or <code>UNAVAILABLE</code> if bytecode of any class from hierarchy cannot be
+     * read.
+     */
+    public static long of(Class<?> clazz) {
+        return HIERARCHY_CHECKSUMS.get(clazz);
+    }
+
+    private static void addExecutableTypes(Map<String, Class<?>> referencedClasses, Executable executable) {
+        for (Type parameterType : executable.getGenericParameterTypes()) {
+            addReferencedClasses(referencedClasses, parameterType);
+        }
+        for (Type exceptionType : executable.getGenericExceptionTypes()) {
+            addReferencedClasses(referencedClasses, exceptionType);
+        }
+    }
+
+    private static void addHierarchy(Set<Class<?>> classes, Class<?> clazz) {
+        if (clazz == null || !classes.add(clazz)) {
+            return;
+        }
+        addHierarchy(classes, clazz.getSuperclass());
+        for (Class<?> interfaceClass : clazz.getInterfaces()) {
+            addHierarchy(classes, interfaceClass);
+        }
+    }
+
+    private static void addMemberTypes(Map<String, Class<?>> referencedClasses, Class<?> clazz) {
+        for (Field field : clazz.getDeclaredFields()) {
+            addReferencedClasses(referencedClasses, field.getGenericType());
+        }
+        for (Method method : clazz.getDeclaredMethods()) {
+            addReferencedClasses(referencedClasses, method.getGenericReturnType());
+            addExecutableTypes(referencedClasses, method);
+        }
+        for (Constructor<?> constructor : clazz.getDeclaredConstructors()) {
+            addExecutableTypes(referencedClasses, constructor);
+        }
+    }
+
+    private static void addReferencedClasses(Map<String, Class<?>> referencedClasses, Type type) {
+        if (type instanceof Class) {
+            Class<?> clazz = (Class<?>) type;
+            while (clazz.isArray()) {
+                clazz = clazz.getComponentType();
+            }
+            if (!clazz.isPrimitive()) {
+                referencedClasses.putIfAbsent(clazz.getName(), clazz);
+            }
+        } else if (type instanceof ParameterizedType) {
+            ParameterizedType parameterizedType = (ParameterizedType) type;
+            addReferencedClasses(referencedClasses, parameterizedType.getRawType());
+            for (Type actualTypeArgument : parameterizedType.getActualTypeArguments()) {
+                addReferencedClasses(referencedClasses, actualTypeArgument);
+            }
+        } else if (type instanceof GenericArrayType) {
+            addReferencedClasses(referencedClasses, ((GenericArrayType) type).getGenericComponentType());
+        } else if (type instanceof WildcardType) {
+            for (Type lowerBound : ((WildcardType) type).getLowerBounds()) {
+                addReferencedClasses(referencedClasses, lowerBound);
+            }
+            for (Type upperBound : ((WildcardType) type).getUpperBounds()) {
+                addReferencedClasses(referencedClasses, upperBound);
+            }
+        }
+        // type variables are replaced by their actual types, so their bounds don't affect representations
+    }
+
+    private static long computeHierarchyChecksum(Class<?> clazz) {
+        if (clazz.isArray() || clazz.isPrimitive()) {
+            return UNAVAILABLE;
+        }
+        Set<Class<?>> classes = new LinkedHashSet<>();
+        addHierarchy(classes, clazz);
+        CRC32 crc = new CRC32();
+        for (Class<?> hierarchyClass : classes) {
+            long checksum = BYTECODE_CHECKSUMS.get(hierarchyClass);
+            if (checksum == UNAVAILABLE) {
+                return UNAVAILABLE;
+            }
+            updateChecksum(crc, checksum);
+        }
+        // referenced classes are sorted by name as order of reflected members isn't specified
+        Map<String, Class<?>> referencedClasses = new TreeMap<>();
+        try {
+            for (Class<?> hierarchyClass : classes) {
+                addMemberTypes(referencedClasses, hierarchyClass);
+            }
+        } catch (LinkageError | RuntimeException ex) {
+            // member types refer to classes that are absent at classpath or have malformed generic signatures
+            return UNAVAILABLE;
+        }
+        for (Map.Entry<String, Class<?>> referencedClass : referencedClasses.entrySet()) {
+            crc.update(referencedClass.getKey().getBytes(StandardCharsets.UTF_8));
+            for (TypeVariable<?> typeParameter : referencedClass.getValue().getTypeParameters()) {
+                crc.update(',');
+                crc.update(typeParameter.getName().getBytes(StandardCharsets.UTF_8));
+            }
+            crc.update(';');
+        }
+        return crc.getValue();
+    }
+
+    private static InputStream openBytecode(Class<?> clazz) {
+        String resourceName = clazz.getName().replace('.', '/') + ".class";
+        ClassLoader classLoader = clazz.getClassLoader();
+        if (classLoader == null) {
+            return ClassLoader.getSystemResourceAsStream(resourceName);
+        }
+        return classLoader.getResourceAsStream(resourceName);
+    }
+
+    private static long readBytecodeChecksum(Class<?> clazz) {
+        try (InputStream inputStream = openBytecode(clazz)) {
+            if (inputStream == null) {
+                return UNAVAILABLE;
+            }
+            CRC32 crc = new CRC32();
+            byte[] buffer = new byte[BUFFER_SIZE];
+            int read;
+            while ((read = inputStream.read(buffer)) != -1) {
+                crc.update(buffer, 0, read);
+            }
+            return crc.getValue();
+        } catch (IOException ioEx) {
+            return UNAVAILABLE;
+        }
+    }
+
+    private static void updateChecksum(CRC32 crc, long checksum) {
+        for (int shift = 0; shift < Long.SIZE; shift += Byte.SIZE) {
+            crc.update((int) (checksum >>> shift));
+        }
+    }
+}
@@ -0,0 +1,451 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Uladzislau Seuruk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.vladislavsevruk.resolver.cache;
+
+import com.github.vladislavsevruk.resolver.resolver.executable.ExecutableSignature;
+import com.github.vladislavsevruk.resolver.type.TypeMeta;
+import com.github.vladislavsevruk.resolver.util.ClassNameCache;
+import com.github.vladislavsevruk.resolver.util.MemberDescriptor;
+import lombok.CustomLog;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.reflect.Executable;
+import java.lang.reflect.Field;
+import java.lang.reflect.Member;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
+import java.util.zip.CRC32;
+
+/**
+ * Persistent store of resolved field representations and executable signatures. Store keeps resolution tables of
+ * whole types keyed by type name with generic types and fingerprint of type hierarchy bytecode, loads them from file
+ * on creation and writes them back on <code>flush()</code>. Recently used tables are additionally indexed by
+ * <code>TypeMetaKey</code> at bounded cache, so repeated lookups don't build type name keys. Table which fingerprint
+ * differs from fingerprint of currently loaded class is considered stale and is resolved again. Corrupted or
+ * incompatible file is ignored, so store starts empty and rebuilds all tables.<br>
+ * Stored representations depend on modules of resolving context, so separate files should be used for contexts with
+ * different modules.
+ *
+ * @see ClassFingerprint
+ */
+@CustomLog
+public final class PersistentRepresentationStore {
+
+    public static final int DEFAULT_MAXIMUM_INDEX_SIZE = 10_000;
+    // fingerprints cover hierarchy of type and type parameters of classes used at its member types, while classes of
+    // generic types of resolved type are only part of table key, so tables aren't considered stale when these classes
+    // change their type parameters
+    private static final int FORMAT_VERSION = 3;
+    private static final int HEADER_SIZE = Integer.BYTES * 2 + Long.BYTES;
+    private static final int MAGIC = 0x54535252;
+    private final AtomicBoolean dirty = new AtomicBoolean();
+    private final StoredTables<ExecutableSignature> executableTables;
+    private final StoredTables<String> fieldTables;
+    private final Path file;
+    private final ToLongFunction<Class<?>> fingerprintFunction;
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+    private final LongAdder staleCount = new LongAdder();
+
+    /**
+     * Creates store backed by received file and loads tables persisted at it if file exists.
+     *
+     * @param file <code>Path</code> to file with persisted tables.
+     */
+    public PersistentRepresentationStore(Path file) {
+        this(file, DEFAULT_MAXIMUM_INDEX_SIZE);
+    }
+
+    /**
+     * Creates store backed by received file and loads tables persisted at it if file exists.
+     *
+     * @param file             <code>Path</code> to file with persisted tables.
+     * @param maximumIndexSize maximum number of tables indexed by <code>TypeMetaKey</code> per member kind.
+     */
+    public PersistentRepresentationStore(Path file, int maximumIndexSize) {
+        this(file, maximumIndexSize, ClassFingerprint::of);
+    }
+
+    PersistentRepresentationStore(Path file, ToLongFunction<Class<?>> fingerprintFunction) {
+        this(file, DEFAULT_MAXIMUM_INDEX_SIZE, fingerprintFunction);
+    }
+
+    PersistentRepresentationStore(Path file, int maximumIndexSize, ToLongFunction<Class<?>> fingerprintFunction) {
+        this.file = file;
+        this.fingerprintFunction = fingerprintFunction;
+        this.executableTables = new StoredTables<>(maximumIndexSize);
+        this.fieldTables = new StoredTables<>(maximumIndexSize);
+        load();
+    }
+
+    /**
+     * Writes all tables to file if any table was resolved since store creation or previous flush. File is replaced
+     * atomically where file system supports it.
+     *
+     * @throws UncheckedIOException if file cannot be written.
+     */
+    public synchronized void flush() {
+        if (!dirty.compareAndSet(true, false)) {
+            return;
+        }
+        try {
+            byte[] body = serializeTables();
+            ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+            header.putInt(MAGIC).putInt(FORMAT_VERSION).putLong(checksum(ByteBuffer.wrap(body)));
+            header.flip();
+            Path temporaryFile = file.resolveSibling(file.getFileName() + ".tmp");
+            try (FileChannel channel = FileChannel.open(temporaryFile, StandardOpenOption.CREATE,
+                    StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+                channel.write(new ByteBuffer[]{ header, ByteBuffer.wrap(body) });
+            }
+            moveToFile(temporaryFile);
+        } catch (IOException ioEx) {
+            dirty.set(true);
+            throw new UncheckedIOException(ioEx);
+        }
+    }
+
+    /**
+     * Returns persisted signature of received executable in scope of received type. Signatures of all executables of
+     * type are resolved at once using received function if type has no persisted table yet or persisted table is
+     * stale.
+     *
+     * @param typeMeta   <code>TypeMeta</code> of type where executable should be resolved.
+     * @param executable <code>Executable</code> to get signature for.
+     * @param resolver   function that resolves signatures of all executables of type.
+     * @return persisted <code>ExecutableSignature</code> or <code>null</code> if fingerprint of type is unavailable or
+     * executable is absent at resolved table.
+     */
+    public ExecutableSignature getExecutableSignature(TypeMeta<?> typeMeta, Executable executable,
+            Function<TypeMeta<?>, Map<Executable, ExecutableSignature>> resolver) {
+        return lookup(executableTables, typeMeta, executable, resolver);
+    }
+
+    /**
+     * Returns persisted representation of received field in scope of received type. Representations of all fields of
+     * type are resolved at once using received function if type has no persisted table yet or persisted table is
+     * stale.
+     *
+     * @param typeMeta <code>TypeMeta</code> of type where field should be resolved.
+     * @param field    <code>Field</code> to get representation for.
+     * @param resolver function that resolves representations of all fields of type.
+     * @return persisted representation or <code>null</code> if fingerprint of type is unavailable or field is absent
+     * at resolved table.
+     */
+    public String getFieldRepresentation(TypeMeta<?> typeMeta, Field field,
+            Function<TypeMeta<?>, Map<Field, String>> resolver) {
+        return lookup(fieldTables, typeMeta, field, resolver);
+    }
+
+    /**
+     * Returns path to file with persisted tables.
+     *
+     * @return <code>Path</code> to file.
+     */
+    public Path getFile() {
+        return file;
+    }
+
+    /**
+     * Returns number of lookups served by persisted or previously resolved tables.
+     *
+     * @return number of hits.
+     */
+    public long getHitCount() {
+        return hitCount.sum();
+    }
+
+    /**
+     * Returns number of lookups that required resolving of table, including stale ones.
+     *
+     * @return number of misses.
+     */
+    public long getMissCount() {
+        return missCount.sum();
+    }
+
+    /**
+     * Returns number of tables that were resolved again because fingerprint of type changed.
+     *
+     * @return number of stale tables.
+     */
+    public long getStaleCount() {
+        return staleCount.sum();
+    }
+
+    /**
+     * Returns number of tables kept by store.
+     *
+     * @return number of field and executable tables.
+     */
+    public int size() {
+        return fieldTables.byTypeKey.size() + executableTables.byTypeKey.size();
+    }
+
+    private static void appendTypeKey(StringBuilder stringBuilder, TypeMeta<?> typeMeta) {
+        if (typeMeta.isWildcard()) {
+            stringBuilder.append('?');
+        }
+        stringBuilder.append(ClassNameCache.getName(typeMeta.getType()));
+        TypeMeta<?>[] genericTypes = typeMeta.getGenericTypes();
+        if (genericTypes == null || genericTypes.length == 0) {
+            return;
+        }
+        stringBuilder.append('<');
+        for (int i = 0; i < genericTypes.length; ++i) {
+            if (i != 0) {
+                stringBuilder.append(',');
+            }
+            appendTypeKey(stringBuilder, genericTypes[i]);
+        }
+        stringBuilder.append('>');
+    }
+
+    private static long checksum(ByteBuffer buffer) {
+        CRC32 crc = new CRC32();
+        crc.update(buffer);
+        return crc.getValue();
+    }
+
+    private static ExecutableSignature readSignature(ByteBuffer buffer) {
+        String returnType = readString(buffer);
+        List<String> parameterTypes = readStrings(buffer);
+        List<String> exceptionTypes = readStrings(buffer);
+        return new ExecutableSignature(returnType, parameterTypes, exceptionTypes);
+    }
+
+    private static String readString(ByteBuffer buffer) {
+        byte[] bytes = new byte[buffer.getInt()];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static List<String> readStrings(ByteBuffer buffer) {
+        int size = buffer.getInt();
+        List<String> strings = new ArrayList<>(size);
+        for (int i = 0; i < size; ++i) {
+            strings.add(readString(buffer));
+        }
+        return strings;
+    }
+
+    private static <V> void readTables(ByteBuffer buffer, Map<String, StoredTable<V>> tables,
+            Function<ByteBuffer, V> valueReader) {
+        int tablesCount = buffer.getInt();
+        for (int i = 0; i < tablesCount; ++i) {
+            String typeKey = readString(buffer);
+            long fingerprint = buffer.getLong();
+            int valuesCount = buffer.getInt();
+            Map<String, V> values = new HashMap<>();
+            for (int j = 0; j < valuesCount; ++j) {
+                values.put(readString(buffer), valueReader.apply(buffer));
+            }
+            tables.put(typeKey, new StoredTable<>(fingerprint, values));
+        }
+    }
+
+    private static String typeKey(TypeMeta<?> typeMeta) {
+        StringBuilder stringBuilder = new StringBuilder();
+        appendTypeKey(stringBuilder, typeMeta);
+        return stringBuilder.toString();
+    }
+
+    private static void writeSignature(DataOutputStream outputStream, ExecutableSignature signature)
+            throws IOException {
+        writeString(outputStream, signature.getReturnType());
+        writeStrings(outputStream, signature.getParameterTypes());
+        writeStrings(outputStream, signature.getExceptionTypes());
+    }
+
+    private static void writeString(DataOutputStream outputStream, String string) throws IOException {
+        byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+        outputStream.writeInt(bytes.length);
+        outputStream.write(bytes);
+    }
+
+    private static void writeStrings(DataOutputStream outputStream, List<String> strings) throws IOException {
+        outputStream.writeInt(strings.size());
+        for (String string : strings) {
+            writeString(outputStream, string);
+        }
+    }
+
+    private static <V> void writeTables(DataOutputStream outputStream, Map<String, StoredTable<V>> tables,
+            ValueWriter<V> valueWriter) throws IOException {
+        List<Map.Entry<String, StoredTable<V>>> entries = new ArrayList<>(tables.entrySet());
+        outputStream.writeInt(entries.size());
+        for (Map.Entry<String, StoredTable<V>> entry : entries) {
+            writeString(outputStream, entry.getKey());
+            outputStream.writeLong(entry.getValue().fingerprint);
+            outputStream.writeInt(entry.getValue().values.size());
+            for (Map.Entry<String, V> valueEntry : entry.getValue().values.entrySet()) {
+                writeString(outputStream, valueEntry.getKey());
+                valueWriter.write(outputStream, valueEntry.getValue());
+            }
+        }
+    }
+
+    private void load() {
+        if (!Files.isRegularFile(file)) {
+            return;
+        }
+        try {
+            // file is read to heap buffer as mapped buffer keeps file locked until it's garbage collected
+            ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(file));
+            if (buffer.remaining() < HEADER_SIZE || buffer.getInt() != MAGIC || buffer.getInt() != FORMAT_VERSION) {
+                if (log.isWarnEnabled()) {
+                    log.warn(String.format("Ignoring persisted representations of unknown format at '%s'.", file));
+                }
+                return;
+            }
+            long expectedChecksum = buffer.getLong();
+            if (checksum(buffer.duplicate()) != expectedChecksum) {
+                if (log.isWarnEnabled()) {
+                    log.warn(String.format("Ignoring corrupted persisted representations at '%s'.", file));
+                }
+                return;
+            }
+            readTables(buffer, fieldTables.byTypeKey, PersistentRepresentationStore::readString);
+            readTables(buffer, executableTables.byTypeKey, PersistentRepresentationStore::readSignature);
+            if (log.isDebugEnabled()) {
+                log.debug(String.format("Loaded %d persisted representation tables from '%s'.", size(), file));
+            }
+        } catch (IOException | RuntimeException ex) {
+            fieldTables.byTypeKey.clear();
+            executableTables.byTypeKey.clear();
+            if (log.isWarnEnabled()) {
+                log.warn(String.format("Failed to load persisted representations from '%s'.", file), ex);
+            }
+        }
+    }
+
+    private <M extends Member, V> StoredTable<V> findTable(StoredTables<V> tables, TypeMeta<?> typeMeta,
+            long fingerprint, Function<TypeMeta<?>, Map<M, V>> resolver) {
+        String typeKey = typeKey(typeMeta);
+        StoredTable<V> table = tables.byTypeKey.get(typeKey);
+        if (table != null && table.fingerprint == fingerprint) {
+            hitCount.increment();
+            return table;
+        }
+        missCount.increment();
+        if (table != null) {
+            staleCount.increment();
+        }
+        table = resolveTable(typeMeta, fingerprint, resolver);
+        tables.byTypeKey.put(typeKey, table);
+        dirty.set(true);
+        return table;
+    }
+
+    private <M extends Member, V> V lookup(StoredTables<V> tables, TypeMeta<?> typeMeta, M member,
+            Function<TypeMeta<?>, Map<M, V>> resolver) {
+        long fingerprint = fingerprintFunction.applyAsLong(typeMeta.getType());
+        if (fingerprint == ClassFingerprint.UNAVAILABLE) {
+            return null;
+        }
+        TypeMetaKey typeMetaKey = TypeMetaKey.of(typeMeta);
+        StoredTable<V> table = tables.byTypeMetaKey.get(typeMetaKey);
+        if (table != null && table.fingerprint == fingerprint) {
+            hitCount.increment();
+        } else {
+            table = findTable(tables, typeMeta, fingerprint, resolver);
+            tables.byTypeMetaKey.put(typeMetaKey, table);
+        }
+        return table.values.get(MemberDescriptor.of(member));
+    }
+
+    private void moveToFile(Path temporaryFile) throws IOException {
+        try {
+            Files.move(temporaryFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException amnsEx) {
+            Files.move(temporaryFile, file, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private <M extends Member, V> StoredTable<V> resolveTable(TypeMeta<?> typeMeta, long fingerprint,
+            Function<TypeMeta<?>, Map<M, V>> resolver) {
+        Map<M, V> resolvedValues = resolver.apply(typeMeta);
+        Map<String, V> values = new HashMap<>();
+        for (Map.Entry<M, V> entry : resolvedValues.entrySet()) {
+            values.put(MemberDescriptor.of(entry.getKey()), entry.getValue());
+        }
+        return new StoredTable<>(fingerprint, values);
+    }
+
+    private byte[] serializeTables() throws IOException {
+        ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+        try (DataOutputStream outputStream = new DataOutputStream(byteArrayOutputStream)) {
+            writeTables(outputStream, fieldTables.byTypeKey, PersistentRepresentationStore::writeString);
+            writeTables(outputStream, executableTables.byTypeKey, PersistentRepresentationStore::writeSignature);
+        }
+        return byteArrayOutputStream.toByteArray();
+    }
+
+    @FunctionalInterface
+    private interface ValueWriter<V> {
+
+        void write(DataOutputStream outputStream, V value) throws IOException;
+    }
+
+    private static final class StoredTable<V> {
+
+        private final long fingerprint;
+        private final Map<String, V> values;
+
+        private StoredTable(long fingerprint, Map<String, V> values) {
+            this.fingerprint = fingerprint;
+            this.values = Collections.unmodifiableMap(values);
+        }
+    }
+
+    private static final class StoredTables<V> {
+
+        private final ConcurrentMap<String, StoredTable<V>> byTypeKey = new ConcurrentHashMap<>();
+        private final BoundedConcurrentCache<TypeMetaKey, StoredTable<V>> byTypeMetaKey;
+
+        private StoredTables(int maximumIndexSize) {
+            this.byTypeMetaKey = new BoundedConcurrentCache<>(maximumIndexSize);
+        }
+    }
+}
@@ -0,0 +1,68 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Uladzislau Seuruk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.vladislavsevruk.resolver.cache;
+
+import java.lang.reflect.Member;
+
+/**
+ * Key for class member resolved in scope of specific type. Two keys are equal if they have the same canonical type
+ * keys and equal members.
+ *
+ * @see TypeMetaKey
+ */
+public final class TypeMemberKey {
+
+    private final int hashCode;
+    private final Member member;
+    private final TypeMetaKey typeMetaKey;
+
+    /**
+     * Creates new key for received type key and member.
+     *
+     * @param typeMetaKey key of type where member is resolved.
+     * @param member      <code>Field</code>, <code>Method</code> or <code>Constructor</code> to resolve.
+     */
+    public TypeMemberKey(TypeMetaKey typeMetaKey, Member member) {
+        this.typeMetaKey = typeMetaKey;
+        this.member = member;
+        this.hashCode = 31 * typeMetaKey.hashCode() + member.hashCode();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof TypeMemberKey)) {
+            return false;
+        }
+        TypeMemberKey that = (TypeMemberKey) o;
+        return hashCode == that.hashCode && typeMetaKey == that.typeMetaKey && member.equals(that.member);
+    }
+
+    @Override
+    public int hashCode() {
+        return hashCode;
+    }
+}
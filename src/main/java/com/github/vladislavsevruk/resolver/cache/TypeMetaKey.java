@@ -0,0 +1,117 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Uladzislau Seuruk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.vladislavsevruk.resolver.cache;
+
+import com.github.vladislavsevruk.resolver.type.TypeMeta;
+
+/**
+ * Canonical key for <code>TypeMeta</code>. Keys are hash-consed, so keys created for type metas with equal types,
+ * wildcard flags and generic types are the same instance and may be compared by identity. Hash code is computed once
+ * on creation and keys of generic types are already canonical, so building key for nested type metas compares only
+ * single level of structure. Keys of type metas without generic types are kept per class and are received without
+ * any locking.
+ *
+ * @see TypeMeta
+ */
+public final class TypeMetaKey {
+
+    private static final WeakInternPool<TypeMetaKey> KEYS = new WeakInternPool<>();
+    private static final TypeMetaKey[] NO_GENERIC_TYPES = new TypeMetaKey[0];
+    private static final LeafKeys NON_WILDCARD_LEAF_KEYS = new LeafKeys(false);
+    private static final LeafKeys WILDCARD_LEAF_KEYS = new LeafKeys(true);
+    private final TypeMetaKey[] genericTypes;
+    private final int hashCode;
+    private final Class<?> type;
+    private final boolean wildcard;
+
+    private TypeMetaKey(Class<?> type, boolean wildcard, TypeMetaKey[] genericTypes) {
+        this.type = type;
+        this.wildcard = wildcard;
+        this.genericTypes = genericTypes;
+        int hash = 31 * type.hashCode() + Boolean.hashCode(wildcard);
+        for (TypeMetaKey genericType : genericTypes) {
+            hash = 31 * hash + genericType.hashCode;
+        }
+        this.hashCode = hash;
+    }
+
+    /**
+     * Returns canonical key for received <code>TypeMeta</code>.
+     *
+     * @param typeMeta <code>TypeMeta</code> to get key for.
+     * @return canonical key.
+     */
+    public static TypeMetaKey of(TypeMeta<?> typeMeta) {
+        TypeMeta<?>[] typeMetaGenericTypes = typeMeta.getGenericTypes();
+        if (typeMetaGenericTypes == null || typeMetaGenericTypes.length == 0) {
+            return (typeMeta.isWildcard() ? WILDCARD_LEAF_KEYS : NON_WILDCARD_LEAF_KEYS).get(typeMeta.getType());
+        }
+        TypeMetaKey[] keyGenericTypes = new TypeMetaKey[typeMetaGenericTypes.length];
+        for (int i = 0; i < typeMetaGenericTypes.length; ++i) {
+            keyGenericTypes[i] = of(typeMetaGenericTypes[i]);
+        }
+        return KEYS.intern(new TypeMetaKey(typeMeta.getType(), typeMeta.isWildcard(), keyGenericTypes));
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof TypeMetaKey)) {
+            return false;
+        }
+        TypeMetaKey that = (TypeMetaKey) o;
+        if (hashCode != that.hashCode || wildcard != that.wildcard || type != that.type
+                || genericTypes.length != that.genericTypes.length) {
+            return false;
+        }
+        // generic types are already hash-consed so identity comparison is enough
+        for (int i = 0; i < genericTypes.length; ++i) {
+            if (genericTypes[i] != that.genericTypes[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        return hashCode;
+    }
+
+    private static final class LeafKeys extends ClassValue<TypeMetaKey> {
+
+        private final boolean wildcard;
+
+        private LeafKeys(boolean wildcard) {
+            this.wildcard = wildcard;
+        }
+
+        @Override
+        protected TypeMetaKey computeValue(Class<?> type) {
+            return KEYS.intern(new TypeMetaKey(type, wildcard, NO_GENERIC_TYPES));
+        }
+    }
+}
@@ -0,0 +1,137 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Uladzislau Seuruk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.vladislavsevruk.resolver.cache;
+
+import java.lang.ref.WeakReference;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Thread-safe pool of canonical instances that keeps them weakly referenced, so instances that are no longer used
+ * outside of pool are garbage collected together with their pool entries. Pool is split to lock striped segments to
+ * reduce contention and counts hits and misses of interning.
+ *
+ * @param <T> type of pooled values.
+ */
+public final class WeakInternPool<T> {
+
+    private static final int SEGMENTS_COUNT = 16;
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+    private final Segment<T>[] segments;
+
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    public WeakInternPool() {
+        segments = new Segment[SEGMENTS_COUNT];
+        for (int i = 0; i < SEGMENTS_COUNT; ++i) {
+            segments[i] = new Segment<>();
+        }
+    }
+
+    /**
+     * Removes all values from pool. Hit and miss counters are kept.
+     */
+    public void clear() {
+        for (Segment<T> segment : segments) {
+            segment.lock.lock();
+            try {
+                segment.values.clear();
+            } finally {
+                segment.lock.unlock();
+            }
+        }
+    }
+
+    /**
+     * Returns number of interning calls that returned already pooled canonical instance.
+     */
+    public long getHitCount() {
+        return hitCount.sum();
+    }
+
+    /**
+     * Returns number of interning calls that added received value to pool as canonical instance.
+     */
+    public long getMissCount() {
+        return missCount.sum();
+    }
+
+    /**
+     * Returns canonical instance equal to received value. If pool has no such instance received value becomes
+     * canonical one.
+     *
+     * @param value value to get canonical instance for.
+     * @return canonical instance equal to received value or <code>null</code> if received value is <code>null</code>.
+     */
+    public T intern(T value) {
+        if (value == null) {
+            return null;
+        }
+        Segment<T> segment = segmentFor(value);
+        segment.lock.lock();
+        try {
+            WeakReference<T> canonicalReference = segment.values.get(value);
+            T canonicalValue = canonicalReference == null ? null : canonicalReference.get();
+            if (canonicalValue != null) {
+                hitCount.increment();
+                return canonicalValue;
+            }
+            segment.values.put(value, new WeakReference<>(value));
+            missCount.increment();
+            return value;
+        } finally {
+            segment.lock.unlock();
+        }
+    }
+
+    /**
+     * Returns current number of pooled canonical instances.
+     */
+    public int size() {
+        int size = 0;
+        for (Segment<T> segment : segments) {
+            segment.lock.lock();
+            try {
+                size += segment.values.size();
+            } finally {
+                segment.lock.unlock();
+            }
+        }
+        return size;
+    }
+
+    private Segment<T> segmentFor(T value) {
+        int hash = value.hashCode();
+        return segments[(hash ^ (hash >>> 16)) & (SEGMENTS_COUNT - 1)];
+    }
+
+    private static final class Segment<T> {
+
+        private final Lock lock = new ReentrantLock();
+        private final Map<T, WeakReference<T>> values = new WeakHashMap<>();
+    }
+}
@@ -32,16 +32,16 @@ import com.github.vladislavsevruk.resolver.type.mapper.TypeVariableMapper;
 import com.github.vladislavsevruk.resolver.type.storage.MappedVariableHierarchyStorage;
 import com.github.vladislavsevruk.resolver.type.storage.StringRepresentationMappedVariableHierarchyStorage;
 import lombok.AccessLevel;
+import lombok.CustomLog;
 import lombok.Getter;
 import lombok.experimental.FieldDefaults;
-import lombok.extern.log4j.Log4j2;
 
 /**
  * Implementation of <code>ResolvingContext</code> for string representation of generic types.
  *
  * @see ResolvingContext
  */
-@Log4j2
+@CustomLog
 @FieldDefaults(makeFinal = true, level = AccessLevel.PRIVATE)
 @Getter
 final class StringRepresentationResolvingContext implements ResolvingContext<String> {
@@ -70,15 +70,20 @@ final class StringRepresentationResolvingContext implements ResolvingContext<Str
             ResolvingModuleFactoryMethod<String, TypeVariableMapper<String>> typeVariableMapperFactoryMethod) {
         this.mappedVariableHierarchyStorage = orDefault(mappedVariableHierarchyStorageFactoryMethod,
                 StringRepresentationMappedVariableHierarchyStorage::new);
-        log.debug(() -> String.format("Using '%s' as mapped variable hierarchy storage.",
-                mappedVariableHierarchyStorage.getClass().getName()));
         this.typeResolverPicker = orDefault(typeResolverPickerFactoryMethod, StringRepresentationResolverPicker::new);
-        log.debug(() -> String.format("Using '%s' as type resolver picker.", typeResolverPicker.getClass().getName()));
         this.typeResolverStorage = orDefault(typeResolverStorageFactoryMethod, FullNameResolverStorage::new);
-        log.debug(
-                () -> String.format("Using '%s' as type resolver storage.", typeResolverStorage.getClass().getName()));
         this.typeVariableMapper = orDefault(typeVariableMapperFactoryMethod, StringRepresentationVariableMapper::new);
-        log.debug(() -> String.format("Using '%s' as type variable mapper.", typeVariableMapper.getClass().getName()));
+        if (log.isDebugEnabled()) {
+            logModules();
+        }
+    }
+
+    private void logModules() {
+        log.debug(String.format("Using '%s' as mapped variable hierarchy storage.",
+                mappedVariableHierarchyStorage.getClass().getName()));
+        log.debug(String.format("Using '%s' as type resolver picker.", typeResolverPicker.getClass().getName()));
+        log.debug(String.format("Using '%s' as type resolver storage.", typeResolverStorage.getClass().getName()));
+        log.debug(String.format("Using '%s' as type variable mapper.", typeVariableMapper.getClass().getName()));
     }
 
     private <T> T orDefault(ResolvingModuleFactoryMethod<String, T> factoryMethod,
@@ -23,18 +23,20 @@
  */
 package com.github.vladislavsevruk.resolver.context;
 
-import java.util.concurrent.locks.ReadWriteLock;
-import java.util.concurrent.locks.ReentrantReadWriteLock;
+import com.github.vladislavsevruk.resolver.metrics.ResolverMetricsManager;
+
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 
 /**
- * Provides resolving context for string representation of generic types and refreshes it.
+ * Provides resolving context for string representation of generic types and refreshes it. Context is published as
+ * immutable snapshot so it's read without locking while refreshes are performed one at a time.
  */
 public final class StringRepresentationResolvingContextManager {
 
-    private static final ReadWriteLock DEFAULT_CONTEXT_LOCK = new ReentrantReadWriteLock();
-    private static final ReadWriteLock SETTINGS_LOCK = new ReentrantReadWriteLock();
-    private static boolean autoRefreshContext = true;
-    private static ResolvingContext<String> defaultContext = newContext();
+    private static final Lock REFRESH_LOCK = new ReentrantLock();
+    private static volatile boolean autoRefreshContext = true;
+    private static volatile ResolvingContext<String> defaultContext = newContext();
 
     private StringRepresentationResolvingContextManager() {
     }
@@ -43,14 +45,14 @@ public final class StringRepresentationResolvingContextManager {
      * Enables resolving context refresh after updates at resolving modules.
      */
     public static void disableContextAutoRefresh() {
-        autoRefreshContext(false);
+        autoRefreshContext = false;
     }
 
     /**
      * Disables resolving context refresh after updates at resolving modules.
      */
     public static void enableContextAutoRefresh() {
-        autoRefreshContext(true);
+        autoRefreshContext = true;
     }
 
     /**
@@ -60,10 +62,7 @@ public final class StringRepresentationResolvingContextManager {
      */
     @SuppressWarnings("java:S1452")
     public static ResolvingContext<String> getContext() {
-        DEFAULT_CONTEXT_LOCK.readLock().lock();
-        ResolvingContext<String> contextToReturn = defaultContext;
-        DEFAULT_CONTEXT_LOCK.readLock().unlock();
-        return contextToReturn;
+        return defaultContext;
     }
 
     /**
@@ -71,34 +70,28 @@ public final class StringRepresentationResolvingContextManager {
      * <code>false</code> otherwise.
      */
     static boolean isAutoRefreshContext() {
-        SETTINGS_LOCK.readLock().lock();
-        boolean valueToReturn = autoRefreshContext;
-        SETTINGS_LOCK.readLock().unlock();
-        return valueToReturn;
+        return autoRefreshContext;
     }
 
     /**
-     * Re-initializes <code>ResolvingContext</code> with values from <code>ResolvingModuleFactory</code>.
+     * Re-initializes <code>ResolvingContext</code> with values from <code>ResolvingModuleFactory</code>. New context is
+     * fully built before it's published so readers never get partially initialized context.
      *
      * @see StringRepresentationResolvingModuleFactory
      */
     static void refreshContext() {
-        DEFAULT_CONTEXT_LOCK.writeLock().lock();
-        defaultContext = newContext();
-        DEFAULT_CONTEXT_LOCK.writeLock().unlock();
-    }
-
-    private static void autoRefreshContext(boolean isTrue) {
-        SETTINGS_LOCK.writeLock().lock();
-        autoRefreshContext = isTrue;
-        SETTINGS_LOCK.writeLock().unlock();
+        REFRESH_LOCK.lock();
+        try {
+            defaultContext = newContext();
+        } finally {
+            REFRESH_LOCK.unlock();
+        }
+        ResolverMetricsManager.getMetrics().recordContextRefresh();
     }
 
     private static ResolvingContext<String> newContext() {
-        return new StringRepresentationResolvingContext(
-                StringRepresentationResolvingModuleFactory.mappedVariableHierarchyStorage(),
-                StringRepresentationResolvingModuleFactory.typeResolverPicker(),
-                StringRepresentationResolvingModuleFactory.typeResolverStorage(),
-                StringRepresentationResolvingModuleFactory.typeVariableMapper());
+        StringRepresentationResolvingModules modules = StringRepresentationResolvingModuleFactory.modules();
+        return new StringRepresentationResolvingContext(modules.getMappedVariableHierarchyStorage(),
+                modules.getTypeResolverPicker(), modules.getTypeResolverStorage(), modules.getTypeVariableMapper());
     }
 }
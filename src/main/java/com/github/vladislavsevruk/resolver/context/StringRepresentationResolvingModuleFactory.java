@@ -27,39 +27,49 @@ import com.github.vladislavsevruk.resolver.resolver.picker.TypeResolverPicker;
 import com.github.vladislavsevruk.resolver.resolver.storage.TypeResolverStorage;
 import com.github.vladislavsevruk.resolver.type.mapper.TypeVariableMapper;
 import com.github.vladislavsevruk.resolver.type.storage.MappedVariableHierarchyStorage;
-import lombok.extern.log4j.Log4j2;
+import lombok.CustomLog;
 
-import java.util.concurrent.locks.ReadWriteLock;
-import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.UnaryOperator;
 
 /**
  * Provides replaceable modules schemas required for string representation of generic types resolving mechanism.
+ * Modules are kept as single immutable <code>StringRepresentationResolvingModules</code> instance that is replaced
+ * atomically.
+ *
+ * @see StringRepresentationResolvingModules
  */
-@Log4j2
+@CustomLog
 public final class StringRepresentationResolvingModuleFactory {
 
-    private static final ReadWriteLock MAPPED_VARIABLE_HIERARCHY_STORAGE_LOCK = new ReentrantReadWriteLock();
-    private static final ReadWriteLock TYPE_RESOLVER_PICKER_LOCK = new ReentrantReadWriteLock();
-    private static final ReadWriteLock TYPE_RESOLVER_STORAGE_LOCK = new ReentrantReadWriteLock();
-    private static final ReadWriteLock TYPE_VARIABLE_MAPPER_LOCK = new ReentrantReadWriteLock();
-    private static ResolvingModuleFactoryMethod<String, MappedVariableHierarchyStorage<String>>
-            mappedVariableHierarchyStorage;
-    private static ResolvingModuleFactoryMethod<String, TypeResolverPicker<String>> typeResolverPicker;
-    private static ResolvingModuleFactoryMethod<String, TypeResolverStorage<String>> typeResolverStorage;
-    private static ResolvingModuleFactoryMethod<String, TypeVariableMapper<String>> typeVariableMapper;
+    private static final AtomicReference<StringRepresentationResolvingModules> MODULES = new AtomicReference<>(
+            StringRepresentationResolvingModules.DEFAULT_MODULES);
 
     private StringRepresentationResolvingModuleFactory() {
     }
 
+    /**
+     * Starts new transaction that stages modules replacements and applies them at once with single resolving context
+     * refresh.
+     *
+     * @see StringRepresentationResolvingModulesTransaction
+     */
+    public static StringRepresentationResolvingModulesTransaction beginTransaction() {
+        return new StringRepresentationResolvingModulesTransaction();
+    }
+
     /**
      * Returns current instance of <code>ResolvingModuleFactoryMethod</code> for <code>MappedVariableHierarchyStorage</code>.
      */
     public static ResolvingModuleFactoryMethod<String, MappedVariableHierarchyStorage<String>> mappedVariableHierarchyStorage() {
-        MAPPED_VARIABLE_HIERARCHY_STORAGE_LOCK.readLock().lock();
-        ResolvingModuleFactoryMethod<String, MappedVariableHierarchyStorage<String>> storageToReturn
-                = StringRepresentationResolvingModuleFactory.mappedVariableHierarchyStorage;
-        MAPPED_VARIABLE_HIERARCHY_STORAGE_LOCK.readLock().unlock();
-        return storageToReturn;
+        return MODULES.get().getMappedVariableHierarchyStorage();
+    }
+
+    /**
+     * Returns current modules snapshot.
+     */
+    public static StringRepresentationResolvingModules modules() {
+        return MODULES.get();
     }
 
     /**
@@ -70,11 +80,19 @@ public final class StringRepresentationResolvingModuleFactory {
      */
     public static void replaceMappedVariableHierarchyStorage(
             ResolvingModuleFactoryMethod<String, MappedVariableHierarchyStorage<String>> storage) {
-        MAPPED_VARIABLE_HIERARCHY_STORAGE_LOCK.writeLock().lock();
-        log.info(() -> String.format("Replacing MappedVariableHierarchyStorage by '%s'.",
-                storage == null ? null : storage.getClass().getName()));
-        StringRepresentationResolvingModuleFactory.mappedVariableHierarchyStorage = storage;
-        MAPPED_VARIABLE_HIERARCHY_STORAGE_LOCK.writeLock().unlock();
+        logReplacement("MappedVariableHierarchyStorage", storage);
+        replaceModules(modules -> modules.withMappedVariableHierarchyStorage(storage));
+    }
+
+    /**
+     * Replaces several modules at once using received function. Function receives current modules and should return
+     * updated copy, it may be called several times in case of concurrent updates so it shouldn't have side effects.
+     * Resolving context is refreshed only once after all modules are replaced.
+     *
+     * @param modulesUpdater function that creates updated modules from current ones.
+     */
+    public static void replaceModules(UnaryOperator<StringRepresentationResolvingModules> modulesUpdater) {
+        MODULES.updateAndGet(modulesUpdater);
         if (StringRepresentationResolvingContextManager.isAutoRefreshContext()) {
             StringRepresentationResolvingContextManager.refreshContext();
         }
@@ -88,14 +106,8 @@ public final class StringRepresentationResolvingModuleFactory {
      */
     public static void replaceTypeResolverPicker(
             ResolvingModuleFactoryMethod<String, TypeResolverPicker<String>> picker) {
-        TYPE_RESOLVER_PICKER_LOCK.writeLock().lock();
-        log.info(() -> String
-                .format("Replacing TypeResolverPicker by '%s'.", picker == null ? null : picker.getClass().getName()));
-        StringRepresentationResolvingModuleFactory.typeResolverPicker = picker;
-        TYPE_RESOLVER_PICKER_LOCK.writeLock().unlock();
-        if (StringRepresentationResolvingContextManager.isAutoRefreshContext()) {
-            StringRepresentationResolvingContextManager.refreshContext();
-        }
+        logReplacement("TypeResolverPicker", picker);
+        replaceModules(modules -> modules.withTypeResolverPicker(picker));
     }
 
     /**
@@ -106,14 +118,8 @@ public final class StringRepresentationResolvingModuleFactory {
      */
     public static void replaceTypeResolverStorage(
             ResolvingModuleFactoryMethod<String, TypeResolverStorage<String>> storage) {
-        TYPE_RESOLVER_STORAGE_LOCK.writeLock().lock();
-        log.info(() -> String.format("Replacing TypeResolverStorage by '%s'.",
-                storage == null ? null : storage.getClass().getName()));
-        StringRepresentationResolvingModuleFactory.typeResolverStorage = storage;
-        TYPE_RESOLVER_STORAGE_LOCK.writeLock().unlock();
-        if (StringRepresentationResolvingContextManager.isAutoRefreshContext()) {
-            StringRepresentationResolvingContextManager.refreshContext();
-        }
+        logReplacement("TypeResolverStorage", storage);
+        replaceModules(modules -> modules.withTypeResolverStorage(storage));
     }
 
     /**
@@ -124,46 +130,35 @@ public final class StringRepresentationResolvingModuleFactory {
      */
     public static void replaceTypeVariableMapper(
             ResolvingModuleFactoryMethod<String, TypeVariableMapper<String>> mapper) {
-        TYPE_VARIABLE_MAPPER_LOCK.writeLock().lock();
-        log.info(() -> String
-                .format("Replacing TypeVariableMapper by '%s'.", mapper == null ? null : mapper.getClass().getName()));
-        StringRepresentationResolvingModuleFactory.typeVariableMapper = mapper;
-        TYPE_VARIABLE_MAPPER_LOCK.writeLock().unlock();
-        if (StringRepresentationResolvingContextManager.isAutoRefreshContext()) {
-            StringRepresentationResolvingContextManager.refreshContext();
-        }
+        logReplacement("TypeVariableMapper", mapper);
+        replaceModules(modules -> modules.withTypeVariableMapper(mapper));
     }
 
     /**
      * Returns current instance of <code>ResolvingModuleFactoryMethod</code> for <code>TypeResolverPicker</code>.
      */
     public static ResolvingModuleFactoryMethod<String, TypeResolverPicker<String>> typeResolverPicker() {
-        TYPE_RESOLVER_PICKER_LOCK.readLock().lock();
-        ResolvingModuleFactoryMethod<String, TypeResolverPicker<String>> pickerToReturn
-                = StringRepresentationResolvingModuleFactory.typeResolverPicker;
-        TYPE_RESOLVER_PICKER_LOCK.readLock().unlock();
-        return pickerToReturn;
+        return MODULES.get().getTypeResolverPicker();
     }
 
     /**
      * Returns current instance of <code>ResolvingModuleFactoryMethod</code> for <code>TypeResolverStorage</code>.
      */
     public static ResolvingModuleFactoryMethod<String, TypeResolverStorage<String>> typeResolverStorage() {
-        TYPE_RESOLVER_STORAGE_LOCK.readLock().lock();
-        ResolvingModuleFactoryMethod<String, TypeResolverStorage<String>> storageToReturn
-                = StringRepresentationResolvingModuleFactory.typeResolverStorage;
-        TYPE_RESOLVER_STORAGE_LOCK.readLock().unlock();
-        return storageToReturn;
+        return MODULES.get().getTypeResolverStorage();
     }
 
     /**
      * Returns current instance of <code>ResolvingModuleFactoryMethod</code> for <code>TypeVariableMapper</code>.
      */
     public static ResolvingModuleFactoryMethod<String, TypeVariableMapper<String>> typeVariableMapper() {
-        TYPE_VARIABLE_MAPPER_LOCK.readLock().lock();
-        ResolvingModuleFactoryMethod<String, TypeVariableMapper<String>> mapperToReturn
-                = StringRepresentationResolvingModuleFactory.typeVariableMapper;
-        TYPE_VARIABLE_MAPPER_LOCK.readLock().unlock();
-        return mapperToReturn;
+        return MODULES.get().getTypeVariableMapper();
+    }
+
+    private static void logReplacement(String moduleName, Object factoryMethod) {
+        if (log.isInfoEnabled()) {
+            log.info(String.format("Replacing %s by '%s'.", moduleName,
+                    factoryMethod == null ? null : factoryMethod.getClass().getName()));
+        }
     }
 }
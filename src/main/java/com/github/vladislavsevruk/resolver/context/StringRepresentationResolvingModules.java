@@ -0,0 +1,111 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Uladzislau Seuruk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.vladislavsevruk.resolver.context;
+
+import com.github.vladislavsevruk.resolver.resolver.picker.TypeResolverPicker;
+import com.github.vladislavsevruk.resolver.resolver.storage.TypeResolverStorage;
+import com.github.vladislavsevruk.resolver.type.mapper.TypeVariableMapper;
+import com.github.vladislavsevruk.resolver.type.storage.MappedVariableHierarchyStorage;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.experimental.FieldDefaults;
+
+/**
+ * Immutable set of <code>ResolvingModuleFactoryMethod</code>-s for modules required for string representation of
+ * generic types resolving mechanism. <code>null</code> factory method means that default module implementation
+ * should be used.
+ *
+ * @see StringRepresentationResolvingModuleFactory
+ */
+@FieldDefaults(makeFinal = true, level = AccessLevel.PRIVATE)
+@Getter
+public final class StringRepresentationResolvingModules {
+
+    static final StringRepresentationResolvingModules DEFAULT_MODULES = new StringRepresentationResolvingModules(null,
+            null, null, null);
+
+    ResolvingModuleFactoryMethod<String, MappedVariableHierarchyStorage<String>> mappedVariableHierarchyStorage;
+    ResolvingModuleFactoryMethod<String, TypeResolverPicker<String>> typeResolverPicker;
+    ResolvingModuleFactoryMethod<String, TypeResolverStorage<String>> typeResolverStorage;
+    ResolvingModuleFactoryMethod<String, TypeVariableMapper<String>> typeVariableMapper;
+
+    private StringRepresentationResolvingModules(
+            ResolvingModuleFactoryMethod<String, MappedVariableHierarchyStorage<String>> mappedVariableHierarchyStorage,
+            ResolvingModuleFactoryMethod<String, TypeResolverPicker<String>> typeResolverPicker,
+            ResolvingModuleFactoryMethod<String, TypeResolverStorage<String>> typeResolverStorage,
+            ResolvingModuleFactoryMethod<String, TypeVariableMapper<String>> typeVariableMapper) {
+        this.mappedVariableHierarchyStorage = mappedVariableHierarchyStorage;
+        this.typeResolverPicker = typeResolverPicker;
+        this.typeResolverStorage = typeResolverStorage;
+        this.typeVariableMapper = typeVariableMapper;
+    }
+
+    /**
+     * Returns copy of current modules with received <code>ResolvingModuleFactoryMethod</code> for
+     * <code>MappedVariableHierarchyStorage</code>.
+     *
+     * @param storage new instance of <code>ResolvingModuleFactoryMethod</code> for <code>MappedVariableHierarchyStorage</code>.
+     */
+    public StringRepresentationResolvingModules withMappedVariableHierarchyStorage(
+            ResolvingModuleFactoryMethod<String, MappedVariableHierarchyStorage<String>> storage) {
+        return new StringRepresentationResolvingModules(storage, typeResolverPicker, typeResolverStorage,
+                typeVariableMapper);
+    }
+
+    /**
+     * Returns copy of current modules with received <code>ResolvingModuleFactoryMethod</code> for
+     * <code>TypeResolverPicker</code>.
+     *
+     * @param picker new instance of <code>ResolvingModuleFactoryMethod</code> for <code>TypeResolverPicker</code>.
+     */
+    public StringRepresentationResolvingModules withTypeResolverPicker(
+            ResolvingModuleFactoryMethod<String, TypeResolverPicker<String>> picker) {
+        return new StringRepresentationResolvingModules(mappedVariableHierarchyStorage, picker, typeResolverStorage,
+                typeVariableMapper);
+    }
+
+    /**
+     * Returns copy of current modules with received <code>ResolvingModuleFactoryMethod</code> for
+     * <code>TypeResolverStorage</code>.
+     *
+     * @param storage new instance of <code>ResolvingModuleFactoryMethod</code> for <code>TypeResolverStorage</code>.
+     */
+    public StringRepresentationResolvingModules withTypeResolverStorage(
+            ResolvingModuleFactoryMethod<String, TypeResolverStorage<String>> storage) {
+        return new StringRepresentationResolvingModules(mappedVariableHierarchyStorage, typeResolverPicker, storage,
+                typeVariableMapper);
+    }
+
+    /**
+     * Returns copy of current modules with received <code>ResolvingModuleFactoryMethod</code> for
+     * <code>TypeVariableMapper</code>.
+     *
+     * @param mapper new instance of <code>ResolvingModuleFactoryMethod</code> for <code>TypeVariableMapper</code>.
+     */
+    public StringRepresentationResolvingModules withTypeVariableMapper(
+            ResolvingModuleFactoryMethod<String, TypeVariableMapper<String>> mapper) {
+        return new StringRepresentationResolvingModules(mappedVariableHierarchyStorage, typeResolverPicker,
+                typeResolverStorage, mapper);
+    }
+}
@@ -0,0 +1,116 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Uladzislau Seuruk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.vladislavsevruk.resolver.context;
+
+import com.github.vladislavsevruk.resolver.resolver.picker.TypeResolverPicker;
+import com.github.vladislavsevruk.resolver.resolver.storage.TypeResolverStorage;
+import com.github.vladislavsevruk.resolver.type.mapper.TypeVariableMapper;
+import com.github.vladislavsevruk.resolver.type.storage.MappedVariableHierarchyStorage;
+
+import java.util.function.Function;
+import java.util.function.UnaryOperator;
+
+/**
+ * Stages replacements of modules required for string representation of generic types resolving mechanism and applies
+ * them at once on commit. Staged replacements are applied on top of modules that are actual on commit and resolving
+ * context is refreshed only once so readers never get context with partially applied changes. Instances are not
+ * thread-safe and can be committed only once.
+ *
+ * @see StringRepresentationResolvingModuleFactory#beginTransaction()
+ */
+public final class StringRepresentationResolvingModulesTransaction {
+
+    private Function<StringRepresentationResolvingModules, StringRepresentationResolvingModules> changes = Function
+            .identity();
+    private boolean committed;
+
+    StringRepresentationResolvingModulesTransaction() {
+    }
+
+    /**
+     * Applies all staged replacements and refreshes resolving context once if context auto refresh is enabled.
+     *
+     * @throws IllegalStateException if transaction was already committed.
+     */
+    public void commit() {
+        if (committed) {
+            throw new IllegalStateException("Transaction was already committed.");
+        }
+        committed = true;
+        StringRepresentationResolvingModuleFactory.replaceModules(changes::apply);
+    }
+
+    /**
+     * Stages replacement of <code>ResolvingModuleFactoryMethod</code> for <code>MappedVariableHierarchyStorage</code>.
+     *
+     * @param storage new instance of <code>ResolvingModuleFactoryMethod</code> for <code>MappedVariableHierarchyStorage</code>.
+     * @return this transaction.
+     */
+    public StringRepresentationResolvingModulesTransaction replaceMappedVariableHierarchyStorage(
+            ResolvingModuleFactoryMethod<String, MappedVariableHierarchyStorage<String>> storage) {
+        return stage(modules -> modules.withMappedVariableHierarchyStorage(storage));
+    }
+
+    /**
+     * Stages replacement of <code>ResolvingModuleFactoryMethod</code> for <code>TypeResolverPicker</code>.
+     *
+     * @param picker new instance of <code>ResolvingModuleFactoryMethod</code> for <code>TypeResolverPicker</code>.
+     * @return this transaction.
+     */
+    public StringRepresentationResolvingModulesTransaction replaceTypeResolverPicker(
+            ResolvingModuleFactoryMethod<String, TypeResolverPicker<String>> picker) {
+        return stage(modules -> modules.withTypeResolverPicker(picker));
+    }
+
+    /**
+     * Stages replacement of <code>ResolvingModuleFactoryMethod</code> for <code>TypeResolverStorage</code>.
+     *
+     * @param storage new instance of <code>ResolvingModuleFactoryMethod</code> for <code>TypeResolverStorage</code>.
+     * @return this transaction.
+     */
+    public StringRepresentationResolvingModulesTransaction replaceTypeResolverStorage(
+            ResolvingModuleFactoryMethod<String, TypeResolverStorage<String>> storage) {
+        return stage(modules -> modules.withTypeResolverStorage(storage));
+    }
+
+    /**
+     * Stages replacement of <code>ResolvingModuleFactoryMethod</code> for <code>TypeVariableMapper</code>.
+     *
+     * @param mapper new instance of <code>ResolvingModuleFactoryMethod</code> for <code>TypeVariableMapper</code>.
+     * @return this transaction.
+     */
+    public StringRepresentationResolvingModulesTransaction replaceTypeVariableMapper(
+            ResolvingModuleFactoryMethod<String, TypeVariableMapper<String>> mapper) {
+        return stage(modules -> modules.withTypeVariableMapper(mapper));
+    }
+
+    private StringRepresentationResolvingModulesTransaction stage(
+            UnaryOperator<StringRepresentationResolvingModules> change) {
+        if (committed) {
+            throw new IllegalStateException("Transaction was already committed.");
+        }
+        changes = changes.andThen(change);
+        return this;
+    }
+}
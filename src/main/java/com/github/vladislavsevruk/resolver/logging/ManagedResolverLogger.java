@@ -0,0 +1,96 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Uladzislau Seuruk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.vladislavsevruk.resolver.logging;
+
+/**
+ * Implementation of <code>ResolverLogger</code> that delegates to logger created by current factory from
+ * <code>ResolverLoggerManager</code>. Delegate is created once per factory and reused while factory stays the same.
+ *
+ * @see ResolverLoggerManager
+ */
+final class ManagedResolverLogger implements ResolverLogger {
+
+    private final Class<?> loggingClass;
+    private volatile Binding binding;
+
+    ManagedResolverLogger(Class<?> loggingClass) {
+        this.loggingClass = loggingClass;
+    }
+
+    @Override
+    public void debug(String message) {
+        getDelegate().debug(message);
+    }
+
+    @Override
+    public void info(String message) {
+        getDelegate().info(message);
+    }
+
+    @Override
+    public boolean isDebugEnabled() {
+        return getDelegate().isDebugEnabled();
+    }
+
+    @Override
+    public boolean isInfoEnabled() {
+        return getDelegate().isInfoEnabled();
+    }
+
+    @Override
+    public boolean isWarnEnabled() {
+        return getDelegate().isWarnEnabled();
+    }
+
+    @Override
+    public void warn(String message) {
+        getDelegate().warn(message);
+    }
+
+    @Override
+    public void warn(String message, Throwable cause) {
+        getDelegate().warn(message, cause);
+    }
+
+    private ResolverLogger getDelegate() {
+        ResolverLoggerFactory loggerFactory = ResolverLoggerManager.getLoggerFactory();
+        Binding currentBinding = binding;
+        if (currentBinding == null || currentBinding.loggerFactory != loggerFactory) {
+            currentBinding = new Binding(loggerFactory, loggerFactory.getLogger(loggingClass));
+            binding = currentBinding;
+        }
+        return currentBinding.logger;
+    }
+
+    private static final class Binding {
+
+        private final ResolverLogger logger;
+        private final ResolverLoggerFactory loggerFactory;
+
+        private Binding(ResolverLoggerFactory loggerFactory, ResolverLogger logger) {
+            this.loggerFactory = loggerFactory;
+            this.logger = logger;
+        }
+    }
+}
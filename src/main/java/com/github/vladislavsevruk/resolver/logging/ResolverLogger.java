@@ -0,0 +1,77 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Uladzislau Seuruk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.vladislavsevruk.resolver.logging;
+
+/**
+ * Thin logging facade used by library. Messages are passed as ready strings so callers should check if level is
+ * enabled before building message to avoid any allocation when level is disabled.
+ *
+ * @see ResolverLoggerManager
+ */
+public interface ResolverLogger {
+
+    /**
+     * Logs message at debug level.
+     *
+     * @param message message to log.
+     */
+    void debug(String message);
+
+    /**
+     * Logs message at info level.
+     *
+     * @param message message to log.
+     */
+    void info(String message);
+
+    /**
+     * Returns <code>true</code> if messages at debug level are logged, <code>false</code> otherwise.
+     */
+    boolean isDebugEnabled();
+
+    /**
+     * Returns <code>true</code> if messages at info level are logged, <code>false</code> otherwise.
+     */
+    boolean isInfoEnabled();
+
+    /**
+     * Returns <code>true</code> if messages at warn level are logged, <code>false</code> otherwise.
+     */
+    boolean isWarnEnabled();
+
+    /**
+     * Logs message at warn level.
+     *
+     * @param message message to log.
+     */
+    void warn(String message);
+
+    /**
+     * Logs message with cause at warn level.
+     *
+     * @param message message to log.
+     * @param cause   <code>Throwable</code> that caused this message.
+     */
+    void warn(String message, Throwable cause);
+}
@@ -0,0 +1,69 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Uladzislau Seuruk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.vladislavsevruk.resolver.logging;
+
+/**
+ * Provides loggers for library classes. Returned loggers delegate to logger created by current
+ * <code>ResolverLoggerFactory</code> so factory can be replaced at any moment, e.g. after library classes were already
+ * loaded. By default all messages are discarded.
+ *
+ * @see NoOpResolverLogger
+ * @see ResolverLoggerFactory
+ */
+public final class ResolverLoggerManager {
+
+    private static final ResolverLoggerFactory NO_OP_LOGGER_FACTORY = loggingClass -> NoOpResolverLogger.INSTANCE;
+    private static volatile ResolverLoggerFactory loggerFactory = NO_OP_LOGGER_FACTORY;
+
+    private ResolverLoggerManager() {
+    }
+
+    /**
+     * Returns logger for received class.
+     *
+     * @param loggingClass class that logs messages.
+     * @return <code>ResolverLogger</code> that delegates to logger created by current factory.
+     */
+    public static ResolverLogger getLogger(Class<?> loggingClass) {
+        return new ManagedResolverLogger(loggingClass);
+    }
+
+    /**
+     * Returns current logger factory.
+     *
+     * @return current <code>ResolverLoggerFactory</code>.
+     */
+    public static ResolverLoggerFactory getLoggerFactory() {
+        return loggerFactory;
+    }
+
+    /**
+     * Replaces current logger factory. All loggers will delegate to loggers created by new factory.
+     *
+     * @param resolverLoggerFactory new <code>ResolverLoggerFactory</code> or <code>null</code> to disable logging.
+     */
+    public static void setLoggerFactory(ResolverLoggerFactory resolverLoggerFactory) {
+        loggerFactory = resolverLoggerFactory == null ? NO_OP_LOGGER_FACTORY : resolverLoggerFactory;
+    }
+}
@@ -0,0 +1,151 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Uladzislau Seuruk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.vladislavsevruk.resolver.metrics;
+
+import java.lang.reflect.Type;
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Implementation of <code>ResolverMetrics</code> that keeps metrics in memory. Counts resolutions and keeps latency
+ * histograms per resolver class, counts cache hits and misses per cache owner and counts context refreshes. Recorded
+ * values can be queried at any moment, e.g. by tests.
+ *
+ * @see ResolverMetrics
+ */
+public final class InMemoryResolverMetrics implements ResolverMetrics {
+
+    private final ConcurrentMap<Class<?>, CacheStatistics> cacheStatistics = new ConcurrentHashMap<>();
+    private final LongAdder contextRefreshCount = new LongAdder();
+    private final ConcurrentMap<Class<?>, LatencyHistogram> latencyHistograms = new ConcurrentHashMap<>();
+
+    /**
+     * Returns number of cache hits of received cache owner.
+     *
+     * @param cacheOwner class of component that owns cache.
+     * @return number of cache hits.
+     */
+    public long getCacheHitCount(Class<?> cacheOwner) {
+        CacheStatistics statistics = cacheStatistics.get(cacheOwner);
+        return statistics == null ? 0 : statistics.hits.sum();
+    }
+
+    /**
+     * Returns ratio of cache hits to all cache accesses of received cache owner.
+     *
+     * @param cacheOwner class of component that owns cache.
+     * @return cache hit ratio from <code>0</code> to <code>1</code> or <code>0</code> if cache wasn't accessed.
+     */
+    public double getCacheHitRatio(Class<?> cacheOwner) {
+        long hits = getCacheHitCount(cacheOwner);
+        long accesses = hits + getCacheMissCount(cacheOwner);
+        return accesses == 0 ? 0 : (double) hits / accesses;
+    }
+
+    /**
+     * Returns number of cache misses of received cache owner.
+     *
+     * @param cacheOwner class of component that owns cache.
+     * @return number of cache misses.
+     */
+    public long getCacheMissCount(Class<?> cacheOwner) {
+        CacheStatistics statistics = cacheStatistics.get(cacheOwner);
+        return statistics == null ? 0 : statistics.misses.sum();
+    }
+
+    /**
+     * Returns number of resolving context refreshes.
+     *
+     * @return number of context refreshes.
+     */
+    public long getContextRefreshCount() {
+        return contextRefreshCount.sum();
+    }
+
+    /**
+     * Returns latency histogram of received resolver class.
+     *
+     * @param resolverClass class of resolver.
+     * @return <code>LatencyHistogram</code> of resolver or <code>null</code> if resolver didn't report any resolution.
+     */
+    public LatencyHistogram getLatencyHistogram(Class<?> resolverClass) {
+        return latencyHistograms.get(resolverClass);
+    }
+
+    /**
+     * Returns number of resolutions performed by received resolver class.
+     *
+     * @param resolverClass class of resolver.
+     * @return number of resolutions.
+     */
+    public long getResolveCount(Class<?> resolverClass) {
+        LatencyHistogram histogram = latencyHistograms.get(resolverClass);
+        return histogram == null ? 0 : histogram.getCount();
+    }
+
+    /**
+     * Returns classes of resolvers that reported resolutions.
+     *
+     * @return unmodifiable set of resolver classes.
+     */
+    public Set<Class<?>> getResolverClasses() {
+        return Collections.unmodifiableSet(latencyHistograms.keySet());
+    }
+
+    @Override
+    public void recordCacheAccess(Class<?> cacheOwner, boolean hit) {
+        CacheStatistics statistics = cacheStatistics.computeIfAbsent(cacheOwner, key -> new CacheStatistics());
+        (hit ? statistics.hits : statistics.misses).increment();
+    }
+
+    @Override
+    public void recordContextRefresh() {
+        contextRefreshCount.increment();
+    }
+
+    /**
+     * Removes all recorded metrics.
+     */
+    public void reset() {
+        cacheStatistics.clear();
+        contextRefreshCount.reset();
+        latencyHistograms.clear();
+    }
+
+    @Override
+    public ResolutionSample startResolution(Class<?> resolverClass, Type type) {
+        long startTime = System.nanoTime();
+        return () -> latencyHistograms.computeIfAbsent(resolverClass, key -> new LatencyHistogram())
+                .record(System.nanoTime() - startTime);
+    }
+
+    private static final class CacheStatistics {
+
+        private final LongAdder hits = new LongAdder();
+        private final LongAdder misses = new LongAdder();
+    }
+}
@@ -0,0 +1,139 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Uladzislau Seuruk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.vladislavsevruk.resolver.metrics;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Thread-safe histogram of latencies in nanoseconds. Values are counted at exponential buckets: bucket with index
+ * <code>i</code> keeps values from <code>2^(i-1)</code> to <code>2^i - 1</code> nanoseconds, bucket with index
+ * <code>0</code> keeps zero values.
+ */
+public final class LatencyHistogram {
+
+    public static final int BUCKETS_COUNT = Long.SIZE;
+    private final AtomicLongArray buckets = new AtomicLongArray(BUCKETS_COUNT);
+    private final LongAdder count = new LongAdder();
+    private final LongAccumulator maximum = new LongAccumulator(Math::max, 0L);
+    private final LongAdder total = new LongAdder();
+
+    /**
+     * Returns upper bound of bucket with received index.
+     *
+     * @param index index of bucket.
+     * @return maximum value in nanoseconds that is counted at bucket.
+     */
+    public static long getBucketUpperBound(int index) {
+        return index == BUCKETS_COUNT - 1 ? Long.MAX_VALUE : (1L << index) - 1;
+    }
+
+    /**
+     * Returns number of values counted at bucket with received index.
+     *
+     * @param index index of bucket.
+     * @return number of values at bucket.
+     */
+    public long getBucketCount(int index) {
+        return buckets.get(index);
+    }
+
+    /**
+     * Returns number of recorded values.
+     *
+     * @return number of recorded values.
+     */
+    public long getCount() {
+        return count.sum();
+    }
+
+    /**
+     * Returns maximum recorded value in nanoseconds.
+     *
+     * @return maximum recorded value in nanoseconds or <code>0</code> if no values were recorded.
+     */
+    public long getMaxNanos() {
+        return maximum.get();
+    }
+
+    /**
+     * Returns mean of recorded values in nanoseconds.
+     *
+     * @return mean of recorded values in nanoseconds or <code>0</code> if no values were recorded.
+     */
+    public double getMeanNanos() {
+        long currentCount = count.sum();
+        return currentCount == 0 ? 0 : (double) total.sum() / currentCount;
+    }
+
+    /**
+     * Returns upper bound of bucket that contains value at received percentile.
+     *
+     * @param percentile percentile from <code>0</code> to <code>100</code>.
+     * @return approximated value at percentile in nanoseconds or <code>0</code> if no values were recorded.
+     */
+    public long getPercentileNanos(double percentile) {
+        if (percentile < 0 || percentile > 100) {
+            throw new IllegalArgumentException("Percentile should be between 0 and 100 but was: " + percentile);
+        }
+        long[] snapshot = new long[BUCKETS_COUNT];
+        long snapshotCount = 0;
+        for (int i = 0; i < BUCKETS_COUNT; ++i) {
+            snapshot[i] = buckets.get(i);
+            snapshotCount += snapshot[i];
+        }
+        long rank = (long) Math.ceil(snapshotCount * percentile / 100);
+        long accumulated = 0;
+        for (int i = 0; i < BUCKETS_COUNT; ++i) {
+            accumulated += snapshot[i];
+            if (accumulated >= rank && accumulated != 0) {
+                return Math.min(getBucketUpperBound(i), maximum.get());
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Returns sum of recorded values in nanoseconds.
+     *
+     * @return sum of recorded values in nanoseconds.
+     */
+    public long getTotalNanos() {
+        return total.sum();
+    }
+
+    /**
+     * Records received value.
+     *
+     * @param nanos latency in nanoseconds.
+     */
+    public void record(long nanos) {
+        long value = Math.max(nanos, 0L);
+        buckets.incrementAndGet(Math.min(Long.SIZE - Long.numberOfLeadingZeros(value), BUCKETS_COUNT - 1));
+        count.increment();
+        total.add(value);
+        maximum.accumulate(value);
+    }
+}
@@ -0,0 +1,61 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Uladzislau Seuruk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.vladislavsevruk.resolver.metrics;
+
+import java.lang.reflect.Type;
+
+/**
+ * Implementation of <code>ResolverMetrics</code> that records nothing. Used by default.
+ *
+ * @see ResolverMetrics
+ */
+public final class NoOpResolverMetrics implements ResolverMetrics {
+
+    public static final NoOpResolverMetrics INSTANCE = new NoOpResolverMetrics();
+    private static final ResolutionSample NO_OP_SAMPLE = () -> {
+    };
+
+    private NoOpResolverMetrics() {
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return false;
+    }
+
+    @Override
+    public void recordCacheAccess(Class<?> cacheOwner, boolean hit) {
+        // records nothing
+    }
+
+    @Override
+    public void recordContextRefresh() {
+        // records nothing
+    }
+
+    @Override
+    public ResolutionSample startResolution(Class<?> resolverClass, Type type) {
+        return NO_OP_SAMPLE;
+    }
+}
@@ -0,0 +1,68 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Uladzislau Seuruk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.vladislavsevruk.resolver.metrics;
+
+import java.lang.reflect.Type;
+
+/**
+ * Service provider interface for metrics of type resolution. Resolvers report every resolution, cache access and
+ * context refresh to metrics instance received from <code>ResolverMetricsManager</code>, so any metrics library can
+ * be bound by implementing this interface.
+ *
+ * @see InMemoryResolverMetrics
+ * @see NoOpResolverMetrics
+ * @see ResolverMetricsManager
+ */
+public interface ResolverMetrics {
+
+    /**
+     * Returns <code>true</code> if this instance records metrics, <code>false</code> otherwise. Resolvers skip any
+     * measurement if metrics are disabled.
+     */
+    default boolean isEnabled() {
+        return true;
+    }
+
+    /**
+     * Records access to cache.
+     *
+     * @param cacheOwner class of component that owns cache.
+     * @param hit        <code>true</code> if value was found at cache, <code>false</code> otherwise.
+     */
+    void recordCacheAccess(Class<?> cacheOwner, boolean hit);
+
+    /**
+     * Records refresh of resolving context.
+     */
+    void recordContextRefresh();
+
+    /**
+     * Starts measuring of single resolution. Returned sample should be stopped when resolution is completed.
+     *
+     * @param resolverClass class of resolver that performs resolution.
+     * @param type          type that is resolved or in scope of which member is resolved.
+     * @return started <code>ResolutionSample</code>.
+     */
+    ResolutionSample startResolution(Class<?> resolverClass, Type type);
+}
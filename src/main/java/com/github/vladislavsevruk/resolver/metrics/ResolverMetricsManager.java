@@ -0,0 +1,55 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Uladzislau Seuruk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.vladislavsevruk.resolver.metrics;
+
+/**
+ * Provides <code>ResolverMetrics</code> that resolvers report to. <code>NoOpResolverMetrics</code> is used by default.
+ *
+ * @see ResolverMetrics
+ */
+public final class ResolverMetricsManager {
+
+    private static volatile ResolverMetrics metrics = NoOpResolverMetrics.INSTANCE;
+
+    private ResolverMetricsManager() {
+    }
+
+    /**
+     * Returns current metrics.
+     *
+     * @return current <code>ResolverMetrics</code>.
+     */
+    public static ResolverMetrics getMetrics() {
+        return metrics;
+    }
+
+    /**
+     * Replaces current metrics. All further resolutions will be reported to new instance.
+     *
+     * @param resolverMetrics new <code>ResolverMetrics</code> or <code>null</code> to disable metrics.
+     */
+    public static void setMetrics(ResolverMetrics resolverMetrics) {
+        metrics = resolverMetrics == null ? NoOpResolverMetrics.INSTANCE : resolverMetrics;
+    }
+}
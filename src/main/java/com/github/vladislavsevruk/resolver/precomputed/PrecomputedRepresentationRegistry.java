@@ -0,0 +1,133 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Uladzislau Seuruk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.vladislavsevruk.resolver.precomputed;
+
+import com.github.vladislavsevruk.resolver.resolver.executable.ExecutableSignature;
+import com.github.vladislavsevruk.resolver.type.TypeMeta;
+import com.github.vladislavsevruk.resolver.util.ClassNameStyle;
+import com.github.vladislavsevruk.resolver.util.MemberDescriptor;
+
+import java.lang.reflect.Executable;
+import java.lang.reflect.Field;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.ServiceLoader;
+
+/**
+ * Registry of precomputed representation tables. Default registry discovers tables generated by annotation processor
+ * using <code>ServiceLoader</code> once on first access. Tables are generated for raw types so registry serves only
+ * type metas without generic types. Tables contain representations of default full name and short name resolving
+ * modules, so precomputed representations are provided only for one of these class name styles.<br>
+ * At GraalVM native image default registry is initialized at image build time, so discovered tables are kept at image
+ * heap and lookups don't require any reflective access at runtime.
+ *
+ * @see PrecomputedRepresentationTable
+ */
+public final class PrecomputedRepresentationRegistry {
+
+    private final Map<Class<?>, PrecomputedRepresentationTable> tables = new HashMap<>();
+
+    /**
+     * Creates registry with received tables.
+     *
+     * @param tables tables to register.
+     */
+    public PrecomputedRepresentationRegistry(Iterable<? extends PrecomputedRepresentationTable> tables) {
+        for (PrecomputedRepresentationTable table : tables) {
+            this.tables.put(table.getType(), table);
+        }
+    }
+
+    /**
+     * Returns registry with tables discovered at classpath.
+     *
+     * @return default <code>PrecomputedRepresentationRegistry</code>.
+     */
+    public static PrecomputedRepresentationRegistry getDefault() {
+        return DefaultRegistryHolder.INSTANCE;
+    }
+
+    /**
+     * Returns precomputed signature of received executable in scope of received type in received class name style.
+     *
+     * @param typeMeta       <code>TypeMeta</code> of type where executable should be resolved.
+     * @param executable     <code>Executable</code> to get signature for.
+     * @param classNameStyle style of class names at signature or <code>null</code> if it's unknown.
+     * @return precomputed <code>ExecutableSignature</code> or <code>null</code> if there is no precomputed signature
+     * for received executable and type or class name style is unknown.
+     */
+    public ExecutableSignature getExecutableSignature(TypeMeta<?> typeMeta, Executable executable,
+            ClassNameStyle classNameStyle) {
+        PrecomputedRepresentationTable table = findTable(typeMeta, classNameStyle);
+        return table == null ? null : table.getExecutableSignature(classNameStyle, MemberDescriptor.of(executable));
+    }
+
+    /**
+     * Returns precomputed representation of received field in scope of received type in received class name style.
+     *
+     * @param typeMeta       <code>TypeMeta</code> of type where field should be resolved.
+     * @param field          <code>Field</code> to get representation for.
+     * @param classNameStyle style of class names at representation or <code>null</code> if it's unknown.
+     * @return precomputed representation or <code>null</code> if there is no precomputed representation for received
+     * field and type or class name style is unknown.
+     */
+    public String getFieldRepresentation(TypeMeta<?> typeMeta, Field field, ClassNameStyle classNameStyle) {
+        PrecomputedRepresentationTable table = findTable(typeMeta, classNameStyle);
+        return table == null ? null : table.getFieldRepresentation(classNameStyle, MemberDescriptor.of(field));
+    }
+
+    /**
+     * Returns table generated for received type.
+     *
+     * @param type class to get table for.
+     * @return <code>PrecomputedRepresentationTable</code> or <code>null</code> if there is no table for received type.
+     */
+    public PrecomputedRepresentationTable getTable(Class<?> type) {
+        return tables.get(type);
+    }
+
+    /**
+     * Returns number of registered tables.
+     *
+     * @return number of tables.
+     */
+    public int size() {
+        return tables.size();
+    }
+
+    private PrecomputedRepresentationTable findTable(TypeMeta<?> typeMeta, ClassNameStyle classNameStyle) {
+        // representations of custom modules can't be precomputed
+        if (classNameStyle == null || tables.isEmpty() || typeMeta.isWildcard()
+                || typeMeta.getGenericTypes() != null && typeMeta.getGenericTypes().length != 0) {
+            return null;
+        }
+        return tables.get(typeMeta.getType());
+    }
+
+    private static final class DefaultRegistryHolder {
+
+        private static final PrecomputedRepresentationRegistry INSTANCE = new PrecomputedRepresentationRegistry(
+                ServiceLoader.load(PrecomputedRepresentationTable.class));
+    }
+}
@@ -0,0 +1,122 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Uladzislau Seuruk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.vladislavsevruk.resolver.precomputed;
+
+import com.github.vladislavsevruk.resolver.resolver.executable.ExecutableSignature;
+import com.github.vladislavsevruk.resolver.util.ClassNameStyle;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Base class for tables with precomputed representations of fields and executables of single type. Implementations
+ * are generated by annotation processor for types marked with <code>PrecomputedRepresentations</code> and keep
+ * full name and short name representations as static arrays: field table consists of pairs of field descriptor and
+ * representation, every row of executable table consists of descriptor with return type, parameter types and
+ * exception types.
+ *
+ * @see PrecomputedRepresentations
+ * @see com.github.vladislavsevruk.resolver.util.MemberDescriptor
+ */
+public abstract class PrecomputedRepresentationTable {
+
+    private final Map<String, ExecutableSignature> executableSignatures;
+    private final Map<String, String> fieldRepresentations;
+    private final Map<String, ExecutableSignature> shortNameExecutableSignatures;
+    private final Map<String, String> shortNameFieldRepresentations;
+    private final Class<?> type;
+
+    protected PrecomputedRepresentationTable(Class<?> type, String[] fieldTable, String[][][] executableTable,
+            String[] shortNameFieldTable, String[][][] shortNameExecutableTable) {
+        this.type = type;
+        this.fieldRepresentations = toFieldRepresentations(fieldTable);
+        this.executableSignatures = toExecutableSignatures(executableTable);
+        this.shortNameFieldRepresentations = toFieldRepresentations(shortNameFieldTable);
+        this.shortNameExecutableSignatures = toExecutableSignatures(shortNameExecutableTable);
+    }
+
+    private static Map<String, ExecutableSignature> toExecutableSignatures(String[][][] executableTable) {
+        Map<String, ExecutableSignature> executables = new HashMap<>();
+        for (String[][] row : executableTable) {
+            executables.put(row[0][0],
+                    new ExecutableSignature(row[0][1], Arrays.asList(row[1]), Arrays.asList(row[2])));
+        }
+        return Collections.unmodifiableMap(executables);
+    }
+
+    private static Map<String, String> toFieldRepresentations(String[] fieldTable) {
+        if (fieldTable.length % 2 != 0) {
+            throw new IllegalArgumentException("Field table should consist of descriptor and representation pairs.");
+        }
+        Map<String, String> fields = new HashMap<>();
+        for (int i = 0; i < fieldTable.length; i += 2) {
+            fields.put(fieldTable[i], fieldTable[i + 1]);
+        }
+        return Collections.unmodifiableMap(fields);
+    }
+
+    /**
+     * Returns precomputed signature of executable with received descriptor in received class name style.
+     *
+     * @param classNameStyle style of class names at signature.
+     * @param descriptor     descriptor of executable.
+     * @return precomputed <code>ExecutableSignature</code> or <code>null</code> if table has no such executable.
+     */
+    public ExecutableSignature getExecutableSignature(ClassNameStyle classNameStyle, String descriptor) {
+        return (classNameStyle == ClassNameStyle.SHORT_NAME ? shortNameExecutableSignatures : executableSignatures)
+                .get(descriptor);
+    }
+
+    /**
+     * Returns precomputed representation of field with received descriptor in received class name style.
+     *
+     * @param classNameStyle style of class names at representation.
+     * @param descriptor     descriptor of field.
+     * @return precomputed representation or <code>null</code> if table has no such field.
+     */
+    public String getFieldRepresentation(ClassNameStyle classNameStyle, String descriptor) {
+        return (classNameStyle == ClassNameStyle.SHORT_NAME ? shortNameFieldRepresentations : fieldRepresentations)
+                .get(descriptor);
+    }
+
+    /**
+     * Returns type this table was generated for.
+     *
+     * @return class of type.
+     */
+    public Class<?> getType() {
+        return type;
+    }
+
+    /**
+     * Returns number of precomputed field representations and executable signatures of single class name style.
+     *
+     * @return number of table entries.
+     */
+    public int size() {
+        return fieldRepresentations.size() + executableSignatures.size();
+    }
+}
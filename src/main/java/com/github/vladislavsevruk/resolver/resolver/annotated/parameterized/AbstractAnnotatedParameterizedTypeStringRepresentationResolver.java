@@ -24,6 +24,7 @@
 package com.github.vladislavsevruk.resolver.resolver.annotated.parameterized;
 
 import com.github.vladislavsevruk.resolver.resolver.picker.TypeResolverPicker;
+import com.github.vladislavsevruk.resolver.util.StringRepresentationRenderer;
 
 /**
  * Resolves string representation for annotated parameterized types.
@@ -45,6 +46,6 @@ public abstract class AbstractAnnotatedParameterizedTypeStringRepresentationReso
 
     @Override
     protected String createResolvedParameterizedType(Class<?> rawType, String[] resolvedArgumentTypes) {
-        return String.format("%s<%s>", createResolvedItem(rawType), String.join(", ", resolvedArgumentTypes));
+        return StringRepresentationRenderer.renderParameterizedType(createResolvedItem(rawType), resolvedArgumentTypes);
     }
 }
@@ -24,6 +24,7 @@
 package com.github.vladislavsevruk.resolver.resolver.annotated.parameterized;
 
 import com.github.vladislavsevruk.resolver.resolver.picker.TypeResolverPicker;
+import com.github.vladislavsevruk.resolver.util.ClassNameCache;
 
 /**
  * Resolves string representation for annotated parameterized types.
@@ -38,6 +39,6 @@ public final class FullNameAnnotatedParameterizedTypeStringRepresentationResolve
 
     @Override
     protected String createResolvedItem(Class<?> rawType) {
-        return rawType.getName();
+        return ClassNameCache.getName(rawType);
     }
 }
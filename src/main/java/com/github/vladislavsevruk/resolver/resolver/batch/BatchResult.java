@@ -0,0 +1,60 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Uladzislau Seuruk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.vladislavsevruk.resolver.resolver.batch;
+
+import com.github.vladislavsevruk.resolver.resolver.executable.ExecutableSignature;
+import lombok.Getter;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Immutable result of batch resolving with resolved field representations, method signatures and batch timing.
+ *
+ * @see BatchStringRepresentationResolver
+ */
+@Getter
+public final class BatchResult {
+
+    private final long elapsedNanos;
+    private final Map<ResolvingTask, ExecutableSignature> executableSignatures;
+    private final Map<ResolvingTask, String> fieldRepresentations;
+    private final int tasksCount;
+
+    BatchResult(Map<ResolvingTask, String> fieldRepresentations,
+            Map<ResolvingTask, ExecutableSignature> executableSignatures, int tasksCount, long elapsedNanos) {
+        this.fieldRepresentations = Collections.unmodifiableMap(fieldRepresentations);
+        this.executableSignatures = Collections.unmodifiableMap(executableSignatures);
+        this.tasksCount = tasksCount;
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    /**
+     * Returns number of tasks resolved per second during this batch.
+     */
+    public double getThroughput() {
+        return elapsedNanos == 0 ? 0 : tasksCount * (double) TimeUnit.SECONDS.toNanos(1) / elapsedNanos;
+    }
+}
@@ -0,0 +1,173 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Uladzislau Seuruk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.vladislavsevruk.resolver.resolver.batch;
+
+import com.github.vladislavsevruk.resolver.context.ResolvingContext;
+import com.github.vladislavsevruk.resolver.context.StringRepresentationResolvingContextManager;
+import com.github.vladislavsevruk.resolver.resolver.executable.ExecutableSignature;
+import com.github.vladislavsevruk.resolver.resolver.executable.ExecutableStringRepresentationResolver;
+import com.github.vladislavsevruk.resolver.resolver.field.FieldStringRepresentationResolver;
+import lombok.CustomLog;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Resolves large sets of fields and methods in parallel using <code>ForkJoinPool</code>. Every batch uses single
+ * resolving context snapshot taken at batch start, so refreshing of default resolving context during batch doesn't
+ * affect already started batches.
+ *
+ * @see ResolvingTask
+ * @see BatchResult
+ */
+@CustomLog
+public final class BatchStringRepresentationResolver {
+
+    public static final int DEFAULT_PARTITION_SIZE = 256;
+    private final Supplier<ResolvingContext<String>> contextSupplier;
+    private final int partitionSize;
+    private final ForkJoinPool pool;
+
+    public BatchStringRepresentationResolver() {
+        this(ForkJoinPool.commonPool());
+    }
+
+    public BatchStringRepresentationResolver(ForkJoinPool pool) {
+        this(pool, DEFAULT_PARTITION_SIZE);
+    }
+
+    public BatchStringRepresentationResolver(ForkJoinPool pool, int partitionSize) {
+        this(StringRepresentationResolvingContextManager::getContext, pool, partitionSize);
+    }
+
+    public BatchStringRepresentationResolver(ResolvingContext<String> context, ForkJoinPool pool, int partitionSize) {
+        this(() -> context, pool, partitionSize);
+    }
+
+    private BatchStringRepresentationResolver(Supplier<ResolvingContext<String>> contextSupplier, ForkJoinPool pool,
+            int partitionSize) {
+        if (partitionSize <= 0) {
+            throw new IllegalArgumentException("Partition size should be positive but was: " + partitionSize);
+        }
+        this.contextSupplier = contextSupplier;
+        this.pool = pool;
+        this.partitionSize = partitionSize;
+    }
+
+    /**
+     * Resolves received tasks in parallel. If any task fails whole batch fails with exception of that task.
+     *
+     * @param tasks tasks to resolve.
+     * @return <code>BatchResult</code> with resolved representations in order of received tasks.
+     */
+    public BatchResult resolve(Collection<ResolvingTask> tasks) {
+        long startTime = System.nanoTime();
+        ResolvingContext<String> context = contextSupplier.get();
+        ResolvingTask[] taskArray = tasks.toArray(new ResolvingTask[0]);
+        Object[] results = new Object[taskArray.length];
+        pool.invoke(new PartitionAction(new FieldStringRepresentationResolver(context),
+                new ExecutableStringRepresentationResolver(context), taskArray, results, 0, taskArray.length));
+        Map<ResolvingTask, String> fieldRepresentations = new LinkedHashMap<>();
+        Map<ResolvingTask, ExecutableSignature> executableSignatures = new LinkedHashMap<>();
+        for (int i = 0; i < taskArray.length; ++i) {
+            if (taskArray[i].isFieldTask()) {
+                fieldRepresentations.put(taskArray[i], (String) results[i]);
+            } else {
+                executableSignatures.put(taskArray[i], (ExecutableSignature) results[i]);
+            }
+        }
+        BatchResult batchResult = new BatchResult(fieldRepresentations, executableSignatures, taskArray.length,
+                System.nanoTime() - startTime);
+        if (log.isDebugEnabled()) {
+            log.debug(String.format("Resolved batch of %d tasks in %d ns (%.1f tasks per second).",
+                    batchResult.getTasksCount(), batchResult.getElapsedNanos(), batchResult.getThroughput()));
+        }
+        return batchResult;
+    }
+
+    /**
+     * Resolves tasks from received stream in parallel. Stream is consumed before resolving starts.
+     *
+     * @param tasks stream with tasks to resolve.
+     * @return <code>BatchResult</code> with resolved representations in order of received tasks.
+     */
+    public BatchResult resolve(Stream<ResolvingTask> tasks) {
+        List<ResolvingTask> taskList = tasks.collect(Collectors.toList());
+        return resolve(taskList);
+    }
+
+    private final class PartitionAction extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+        private final ExecutableStringRepresentationResolver executableResolver;
+        private final FieldStringRepresentationResolver fieldResolver;
+        private final int from;
+        private final Object[] results;
+        private final ResolvingTask[] tasks;
+        private final int to;
+
+        private PartitionAction(FieldStringRepresentationResolver fieldResolver,
+                ExecutableStringRepresentationResolver executableResolver, ResolvingTask[] tasks, Object[] results,
+                int from, int to) {
+            this.fieldResolver = fieldResolver;
+            this.executableResolver = executableResolver;
+            this.tasks = tasks;
+            this.results = results;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= partitionSize) {
+                for (int i = from; i < to; ++i) {
+                    results[i] = resolveTask(tasks[i]);
+                }
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            invokeAll(new PartitionAction(fieldResolver, executableResolver, tasks, results, from, middle),
+                    new PartitionAction(fieldResolver, executableResolver, tasks, results, middle, to));
+        }
+
+        private Object resolveTask(ResolvingTask task) {
+            if (task.isFieldTask()) {
+                return fieldResolver.resolveField(task.getTypeMeta(), (Field) task.getMember());
+            }
+            Method method = (Method) task.getMember();
+            List<String> parameterTypes = executableResolver.getParameterTypes(task.getTypeMeta(), method);
+            return new ExecutableSignature(executableResolver.getReturnType(task.getTypeMeta(), method),
+                    parameterTypes, executableResolver.getExceptionTypes(task.getTypeMeta(), method));
+        }
+    }
+}
@@ -0,0 +1,121 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Uladzislau Seuruk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.vladislavsevruk.resolver.resolver.batch;
+
+import com.github.vladislavsevruk.resolver.cache.TypeMemberKey;
+import com.github.vladislavsevruk.resolver.cache.TypeMetaKey;
+import com.github.vladislavsevruk.resolver.type.TypeMeta;
+import lombok.Getter;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Member;
+import java.lang.reflect.Method;
+
+/**
+ * Immutable task for batch resolving: field or method that should be resolved in scope of specific type. Two tasks
+ * are equal if they have structurally equal types and equal members.
+ *
+ * @see BatchStringRepresentationResolver
+ */
+public final class ResolvingTask {
+
+    private final TypeMemberKey key;
+    @Getter
+    private final Member member;
+    @Getter
+    private final TypeMeta<?> typeMeta;
+
+    private ResolvingTask(TypeMeta<?> typeMeta, Member member) {
+        this.typeMeta = typeMeta;
+        this.member = member;
+        this.key = new TypeMemberKey(TypeMetaKey.of(typeMeta), member);
+    }
+
+    /**
+     * Creates task for resolving type of received field in scope of received class.
+     *
+     * @param clazz <code>Class</code> where field should be resolved.
+     * @param field <code>Field</code> to resolve type for.
+     * @return new field resolving task.
+     */
+    public static ResolvingTask forField(Class<?> clazz, Field field) {
+        return forField(new TypeMeta<>(clazz), field);
+    }
+
+    /**
+     * Creates task for resolving type of received field in scope of received type.
+     *
+     * @param typeMeta <code>TypeMeta</code> of type where field should be resolved.
+     * @param field    <code>Field</code> to resolve type for.
+     * @return new field resolving task.
+     */
+    public static ResolvingTask forField(TypeMeta<?> typeMeta, Field field) {
+        return new ResolvingTask(typeMeta, field);
+    }
+
+    /**
+     * Creates task for resolving signature of received method in scope of received class.
+     *
+     * @param clazz  <code>Class</code> where method should be resolved.
+     * @param method <code>Method</code> to resolve signature for.
+     * @return new method resolving task.
+     */
+    public static ResolvingTask forMethod(Class<?> clazz, Method method) {
+        return forMethod(new TypeMeta<>(clazz), method);
+    }
+
+    /**
+     * Creates task for resolving signature of received method in scope of received type.
+     *
+     * @param typeMeta <code>TypeMeta</code> of type where method should be resolved.
+     * @param method   <code>Method</code> to resolve signature for.
+     * @return new method resolving task.
+     */
+    public static ResolvingTask forMethod(TypeMeta<?> typeMeta, Method method) {
+        return new ResolvingTask(typeMeta, method);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof ResolvingTask)) {
+            return false;
+        }
+        return key.equals(((ResolvingTask) o).key);
+    }
+
+    @Override
+    public int hashCode() {
+        return key.hashCode();
+    }
+
+    /**
+     * Returns <code>true</code> if this task resolves field type.
+     */
+    public boolean isFieldTask() {
+        return member instanceof Field;
+    }
+}
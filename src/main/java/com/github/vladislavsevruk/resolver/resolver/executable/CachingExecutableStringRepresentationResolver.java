@@ -0,0 +1,142 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Uladzislau Seuruk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.vladislavsevruk.resolver.resolver.executable;
+
+import com.github.vladislavsevruk.resolver.cache.BoundedConcurrentCache;
+import com.github.vladislavsevruk.resolver.cache.TypeMemberKey;
+import com.github.vladislavsevruk.resolver.cache.TypeMetaKey;
+import com.github.vladislavsevruk.resolver.context.ResolvingContext;
+import com.github.vladislavsevruk.resolver.metrics.ResolverMetricsManager;
+import com.github.vladislavsevruk.resolver.type.TypeMeta;
+import com.github.vladislavsevruk.resolver.type.TypeProvider;
+
+import java.lang.reflect.Method;
+import java.util.List;
+
+/**
+ * Implementation of <code>ExecutableTypeResolver</code> for string representation that resolves return, parameter
+ * and exception types of method once and caches them as <code>ExecutableSignature</code>. Cache has bounded size
+ * and is read without locking.
+ *
+ * @see ExecutableSignature
+ * @see ExecutableTypeResolver
+ */
+public final class CachingExecutableStringRepresentationResolver implements ExecutableTypeResolver<String> {
+
+    public static final int DEFAULT_MAXIMUM_SIZE = 10_000;
+    private final BoundedConcurrentCache<TypeMemberKey, ExecutableSignature> cache;
+    private final ExecutableTypeResolver<String> delegate;
+
+    public CachingExecutableStringRepresentationResolver() {
+        this(new ExecutableStringRepresentationResolver());
+    }
+
+    public CachingExecutableStringRepresentationResolver(ResolvingContext<String> context) {
+        this(new ExecutableStringRepresentationResolver(context));
+    }
+
+    public CachingExecutableStringRepresentationResolver(ExecutableTypeResolver<String> delegate) {
+        this(delegate, DEFAULT_MAXIMUM_SIZE);
+    }
+
+    public CachingExecutableStringRepresentationResolver(ExecutableTypeResolver<String> delegate, int maximumSize) {
+        this.delegate = delegate;
+        this.cache = new BoundedConcurrentCache<>(maximumSize);
+    }
+
+    /**
+     * Removes all cached signatures.
+     */
+    public void clearCache() {
+        cache.clear();
+    }
+
+    @Override
+    public List<String> getExceptionTypes(Class<?> clazz, Method method) {
+        return getExceptionTypes(new TypeMeta<>(clazz), method);
+    }
+
+    @Override
+    public List<String> getExceptionTypes(TypeMeta<?> typeMeta, Method method) {
+        return getSignature(typeMeta, method).getExceptionTypes();
+    }
+
+    @Override
+    public List<String> getExceptionTypes(TypeProvider<?> typeProvider, Method method) {
+        return getExceptionTypes(typeProvider.getTypeMeta(), method);
+    }
+
+    @Override
+    public List<String> getParameterTypes(Class<?> clazz, Method method) {
+        return getParameterTypes(new TypeMeta<>(clazz), method);
+    }
+
+    @Override
+    public List<String> getParameterTypes(TypeMeta<?> typeMeta, Method method) {
+        return getSignature(typeMeta, method).getParameterTypes();
+    }
+
+    @Override
+    public List<String> getParameterTypes(TypeProvider<?> typeProvider, Method method) {
+        return getParameterTypes(typeProvider.getTypeMeta(), method);
+    }
+
+    @Override
+    public String getReturnType(Class<?> clazz, Method method) {
+        return getReturnType(new TypeMeta<>(clazz), method);
+    }
+
+    @Override
+    public String getReturnType(TypeMeta<?> typeMeta, Method method) {
+        return getSignature(typeMeta, method).getReturnType();
+    }
+
+    @Override
+    public String getReturnType(TypeProvider<?> typeProvider, Method method) {
+        return getReturnType(typeProvider.getTypeMeta(), method);
+    }
+
+    /**
+     * Returns resolved signature of received method in scope of received type.
+     *
+     * @param typeMeta <code>TypeMeta</code> of type where method should be resolved.
+     * @param method   <code>Method</code> to resolve signature for.
+     * @return cached or newly resolved <code>ExecutableSignature</code>.
+     */
+    public ExecutableSignature getSignature(TypeMeta<?> typeMeta, Method method) {
+        TypeMemberKey key = new TypeMemberKey(TypeMetaKey.of(typeMeta), method);
+        ExecutableSignature signature = cache.get(key);
+        ResolverMetricsManager.getMetrics()
+                .recordCacheAccess(CachingExecutableStringRepresentationResolver.class, signature != null);
+        if (signature != null) {
+            return signature;
+        }
+        return cache.computeIfAbsent(key, k -> resolveSignature(typeMeta, method));
+    }
+
+    private ExecutableSignature resolveSignature(TypeMeta<?> typeMeta, Method method) {
+        return new ExecutableSignature(delegate.getReturnType(typeMeta, method),
+                delegate.getParameterTypes(typeMeta, method), delegate.getExceptionTypes(typeMeta, method));
+    }
+}
@@ -0,0 +1,120 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Uladzislau Seuruk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.vladislavsevruk.resolver.resolver.executable;
+
+import com.github.vladislavsevruk.resolver.cache.WeakInternPool;
+import com.github.vladislavsevruk.resolver.context.ResolvingContext;
+import com.github.vladislavsevruk.resolver.type.TypeMeta;
+import com.github.vladislavsevruk.resolver.type.TypeProvider;
+import lombok.Getter;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Implementation of <code>ExecutableTypeResolver</code> for string representation that replaces results of delegate
+ * resolver with canonical instances from <code>WeakInternPool</code>, so equal representations share single string
+ * instance and may be compared by identity.
+ *
+ * @see ExecutableTypeResolver
+ * @see WeakInternPool
+ */
+public final class CanonicalizingExecutableStringRepresentationResolver implements ExecutableTypeResolver<String> {
+
+    private final ExecutableTypeResolver<String> delegate;
+    @Getter
+    private final WeakInternPool<String> internPool;
+
+    public CanonicalizingExecutableStringRepresentationResolver() {
+        this(new ExecutableStringRepresentationResolver());
+    }
+
+    public CanonicalizingExecutableStringRepresentationResolver(ResolvingContext<String> context) {
+        this(new ExecutableStringRepresentationResolver(context));
+    }
+
+    public CanonicalizingExecutableStringRepresentationResolver(ExecutableTypeResolver<String> delegate) {
+        this(delegate, new WeakInternPool<>());
+    }
+
+    public CanonicalizingExecutableStringRepresentationResolver(ExecutableTypeResolver<String> delegate,
+            WeakInternPool<String> internPool) {
+        this.delegate = delegate;
+        this.internPool = internPool;
+    }
+
+    @Override
+    public List<String> getExceptionTypes(Class<?> clazz, Method method) {
+        return internAll(delegate.getExceptionTypes(clazz, method));
+    }
+
+    @Override
+    public List<String> getExceptionTypes(TypeMeta<?> typeMeta, Method method) {
+        return internAll(delegate.getExceptionTypes(typeMeta, method));
+    }
+
+    @Override
+    public List<String> getExceptionTypes(TypeProvider<?> typeProvider, Method method) {
+        return internAll(delegate.getExceptionTypes(typeProvider, method));
+    }
+
+    @Override
+    public List<String> getParameterTypes(Class<?> clazz, Method method) {
+        return internAll(delegate.getParameterTypes(clazz, method));
+    }
+
+    @Override
+    public List<String> getParameterTypes(TypeMeta<?> typeMeta, Method method) {
+        return internAll(delegate.getParameterTypes(typeMeta, method));
+    }
+
+    @Override
+    public List<String> getParameterTypes(TypeProvider<?> typeProvider, Method method) {
+        return internAll(delegate.getParameterTypes(typeProvider, method));
+    }
+
+    @Override
+    public String getReturnType(Class<?> clazz, Method method) {
+        return internPool.intern(delegate.getReturnType(clazz, method));
+    }
+
+    @Override
+    public String getReturnType(TypeMeta<?> typeMeta, Method method) {
+        return internPool.intern(delegate.getReturnType(typeMeta, method));
+    }
+
+    @Override
+    public String getReturnType(TypeProvider<?> typeProvider, Method method) {
+        return internPool.intern(delegate.getReturnType(typeProvider, method));
+    }
+
+    private List<String> internAll(List<String> representations) {
+        List<String> canonicalRepresentations = new ArrayList<>(representations.size());
+        for (String representation : representations) {
+            canonicalRepresentations.add(internPool.intern(representation));
+        }
+        return canonicalRepresentations;
+    }
+}
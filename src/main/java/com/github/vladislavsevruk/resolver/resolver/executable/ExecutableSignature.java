@@ -0,0 +1,65 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Uladzislau Seuruk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.vladislavsevruk.resolver.resolver.executable;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Immutable resolved signature of executable: return, parameter and exception types.
+ */
+@EqualsAndHashCode
+@Getter
+@ToString
+public final class ExecutableSignature {
+
+    private final List<String> exceptionTypes;
+    private final List<String> parameterTypes;
+    private final String returnType;
+
+    /**
+     * Creates new signature with received resolved types.
+     *
+     * @param returnType     resolved return type.
+     * @param parameterTypes resolved parameter types.
+     * @param exceptionTypes resolved exception types.
+     */
+    public ExecutableSignature(String returnType, List<String> parameterTypes, List<String> exceptionTypes) {
+        this.returnType = returnType;
+        this.parameterTypes = toImmutableList(parameterTypes);
+        this.exceptionTypes = toImmutableList(exceptionTypes);
+    }
+
+    private static List<String> toImmutableList(List<String> list) {
+        if (list.isEmpty()) {
+            return Collections.emptyList();
+        }
+        return Collections.unmodifiableList(Arrays.asList(list.toArray(new String[0])));
+    }
+}
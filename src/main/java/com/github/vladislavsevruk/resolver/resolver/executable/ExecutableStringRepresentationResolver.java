@@ -25,6 +25,30 @@ package com.github.vladislavsevruk.resolver.resolver.executable;
 
 import com.github.vladislavsevruk.resolver.context.ResolvingContext;
 import com.github.vladislavsevruk.resolver.context.StringRepresentationResolvingContextManager;
+import com.github.vladislavsevruk.resolver.metrics.ResolutionSample;
+import com.github.vladislavsevruk.resolver.metrics.ResolverMetrics;
+import com.github.vladislavsevruk.resolver.metrics.ResolverMetricsManager;
+import com.github.vladislavsevruk.resolver.resolver.picker.TypeResolverPicker;
+import com.github.vladislavsevruk.resolver.type.MappedVariableHierarchy;
+import com.github.vladislavsevruk.resolver.type.TypeMeta;
+import com.github.vladislavsevruk.resolver.type.TypeProvider;
+import com.github.vladislavsevruk.resolver.type.TypeVariableMap;
+
+import java.lang.reflect.Executable;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.IntStream;
 
 /**
  * Implementation of <code>ExecutableTypeResolver</code> for string representation.
@@ -33,11 +57,232 @@ import com.github.vladislavsevruk.resolver.context.StringRepresentationResolving
  */
 public final class ExecutableStringRepresentationResolver extends BaseExecutableTypeResolver<String> {
 
+    private static final String CONSTRUCTOR_RETURN_TYPE = "void";
+    private final ResolvingContext<String> context;
+
     public ExecutableStringRepresentationResolver() {
         this(StringRepresentationResolvingContextManager.getContext());
     }
 
     public ExecutableStringRepresentationResolver(ResolvingContext<String> context) {
         super(context);
+        this.context = context;
+    }
+
+    @Override
+    public List<String> getExceptionTypes(Class<?> clazz, Method method) {
+        return getExceptionTypes(new TypeMeta<>(clazz), method);
+    }
+
+    @Override
+    public List<String> getExceptionTypes(TypeMeta<?> typeMeta, Method method) {
+        ResolverMetrics metrics = ResolverMetricsManager.getMetrics();
+        if (!metrics.isEnabled()) {
+            return super.getExceptionTypes(typeMeta, method);
+        }
+        ResolutionSample sample = metrics
+                .startResolution(ExecutableStringRepresentationResolver.class, typeMeta.getType());
+        try {
+            return super.getExceptionTypes(typeMeta, method);
+        } finally {
+            sample.stop();
+        }
+    }
+
+    @Override
+    public List<String> getExceptionTypes(TypeProvider<?> typeProvider, Method method) {
+        return getExceptionTypes(typeProvider.getTypeMeta(), method);
+    }
+
+    @Override
+    public List<String> getParameterTypes(Class<?> clazz, Method method) {
+        return getParameterTypes(new TypeMeta<>(clazz), method);
+    }
+
+    @Override
+    public List<String> getParameterTypes(TypeMeta<?> typeMeta, Method method) {
+        ResolverMetrics metrics = ResolverMetricsManager.getMetrics();
+        if (!metrics.isEnabled()) {
+            return super.getParameterTypes(typeMeta, method);
+        }
+        ResolutionSample sample = metrics
+                .startResolution(ExecutableStringRepresentationResolver.class, typeMeta.getType());
+        try {
+            return super.getParameterTypes(typeMeta, method);
+        } finally {
+            sample.stop();
+        }
+    }
+
+    @Override
+    public List<String> getParameterTypes(TypeProvider<?> typeProvider, Method method) {
+        return getParameterTypes(typeProvider.getTypeMeta(), method);
+    }
+
+    @Override
+    public String getReturnType(Class<?> clazz, Method method) {
+        return getReturnType(new TypeMeta<>(clazz), method);
+    }
+
+    @Override
+    public String getReturnType(TypeMeta<?> typeMeta, Method method) {
+        ResolverMetrics metrics = ResolverMetricsManager.getMetrics();
+        if (!metrics.isEnabled()) {
+            return super.getReturnType(typeMeta, method);
+        }
+        ResolutionSample sample = metrics
+                .startResolution(ExecutableStringRepresentationResolver.class, typeMeta.getType());
+        try {
+            return super.getReturnType(typeMeta, method);
+        } finally {
+            sample.stop();
+        }
+    }
+
+    @Override
+    public String getReturnType(TypeProvider<?> typeProvider, Method method) {
+        return getReturnType(typeProvider.getTypeMeta(), method);
+    }
+
+    /**
+     * Resolves signatures of all constructors and declared or inherited methods of received class.
+     *
+     * @param clazz <code>Class</code> to resolve signatures for.
+     * @return map with executables and their signatures in order described at {@link #resolveSignatures(TypeMeta,
+     * boolean)}.
+     */
+    public Map<Executable, ExecutableSignature> resolveSignatures(Class<?> clazz) {
+        return resolveSignatures(new TypeMeta<>(clazz));
+    }
+
+    /**
+     * Resolves signatures of all constructors and declared or inherited methods of type received from type provider.
+     *
+     * @param typeProvider <code>TypeProvider</code> with type to resolve signatures for.
+     * @return map with executables and their signatures in order described at {@link #resolveSignatures(TypeMeta,
+     * boolean)}.
+     */
+    public Map<Executable, ExecutableSignature> resolveSignatures(TypeProvider<?> typeProvider) {
+        return resolveSignatures(typeProvider.getTypeMeta());
+    }
+
+    /**
+     * Resolves signatures of all constructors and declared or inherited methods of received type.
+     *
+     * @param typeMeta <code>TypeMeta</code> with type to resolve signatures for.
+     * @return map with executables and their signatures in order described at {@link #resolveSignatures(TypeMeta,
+     * boolean)}.
+     */
+    public Map<Executable, ExecutableSignature> resolveSignatures(TypeMeta<?> typeMeta) {
+        return resolveSignatures(typeMeta, false);
+    }
+
+    /**
+     * Resolves signatures of all constructors and declared or inherited methods of received type using single mapped
+     * variable hierarchy lookup and single type variable map per declaring class. Constructors of received type go
+     * first followed by methods of received type, its superclasses and implemented interfaces. Methods declared at
+     * <code>Object</code>, synthetic and bridge methods and methods overridden by subclass or implementing class are
+     * skipped. Constructors have <code>void</code> return type.
+     *
+     * @param typeMeta <code>TypeMeta</code> with type to resolve signatures for.
+     * @param parallel if <code>true</code> signatures are resolved in parallel using common fork/join pool.
+     * @return map with executables and their signatures.
+     */
+    public Map<Executable, ExecutableSignature> resolveSignatures(TypeMeta<?> typeMeta, boolean parallel) {
+        MappedVariableHierarchy<String> hierarchy = context.getMappedVariableHierarchyStorage().get(typeMeta);
+        List<Executable> executables = collectExecutables(typeMeta.getType());
+        Map<Class<?>, TypeVariableMap<String>> typeVariableMaps = new HashMap<>();
+        for (Executable executable : executables) {
+            typeVariableMaps.computeIfAbsent(executable.getDeclaringClass(), hierarchy::getTypeVariableMap);
+        }
+        TypeResolverPicker<String> typeResolverPicker = context.getTypeResolverPicker();
+        ExecutableSignature[] signatures = new ExecutableSignature[executables.size()];
+        IntStream indices = IntStream.range(0, signatures.length);
+        (parallel ? indices.parallel() : indices).forEach(i -> {
+            Executable executable = executables.get(i);
+            signatures[i] = resolveSignature(typeResolverPicker,
+                    typeVariableMaps.get(executable.getDeclaringClass()), executable);
+        });
+        Map<Executable, ExecutableSignature> resolvedSignatures = new LinkedHashMap<>();
+        for (int i = 0; i < signatures.length; ++i) {
+            resolvedSignatures.put(executables.get(i), signatures[i]);
+        }
+        return resolvedSignatures;
+    }
+
+    private void addInterfaces(Set<Class<?>> classes, Class<?> clazz) {
+        for (Class<?> implementedInterface : clazz.getInterfaces()) {
+            if (classes.add(implementedInterface)) {
+                addInterfaces(classes, implementedInterface);
+            }
+        }
+    }
+
+    private List<Executable> collectExecutables(Class<?> clazz) {
+        List<Executable> executables = new ArrayList<>(Arrays.asList(clazz.getDeclaredConstructors()));
+        Set<Class<?>> classes = new LinkedHashSet<>();
+        for (Class<?> current = clazz; current != null && current != Object.class;
+                current = current.getSuperclass()) {
+            classes.add(current);
+        }
+        for (Class<?> current : new ArrayList<>(classes)) {
+            addInterfaces(classes, current);
+        }
+        Set<List<Object>> overridableSignatures = new HashSet<>();
+        for (Class<?> current : classes) {
+            Method[] declaredMethods = current.getDeclaredMethods();
+            for (Method method : declaredMethods) {
+                if (!method.isSynthetic() && !method.isBridge() && !(isOverridable(method) && overridableSignatures
+                        .contains(getOverridableSignature(method)))) {
+                    executables.add(method);
+                }
+            }
+            // signatures are added after all methods of class are checked as covariant return type bridge method has
+            // the same signature as method it bridges
+            for (Method method : declaredMethods) {
+                if (isOverridable(method)) {
+                    overridableSignatures.add(getOverridableSignature(method));
+                }
+            }
+        }
+        return executables;
+    }
+
+    private List<Object> getOverridableSignature(Method method) {
+        Class<?>[] parameterTypes = method.getParameterTypes();
+        Object[] signature = new Object[parameterTypes.length + 1];
+        signature[0] = method.getName();
+        System.arraycopy(parameterTypes, 0, signature, 1, parameterTypes.length);
+        return Arrays.asList(signature);
+    }
+
+    private boolean isOverridable(Method method) {
+        return !Modifier.isPrivate(method.getModifiers()) && !Modifier.isStatic(method.getModifiers());
+    }
+
+    private ExecutableSignature resolveSignature(TypeResolverPicker<String> typeResolverPicker,
+            TypeVariableMap<String> typeVariableMap, Executable executable) {
+        String returnType = executable instanceof Method ? resolveType(typeResolverPicker, typeVariableMap,
+                ((Method) executable).getGenericReturnType()) : CONSTRUCTOR_RETURN_TYPE;
+        return new ExecutableSignature(returnType,
+                resolveTypes(typeResolverPicker, typeVariableMap, executable.getGenericParameterTypes()),
+                resolveTypes(typeResolverPicker, typeVariableMap, executable.getGenericExceptionTypes()));
+    }
+
+    private String resolveType(TypeResolverPicker<String> typeResolverPicker, TypeVariableMap<String> typeVariableMap,
+            Type type) {
+        return typeResolverPicker.pickTypeResolver(type).resolve(typeVariableMap, type);
+    }
+
+    private List<String> resolveTypes(TypeResolverPicker<String> typeResolverPicker,
+            TypeVariableMap<String> typeVariableMap, Type[] types) {
+        if (types.length == 0) {
+            return Collections.emptyList();
+        }
+        String[] resolvedTypes = new String[types.length];
+        for (int i = 0; i < types.length; ++i) {
+            resolvedTypes[i] = resolveType(typeResolverPicker, typeVariableMap, types[i]);
+        }
+        return Arrays.asList(resolvedTypes);
     }
 }
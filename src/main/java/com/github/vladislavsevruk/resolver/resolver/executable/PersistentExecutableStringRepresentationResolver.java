@@ -0,0 +1,126 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Uladzislau Seuruk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.vladislavsevruk.resolver.resolver.executable;
+
+import com.github.vladislavsevruk.resolver.cache.PersistentRepresentationStore;
+import com.github.vladislavsevruk.resolver.context.ResolvingContext;
+import com.github.vladislavsevruk.resolver.type.TypeMeta;
+import com.github.vladislavsevruk.resolver.type.TypeProvider;
+import lombok.Getter;
+
+import java.lang.reflect.Method;
+import java.util.List;
+
+/**
+ * Implementation of <code>ExecutableTypeResolver</code> for string representation that keeps signatures of all
+ * executables of resolved types at <code>PersistentRepresentationStore</code>. Signatures persisted by previous runs
+ * are used while bytecode of type hierarchy stays the same, so warm start skips resolution of known types entirely.
+ * Methods of types which fingerprint is unavailable are resolved by delegate resolver.
+ *
+ * @see ExecutableSignature
+ * @see ExecutableTypeResolver
+ * @see PersistentRepresentationStore
+ */
+public final class PersistentExecutableStringRepresentationResolver implements ExecutableTypeResolver<String> {
+
+    private final ExecutableStringRepresentationResolver delegate;
+    @Getter
+    private final PersistentRepresentationStore store;
+
+    public PersistentExecutableStringRepresentationResolver(PersistentRepresentationStore store) {
+        this(new ExecutableStringRepresentationResolver(), store);
+    }
+
+    public PersistentExecutableStringRepresentationResolver(ResolvingContext<String> context,
+            PersistentRepresentationStore store) {
+        this(new ExecutableStringRepresentationResolver(context), store);
+    }
+
+    public PersistentExecutableStringRepresentationResolver(ExecutableStringRepresentationResolver delegate,
+            PersistentRepresentationStore store) {
+        this.delegate = delegate;
+        this.store = store;
+    }
+
+    @Override
+    public List<String> getExceptionTypes(Class<?> clazz, Method method) {
+        return getExceptionTypes(new TypeMeta<>(clazz), method);
+    }
+
+    @Override
+    public List<String> getExceptionTypes(TypeMeta<?> typeMeta, Method method) {
+        return getSignature(typeMeta, method).getExceptionTypes();
+    }
+
+    @Override
+    public List<String> getExceptionTypes(TypeProvider<?> typeProvider, Method method) {
+        return getExceptionTypes(typeProvider.getTypeMeta(), method);
+    }
+
+    @Override
+    public List<String> getParameterTypes(Class<?> clazz, Method method) {
+        return getParameterTypes(new TypeMeta<>(clazz), method);
+    }
+
+    @Override
+    public List<String> getParameterTypes(TypeMeta<?> typeMeta, Method method) {
+        return getSignature(typeMeta, method).getParameterTypes();
+    }
+
+    @Override
+    public List<String> getParameterTypes(TypeProvider<?> typeProvider, Method method) {
+        return getParameterTypes(typeProvider.getTypeMeta(), method);
+    }
+
+    @Override
+    public String getReturnType(Class<?> clazz, Method method) {
+        return getReturnType(new TypeMeta<>(clazz), method);
+    }
+
+    @Override
+    public String getReturnType(TypeMeta<?> typeMeta, Method method) {
+        return getSignature(typeMeta, method).getReturnType();
+    }
+
+    @Override
+    public String getReturnType(TypeProvider<?> typeProvider, Method method) {
+        return getReturnType(typeProvider.getTypeMeta(), method);
+    }
+
+    /**
+     * Returns resolved signature of received method in scope of received type.
+     *
+     * @param typeMeta <code>TypeMeta</code> of type where method should be resolved.
+     * @param method   <code>Method</code> to resolve signature for.
+     * @return persisted or newly resolved <code>ExecutableSignature</code>.
+     */
+    public ExecutableSignature getSignature(TypeMeta<?> typeMeta, Method method) {
+        ExecutableSignature signature = store.getExecutableSignature(typeMeta, method, delegate::resolveSignatures);
+        if (signature == null) {
+            return new ExecutableSignature(delegate.getReturnType(typeMeta, method),
+                    delegate.getParameterTypes(typeMeta, method), delegate.getExceptionTypes(typeMeta, method));
+        }
+        return signature;
+    }
+}
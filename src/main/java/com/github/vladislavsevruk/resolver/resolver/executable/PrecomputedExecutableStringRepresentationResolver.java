@@ -0,0 +1,135 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Uladzislau Seuruk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.vladislavsevruk.resolver.resolver.executable;
+
+import com.github.vladislavsevruk.resolver.context.ResolvingContext;
+import com.github.vladislavsevruk.resolver.context.StringRepresentationResolvingContextManager;
+import com.github.vladislavsevruk.resolver.precomputed.PrecomputedRepresentationRegistry;
+import com.github.vladislavsevruk.resolver.type.TypeMeta;
+import com.github.vladislavsevruk.resolver.type.TypeProvider;
+import com.github.vladislavsevruk.resolver.util.ClassNameStyle;
+
+import java.lang.reflect.Method;
+import java.util.List;
+
+/**
+ * Implementation of <code>ExecutableTypeResolver</code> for string representation that uses signatures precomputed
+ * at build time by annotation processor and resolves methods without precomputed signature using delegate resolver.
+ *
+ * Precomputed representations are used only if class name style of representations produced by delegate resolver is
+ * known, i.e. delegate uses default full name or short name resolving modules.
+ *
+ * @see ExecutableTypeResolver
+ * @see PrecomputedRepresentationRegistry
+ */
+public final class PrecomputedExecutableStringRepresentationResolver implements ExecutableTypeResolver<String> {
+
+    private final ClassNameStyle classNameStyle;
+    private final ExecutableTypeResolver<String> delegate;
+    private final PrecomputedRepresentationRegistry registry;
+
+    public PrecomputedExecutableStringRepresentationResolver() {
+        this(StringRepresentationResolvingContextManager.getContext());
+    }
+
+    public PrecomputedExecutableStringRepresentationResolver(ResolvingContext<String> context) {
+        this(new ExecutableStringRepresentationResolver(context), ClassNameStyle.of(context));
+    }
+
+    /**
+     * Creates resolver with received delegate resolver.
+     *
+     * @param delegate       resolver for members without precomputed representations.
+     * @param classNameStyle class name style of representations produced by delegate resolver or <code>null</code> if
+     *                       delegate uses custom resolving modules, so precomputed representations shouldn't be used.
+     */
+    public PrecomputedExecutableStringRepresentationResolver(ExecutableTypeResolver<String> delegate,
+            ClassNameStyle classNameStyle) {
+        this(delegate, classNameStyle, PrecomputedRepresentationRegistry.getDefault());
+    }
+
+    public PrecomputedExecutableStringRepresentationResolver(ExecutableTypeResolver<String> delegate,
+            ClassNameStyle classNameStyle, PrecomputedRepresentationRegistry registry) {
+        this.delegate = delegate;
+        this.classNameStyle = classNameStyle;
+        this.registry = registry;
+    }
+
+    @Override
+    public List<String> getExceptionTypes(Class<?> clazz, Method method) {
+        return getExceptionTypes(new TypeMeta<>(clazz), method);
+    }
+
+    @Override
+    public List<String> getExceptionTypes(TypeMeta<?> typeMeta, Method method) {
+        ExecutableSignature signature = registry.getExecutableSignature(typeMeta, method, classNameStyle);
+        if (signature == null) {
+            return delegate.getExceptionTypes(typeMeta, method);
+        }
+        return signature.getExceptionTypes();
+    }
+
+    @Override
+    public List<String> getExceptionTypes(TypeProvider<?> typeProvider, Method method) {
+        return getExceptionTypes(typeProvider.getTypeMeta(), method);
+    }
+
+    @Override
+    public List<String> getParameterTypes(Class<?> clazz, Method method) {
+        return getParameterTypes(new TypeMeta<>(clazz), method);
+    }
+
+    @Override
+    public List<String> getParameterTypes(TypeMeta<?> typeMeta, Method method) {
+        ExecutableSignature signature = registry.getExecutableSignature(typeMeta, method, classNameStyle);
+        if (signature == null) {
+            return delegate.getParameterTypes(typeMeta, method);
+        }
+        return signature.getParameterTypes();
+    }
+
+    @Override
+    public List<String> getParameterTypes(TypeProvider<?> typeProvider, Method method) {
+        return getParameterTypes(typeProvider.getTypeMeta(), method);
+    }
+
+    @Override
+    public String getReturnType(Class<?> clazz, Method method) {
+        return getReturnType(new TypeMeta<>(clazz), method);
+    }
+
+    @Override
+    public String getReturnType(TypeMeta<?> typeMeta, Method method) {
+        ExecutableSignature signature = registry.getExecutableSignature(typeMeta, method, classNameStyle);
+        if (signature == null) {
+            return delegate.getReturnType(typeMeta, method);
+        }
+        return signature.getReturnType();
+    }
+
+    @Override
+    public String getReturnType(TypeProvider<?> typeProvider, Method method) {
+        return getReturnType(typeProvider.getTypeMeta(), method);
+    }
+}
@@ -0,0 +1,105 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Uladzislau Seuruk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.vladislavsevruk.resolver.resolver.field;
+
+import com.github.vladislavsevruk.resolver.cache.BoundedConcurrentCache;
+import com.github.vladislavsevruk.resolver.cache.TypeMemberKey;
+import com.github.vladislavsevruk.resolver.cache.TypeMetaKey;
+import com.github.vladislavsevruk.resolver.cache.WeakInternPool;
+import com.github.vladislavsevruk.resolver.context.ResolvingContext;
+import com.github.vladislavsevruk.resolver.metrics.ResolverMetricsManager;
+import com.github.vladislavsevruk.resolver.type.TypeMeta;
+import com.github.vladislavsevruk.resolver.type.TypeProvider;
+import lombok.Getter;
+
+import java.lang.reflect.Field;
+
+/**
+ * Implementation of <code>FieldTypeResolver</code> for string representation that caches results of delegate
+ * resolver. Cache is keyed by canonical key of received <code>TypeMeta</code> and field, has bounded size and
+ * keeps canonical representations from <code>WeakInternPool</code>.
+ *
+ * @see FieldTypeResolver
+ * @see WeakInternPool
+ */
+public final class CachingFieldStringRepresentationResolver implements FieldTypeResolver<String> {
+
+    public static final int DEFAULT_MAXIMUM_SIZE = 10_000;
+    private final BoundedConcurrentCache<TypeMemberKey, String> cache;
+    private final FieldTypeResolver<String> delegate;
+    @Getter
+    private final WeakInternPool<String> internPool;
+
+    public CachingFieldStringRepresentationResolver() {
+        this(new FieldStringRepresentationResolver());
+    }
+
+    public CachingFieldStringRepresentationResolver(ResolvingContext<String> context) {
+        this(new FieldStringRepresentationResolver(context));
+    }
+
+    public CachingFieldStringRepresentationResolver(FieldTypeResolver<String> delegate) {
+        this(delegate, DEFAULT_MAXIMUM_SIZE);
+    }
+
+    public CachingFieldStringRepresentationResolver(FieldTypeResolver<String> delegate, int maximumSize) {
+        this(delegate, maximumSize, new WeakInternPool<>());
+    }
+
+    public CachingFieldStringRepresentationResolver(FieldTypeResolver<String> delegate, int maximumSize,
+            WeakInternPool<String> internPool) {
+        this.delegate = delegate;
+        this.cache = new BoundedConcurrentCache<>(maximumSize);
+        this.internPool = internPool;
+    }
+
+    /**
+     * Removes all cached representations.
+     */
+    public void clearCache() {
+        cache.clear();
+    }
+
+    @Override
+    public String resolveField(Class<?> clazz, Field field) {
+        return resolveField(new TypeMeta<>(clazz), field);
+    }
+
+    @Override
+    public String resolveField(TypeMeta<?> typeMeta, Field field) {
+        TypeMemberKey key = new TypeMemberKey(TypeMetaKey.of(typeMeta), field);
+        String representation = cache.get(key);
+        ResolverMetricsManager.getMetrics()
+                .recordCacheAccess(CachingFieldStringRepresentationResolver.class, representation != null);
+        if (representation != null) {
+            return representation;
+        }
+        return cache.computeIfAbsent(key, k -> internPool.intern(delegate.resolveField(typeMeta, field)));
+    }
+
+    @Override
+    public String resolveField(TypeProvider<?> typeProvider, Field field) {
+        return resolveField(typeProvider.getTypeMeta(), field);
+    }
+}
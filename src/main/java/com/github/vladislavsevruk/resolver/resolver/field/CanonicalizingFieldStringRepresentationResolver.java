@@ -0,0 +1,80 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Uladzislau Seuruk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.vladislavsevruk.resolver.resolver.field;
+
+import com.github.vladislavsevruk.resolver.cache.WeakInternPool;
+import com.github.vladislavsevruk.resolver.context.ResolvingContext;
+import com.github.vladislavsevruk.resolver.type.TypeMeta;
+import com.github.vladislavsevruk.resolver.type.TypeProvider;
+import lombok.Getter;
+
+import java.lang.reflect.Field;
+
+/**
+ * Implementation of <code>FieldTypeResolver</code> for string representation that replaces results of delegate
+ * resolver with canonical instances from <code>WeakInternPool</code>, so equal representations share single string
+ * instance and may be compared by identity.
+ *
+ * @see FieldTypeResolver
+ * @see WeakInternPool
+ */
+public final class CanonicalizingFieldStringRepresentationResolver implements FieldTypeResolver<String> {
+
+    private final FieldTypeResolver<String> delegate;
+    @Getter
+    private final WeakInternPool<String> internPool;
+
+    public CanonicalizingFieldStringRepresentationResolver() {
+        this(new FieldStringRepresentationResolver());
+    }
+
+    public CanonicalizingFieldStringRepresentationResolver(ResolvingContext<String> context) {
+        this(new FieldStringRepresentationResolver(context));
+    }
+
+    public CanonicalizingFieldStringRepresentationResolver(FieldTypeResolver<String> delegate) {
+        this(delegate, new WeakInternPool<>());
+    }
+
+    public CanonicalizingFieldStringRepresentationResolver(FieldTypeResolver<String> delegate,
+            WeakInternPool<String> internPool) {
+        this.delegate = delegate;
+        this.internPool = internPool;
+    }
+
+    @Override
+    public String resolveField(Class<?> clazz, Field field) {
+        return internPool.intern(delegate.resolveField(clazz, field));
+    }
+
+    @Override
+    public String resolveField(TypeMeta<?> typeMeta, Field field) {
+        return internPool.intern(delegate.resolveField(typeMeta, field));
+    }
+
+    @Override
+    public String resolveField(TypeProvider<?> typeProvider, Field field) {
+        return internPool.intern(delegate.resolveField(typeProvider, field));
+    }
+}
@@ -25,6 +25,19 @@ package com.github.vladislavsevruk.resolver.resolver.field;
 
 import com.github.vladislavsevruk.resolver.context.ResolvingContext;
 import com.github.vladislavsevruk.resolver.context.StringRepresentationResolvingContextManager;
+import com.github.vladislavsevruk.resolver.metrics.ResolutionSample;
+import com.github.vladislavsevruk.resolver.metrics.ResolverMetrics;
+import com.github.vladislavsevruk.resolver.metrics.ResolverMetricsManager;
+import com.github.vladislavsevruk.resolver.resolver.picker.TypeResolverPicker;
+import com.github.vladislavsevruk.resolver.type.MappedVariableHierarchy;
+import com.github.vladislavsevruk.resolver.type.TypeMeta;
+import com.github.vladislavsevruk.resolver.type.TypeProvider;
+import com.github.vladislavsevruk.resolver.type.TypeVariableMap;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Type;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 /**
  * Implementation of <code>FieldTypeResolver</code> for string representation.
@@ -33,11 +46,86 @@ import com.github.vladislavsevruk.resolver.context.StringRepresentationResolving
  */
 public final class FieldStringRepresentationResolver extends BaseFieldTypeResolver<String> {
 
+    private final ResolvingContext<String> context;
+
     public FieldStringRepresentationResolver() {
         this(StringRepresentationResolvingContextManager.getContext());
     }
 
     public FieldStringRepresentationResolver(ResolvingContext<String> context) {
         super(context);
+        this.context = context;
+    }
+
+    @Override
+    public String resolveField(Class<?> clazz, Field field) {
+        return resolveField(new TypeMeta<>(clazz), field);
+    }
+
+    @Override
+    public String resolveField(TypeMeta<?> typeMeta, Field field) {
+        ResolverMetrics metrics = ResolverMetricsManager.getMetrics();
+        if (!metrics.isEnabled()) {
+            return super.resolveField(typeMeta, field);
+        }
+        ResolutionSample sample = metrics.startResolution(FieldStringRepresentationResolver.class, typeMeta.getType());
+        try {
+            return super.resolveField(typeMeta, field);
+        } finally {
+            sample.stop();
+        }
+    }
+
+    @Override
+    public String resolveField(TypeProvider<?> typeProvider, Field field) {
+        return resolveField(typeProvider.getTypeMeta(), field);
+    }
+
+    /**
+     * Resolves representations of all declared and inherited fields of received class.
+     *
+     * @param clazz <code>Class</code> to resolve fields for.
+     * @return map with fields and their resolved representations in order described at
+     * {@link #resolveFields(TypeMeta)}.
+     */
+    public Map<Field, String> resolveFields(Class<?> clazz) {
+        return resolveFields(new TypeMeta<>(clazz));
+    }
+
+    /**
+     * Resolves representations of all declared and inherited fields of type received from type provider.
+     *
+     * @param typeProvider <code>TypeProvider</code> with type to resolve fields for.
+     * @return map with fields and their resolved representations in order described at
+     * {@link #resolveFields(TypeMeta)}.
+     */
+    public Map<Field, String> resolveFields(TypeProvider<?> typeProvider) {
+        return resolveFields(typeProvider.getTypeMeta());
+    }
+
+    /**
+     * Resolves representations of all declared and inherited fields of received type using single mapped variable
+     * hierarchy lookup and single type variable map per declaring class. Fields of received type go first followed
+     * by fields of its superclasses, synthetic fields are skipped.
+     *
+     * @param typeMeta <code>TypeMeta</code> with type to resolve fields for.
+     * @return map with fields and their resolved representations.
+     */
+    public Map<Field, String> resolveFields(TypeMeta<?> typeMeta) {
+        MappedVariableHierarchy<String> hierarchy = context.getMappedVariableHierarchyStorage().get(typeMeta);
+        TypeResolverPicker<String> typeResolverPicker = context.getTypeResolverPicker();
+        Map<Field, String> resolvedFields = new LinkedHashMap<>();
+        for (Class<?> clazz = typeMeta.getType(); clazz != null && clazz != Object.class;
+                clazz = clazz.getSuperclass()) {
+            TypeVariableMap<String> typeVariableMap = hierarchy.getTypeVariableMap(clazz);
+            for (Field field : clazz.getDeclaredFields()) {
+                if (!field.isSynthetic()) {
+                    Type fieldType = field.getGenericType();
+                    resolvedFields.put(field,
+                            typeResolverPicker.pickTypeResolver(fieldType).resolve(typeVariableMap, fieldType));
+                }
+            }
+        }
+        return resolvedFields;
     }
 }
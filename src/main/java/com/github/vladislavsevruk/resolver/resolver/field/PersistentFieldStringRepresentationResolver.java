@@ -0,0 +1,82 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Uladzislau Seuruk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.vladislavsevruk.resolver.resolver.field;
+
+import com.github.vladislavsevruk.resolver.cache.PersistentRepresentationStore;
+import com.github.vladislavsevruk.resolver.context.ResolvingContext;
+import com.github.vladislavsevruk.resolver.type.TypeMeta;
+import com.github.vladislavsevruk.resolver.type.TypeProvider;
+import lombok.Getter;
+
+import java.lang.reflect.Field;
+
+/**
+ * Implementation of <code>FieldTypeResolver</code> for string representation that keeps representations of all fields
+ * of resolved types at <code>PersistentRepresentationStore</code>. Representations persisted by previous runs are
+ * used while bytecode of type hierarchy stays the same, so warm start skips resolution of known types entirely.
+ * Fields of types which fingerprint is unavailable are resolved by delegate resolver.
+ *
+ * @see FieldTypeResolver
+ * @see PersistentRepresentationStore
+ */
+public final class PersistentFieldStringRepresentationResolver implements FieldTypeResolver<String> {
+
+    private final FieldStringRepresentationResolver delegate;
+    @Getter
+    private final PersistentRepresentationStore store;
+
+    public PersistentFieldStringRepresentationResolver(PersistentRepresentationStore store) {
+        this(new FieldStringRepresentationResolver(), store);
+    }
+
+    public PersistentFieldStringRepresentationResolver(ResolvingContext<String> context,
+            PersistentRepresentationStore store) {
+        this(new FieldStringRepresentationResolver(context), store);
+    }
+
+    public PersistentFieldStringRepresentationResolver(FieldStringRepresentationResolver delegate,
+            PersistentRepresentationStore store) {
+        this.delegate = delegate;
+        this.store = store;
+    }
+
+    @Override
+    public String resolveField(Class<?> clazz, Field field) {
+        return resolveField(new TypeMeta<>(clazz), field);
+    }
+
+    @Override
+    public String resolveField(TypeMeta<?> typeMeta, Field field) {
+        String representation = store.getFieldRepresentation(typeMeta, field, delegate::resolveFields);
+        if (representation == null) {
+            return delegate.resolveField(typeMeta, field);
+        }
+        return representation;
+    }
+
+    @Override
+    public String resolveField(TypeProvider<?> typeProvider, Field field) {
+        return resolveField(typeProvider.getTypeMeta(), field);
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Uladzislau Seuruk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.vladislavsevruk.resolver.resolver.field;
+
+import com.github.vladislavsevruk.resolver.context.ResolvingContext;
+import com.github.vladislavsevruk.resolver.context.StringRepresentationResolvingContextManager;
+import com.github.vladislavsevruk.resolver.precomputed.PrecomputedRepresentationRegistry;
+import com.github.vladislavsevruk.resolver.type.TypeMeta;
+import com.github.vladislavsevruk.resolver.type.TypeProvider;
+import com.github.vladislavsevruk.resolver.util.ClassNameStyle;
+
+import java.lang.reflect.Field;
+
+/**
+ * Implementation of <code>FieldTypeResolver</code> for string representation that uses representations precomputed
+ * at build time by annotation processor and resolves fields without precomputed representation using delegate
+ * resolver.
+ *
+ * Precomputed representations are used only if class name style of representations produced by delegate resolver is
+ * known, i.e. delegate uses default full name or short name resolving modules.
+ *
+ * @see FieldTypeResolver
+ * @see PrecomputedRepresentationRegistry
+ */
+public final class PrecomputedFieldStringRepresentationResolver implements FieldTypeResolver<String> {
+
+    private final ClassNameStyle classNameStyle;
+    private final FieldTypeResolver<String> delegate;
+    private final PrecomputedRepresentationRegistry registry;
+
+    public PrecomputedFieldStringRepresentationResolver() {
+        this(StringRepresentationResolvingContextManager.getContext());
+    }
+
+    public PrecomputedFieldStringRepresentationResolver(ResolvingContext<String> context) {
+        this(new FieldStringRepresentationResolver(context), ClassNameStyle.of(context));
+    }
+
+    /**
+     * Creates resolver with received delegate resolver.
+     *
+     * @param delegate       resolver for members without precomputed representations.
+     * @param classNameStyle class name style of representations produced by delegate resolver or <code>null</code> if
+     *                       delegate uses custom resolving modules, so precomputed representations shouldn't be used.
+     */
+    public PrecomputedFieldStringRepresentationResolver(FieldTypeResolver<String> delegate,
+            ClassNameStyle classNameStyle) {
+        this(delegate, classNameStyle, PrecomputedRepresentationRegistry.getDefault());
+    }
+
+    public PrecomputedFieldStringRepresentationResolver(FieldTypeResolver<String> delegate,
+            ClassNameStyle classNameStyle, PrecomputedRepresentationRegistry registry) {
+        this.delegate = delegate;
+        this.classNameStyle = classNameStyle;
+        this.registry = registry;
+    }
+
+    @Override
+    public String resolveField(Class<?> clazz, Field field) {
+        return resolveField(new TypeMeta<>(clazz), field);
+    }
+
+    @Override
+    public String resolveField(TypeMeta<?> typeMeta, Field field) {
+        String representation = registry.getFieldRepresentation(typeMeta, field, classNameStyle);
+        if (representation == null) {
+            return delegate.resolveField(typeMeta, field);
+        }
+        return representation;
+    }
+
+    @Override
+    public String resolveField(TypeProvider<?> typeProvider, Field field) {
+        return resolveField(typeProvider.getTypeMeta(), field);
+    }
+}
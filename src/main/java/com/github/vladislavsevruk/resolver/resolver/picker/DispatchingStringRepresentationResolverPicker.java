@@ -0,0 +1,148 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Uladzislau Seuruk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.vladislavsevruk.resolver.resolver.picker;
+
+import com.github.vladislavsevruk.resolver.context.ResolvingContext;
+import com.github.vladislavsevruk.resolver.context.StringRepresentationResolvingContextManager;
+import com.github.vladislavsevruk.resolver.resolver.simple.TypeResolver;
+
+import java.lang.reflect.GenericArrayType;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.lang.reflect.TypeVariable;
+import java.lang.reflect.WildcardType;
+import java.util.List;
+
+/**
+ * Implementation of <code>TypeResolverPicker</code> for string representation of generic types that picks type
+ * resolvers using dispatch table keyed by kind of received type instead of scanning all type resolvers from storage
+ * for every type. Dispatch table is built once on first pick as type resolver storage is created after picker during
+ * resolving context construction. Custom <code>Type</code> implementations and type kinds that have no matching
+ * resolver are picked by scanning type resolvers storage.
+ *
+ * @see TypeResolverPicker
+ */
+public final class DispatchingStringRepresentationResolverPicker extends BaseTypeResolverPicker<String> {
+
+    private final ResolvingContext<String> resolvingContext;
+    private volatile DispatchTable dispatchTable;
+
+    public DispatchingStringRepresentationResolverPicker() {
+        this(StringRepresentationResolvingContextManager.getContext());
+    }
+
+    public DispatchingStringRepresentationResolverPicker(ResolvingContext<String> resolvingContext) {
+        super(resolvingContext);
+        this.resolvingContext = resolvingContext;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public TypeResolver<String> pickTypeResolver(Type type) {
+        TypeResolver<String> typeResolver = getDispatchTable().pick(type);
+        return typeResolver != null ? typeResolver : super.pickTypeResolver(type);
+    }
+
+    private DispatchTable getDispatchTable() {
+        DispatchTable table = dispatchTable;
+        if (table == null) {
+            // building is idempotent so concurrent first picks may safely race
+            table = new DispatchTable(resolvingContext.getTypeResolverStorage().getTypeResolvers());
+            dispatchTable = table;
+        }
+        return table;
+    }
+
+    /**
+     * Holds first type resolver from storage that can resolve sample of every type kind.
+     */
+    private static final class DispatchTable {
+
+        private final TypeResolver<String> classResolver;
+        private final TypeResolver<String> genericArrayResolver;
+        private final TypeResolver<String> parameterizedTypeResolver;
+        private final TypeResolver<String> typeVariableResolver;
+        private final TypeResolver<String> wildcardResolver;
+
+        private DispatchTable(List<TypeResolver<String>> typeResolvers) {
+            GenericArrayType genericArraySample = TypeSamples.genericArraySample();
+            ParameterizedType parameterizedTypeSample = (ParameterizedType) genericArraySample
+                    .getGenericComponentType();
+            WildcardType wildcardSample = (WildcardType) parameterizedTypeSample.getActualTypeArguments()[0];
+            TypeVariable<?> typeVariableSample = (TypeVariable<?>) wildcardSample.getUpperBounds()[0];
+            classResolver = findTypeResolver(typeResolvers, Object.class);
+            genericArrayResolver = findTypeResolver(typeResolvers, genericArraySample);
+            parameterizedTypeResolver = findTypeResolver(typeResolvers, parameterizedTypeSample);
+            typeVariableResolver = findTypeResolver(typeResolvers, typeVariableSample);
+            wildcardResolver = findTypeResolver(typeResolvers, wildcardSample);
+        }
+
+        private static TypeResolver<String> findTypeResolver(List<TypeResolver<String>> typeResolvers, Type sample) {
+            for (TypeResolver<String> typeResolver : typeResolvers) {
+                if (typeResolver.canResolve(sample)) {
+                    return typeResolver;
+                }
+            }
+            return null;
+        }
+
+        private TypeResolver<String> pick(Type type) {
+            if (type instanceof Class) {
+                return classResolver;
+            }
+            if (type instanceof ParameterizedType) {
+                return parameterizedTypeResolver;
+            }
+            if (type instanceof TypeVariable) {
+                return typeVariableResolver;
+            }
+            if (type instanceof WildcardType) {
+                return wildcardResolver;
+            }
+            if (type instanceof GenericArrayType) {
+                return genericArrayResolver;
+            }
+            return null;
+        }
+    }
+
+    /**
+     * Provides samples of every type kind for dispatch table construction.
+     */
+    @SuppressWarnings("unused")
+    private static final class TypeSamples<T> {
+
+        private List<? extends T>[] sample;
+
+        private static GenericArrayType genericArraySample() {
+            try {
+                return (GenericArrayType) TypeSamples.class.getDeclaredField("sample").getGenericType();
+            } catch (NoSuchFieldException nsfEx) {
+                throw new IllegalStateException(nsfEx);
+            }
+        }
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Uladzislau Seuruk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.vladislavsevruk.resolver.resolver.picker;
+
+import com.github.vladislavsevruk.resolver.metrics.ResolutionSample;
+import com.github.vladislavsevruk.resolver.metrics.ResolverMetrics;
+import com.github.vladislavsevruk.resolver.metrics.ResolverMetricsManager;
+import com.github.vladislavsevruk.resolver.resolver.annotated.AnnotatedTypeResolver;
+import com.github.vladislavsevruk.resolver.resolver.simple.TypeResolver;
+import com.github.vladislavsevruk.resolver.type.TypeVariableMap;
+
+import java.lang.reflect.AnnotatedType;
+import java.lang.reflect.Type;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Implementation of <code>TypeResolverPicker</code> for string representation that reports every resolution of type
+ * resolvers picked by delegate picker to <code>ResolverMetrics</code>. Type resolvers use picker from resolving
+ * context for nested types so resolutions of all nested types are reported as well. Picked type resolvers are wrapped
+ * once and wrappers are reused.
+ *
+ * @see ResolverMetrics
+ * @see TypeResolverPicker
+ */
+public final class MeteredTypeResolverPicker implements TypeResolverPicker<String> {
+
+    private final TypeResolverPicker<String> delegate;
+    private final ConcurrentMap<TypeResolver<String>, TypeResolver<String>> meteredResolvers
+            = new ConcurrentHashMap<>();
+
+    public MeteredTypeResolverPicker(TypeResolverPicker<String> delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public AnnotatedTypeResolver<String> pickAnnotatedTypeResolver(AnnotatedType annotatedType) {
+        return delegate.pickAnnotatedTypeResolver(annotatedType);
+    }
+
+    @Override
+    public TypeResolver<String> pickTypeResolver(Type type) {
+        TypeResolver<String> typeResolver = delegate.pickTypeResolver(type);
+        if (typeResolver == null) {
+            return null;
+        }
+        TypeResolver<String> meteredResolver = meteredResolvers.get(typeResolver);
+        if (meteredResolver == null) {
+            meteredResolver = meteredResolvers.computeIfAbsent(typeResolver, MeteredTypeResolver::new);
+        }
+        return meteredResolver;
+    }
+
+    private static final class MeteredTypeResolver implements TypeResolver<String> {
+
+        private final TypeResolver<String> delegate;
+
+        private MeteredTypeResolver(TypeResolver<String> delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public boolean canResolve(Type type) {
+            return delegate.canResolve(type);
+        }
+
+        @Override
+        public String resolve(TypeVariableMap<String> typeVariableMap, Type type) {
+            ResolverMetrics metrics = ResolverMetricsManager.getMetrics();
+            if (!metrics.isEnabled()) {
+                return delegate.resolve(typeVariableMap, type);
+            }
+            ResolutionSample sample = metrics.startResolution(delegate.getClass(), type);
+            try {
+                return delegate.resolve(typeVariableMap, type);
+            } finally {
+                sample.stop();
+            }
+        }
+    }
+}
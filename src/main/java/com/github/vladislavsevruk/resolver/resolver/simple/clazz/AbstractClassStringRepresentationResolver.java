@@ -24,6 +24,7 @@
 package com.github.vladislavsevruk.resolver.resolver.simple.clazz;
 
 import com.github.vladislavsevruk.resolver.resolver.picker.TypeResolverPicker;
+import com.github.vladislavsevruk.resolver.util.StringRepresentationRenderer;
 
 /**
  * Resolves string representation for class types.
@@ -46,6 +47,7 @@ public abstract class AbstractClassStringRepresentationResolver extends Abstract
 
     @Override
     protected String createResolvedParameterizedType(Class<?> rawType, String[] resolvedArgumentTypes) {
-        return String.format("%s<%s>", createResolvedItem(rawType), String.join(" ,", resolvedArgumentTypes));
+        return StringRepresentationRenderer.renderParameterizedType(createResolvedItem(rawType), resolvedArgumentTypes,
+                StringRepresentationRenderer.CLASS_ARGUMENTS_DELIMITER);
     }
 }
@@ -24,6 +24,7 @@
 package com.github.vladislavsevruk.resolver.resolver.simple.clazz;
 
 import com.github.vladislavsevruk.resolver.resolver.picker.TypeResolverPicker;
+import com.github.vladislavsevruk.resolver.util.ClassNameCache;
 
 public class FullNameClassStringRepresentationResolver extends AbstractClassStringRepresentationResolver {
 
@@ -33,6 +34,6 @@ public class FullNameClassStringRepresentationResolver extends AbstractClassStri
 
     @Override
     protected String createResolvedItem(Class<?> actualClass) {
-        return actualClass.getName();
+        return ClassNameCache.getName(actualClass);
     }
 }
@@ -24,6 +24,7 @@
 package com.github.vladislavsevruk.resolver.resolver.simple.parameterized;
 
 import com.github.vladislavsevruk.resolver.resolver.picker.TypeResolverPicker;
+import com.github.vladislavsevruk.resolver.util.StringRepresentationRenderer;
 
 /**
  * Resolves string representation for parameterized types.
@@ -44,6 +45,6 @@ public abstract class AbstractParameterizedStringRepresentationResolver
 
     @Override
     protected String createResolvedParameterizedType(Class<?> rawType, String[] resolvedArgumentTypes) {
-        return String.format("%s<%s>", createResolvedItem(rawType), String.join(", ", resolvedArgumentTypes));
+        return StringRepresentationRenderer.renderParameterizedType(createResolvedItem(rawType), resolvedArgumentTypes);
     }
 }
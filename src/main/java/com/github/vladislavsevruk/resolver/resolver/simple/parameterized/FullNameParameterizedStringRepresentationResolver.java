@@ -24,6 +24,7 @@
 package com.github.vladislavsevruk.resolver.resolver.simple.parameterized;
 
 import com.github.vladislavsevruk.resolver.resolver.picker.TypeResolverPicker;
+import com.github.vladislavsevruk.resolver.util.ClassNameCache;
 
 /**
  * Resolves string representation for parameterized types.
@@ -36,6 +37,6 @@ public final class FullNameParameterizedStringRepresentationResolver
     }
 
     protected String createResolvedItem(Class<?> rawType) {
-        return rawType.getName();
+        return ClassNameCache.getName(rawType);
     }
 }
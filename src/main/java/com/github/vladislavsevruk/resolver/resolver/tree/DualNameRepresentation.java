@@ -0,0 +1,61 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Uladzislau Seuruk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.vladislavsevruk.resolver.resolver.tree;
+
+import com.github.vladislavsevruk.resolver.util.ClassNameStyle;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * Immutable pair of full name and short name representations of the same type.
+ */
+@EqualsAndHashCode
+@Getter
+@ToString
+public final class DualNameRepresentation {
+
+    private final String fullName;
+    private final String shortName;
+
+    /**
+     * Creates representations of received type tree.
+     *
+     * @param typeNode <code>TypeNode</code> to render representations for.
+     */
+    public DualNameRepresentation(TypeNode typeNode) {
+        this(typeNode.render(ClassNameStyle.FULL_NAME), typeNode.render(ClassNameStyle.SHORT_NAME));
+    }
+
+    /**
+     * Creates new instance with received representations.
+     *
+     * @param fullName  full name representation.
+     * @param shortName short name representation.
+     */
+    public DualNameRepresentation(String fullName, String shortName) {
+        this.fullName = fullName;
+        this.shortName = shortName;
+    }
+}
@@ -0,0 +1,198 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Uladzislau Seuruk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.vladislavsevruk.resolver.resolver.tree;
+
+import com.github.vladislavsevruk.resolver.type.TypeMeta;
+import com.github.vladislavsevruk.resolver.type.TypeProvider;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Resolves full name and short name representations of field and method types together. Every type is resolved
+ * once to <code>TypeNode</code> tree that is rendered both ways, instead of resolving it separately with full name
+ * and short name resolving contexts. Representations match ones of default full name and short name resolving
+ * modules, custom modules aren't applied.
+ *
+ * @see DualNameRepresentation
+ * @see TypeNodeResolver
+ */
+public final class DualNameStringRepresentationResolver {
+
+    private final TypeNodeResolver typeNodeResolver;
+
+    public DualNameStringRepresentationResolver() {
+        this(new TypeNodeResolver());
+    }
+
+    public DualNameStringRepresentationResolver(TypeNodeResolver typeNodeResolver) {
+        this.typeNodeResolver = typeNodeResolver;
+    }
+
+    /**
+     * Returns representations of received method exception types in scope of received class.
+     *
+     * @param clazz  <code>Class</code> where method should be resolved.
+     * @param method <code>Method</code> to resolve exception types for.
+     * @return list with representations of method exception types.
+     */
+    public List<DualNameRepresentation> getExceptionTypes(Class<?> clazz, Method method) {
+        return getExceptionTypes(new TypeMeta<>(clazz), method);
+    }
+
+    /**
+     * Returns representations of received method exception types in scope of received type.
+     *
+     * @param typeMeta <code>TypeMeta</code> of type where method should be resolved.
+     * @param method   <code>Method</code> to resolve exception types for.
+     * @return list with representations of method exception types.
+     */
+    public List<DualNameRepresentation> getExceptionTypes(TypeMeta<?> typeMeta, Method method) {
+        return toRepresentations(typeNodeResolver.resolveExceptionTypes(typeMeta, method));
+    }
+
+    /**
+     * Returns representations of received method exception types in scope of type received from type provider.
+     *
+     * @param typeProvider <code>TypeProvider</code> with type where method should be resolved.
+     * @param method       <code>Method</code> to resolve exception types for.
+     * @return list with representations of method exception types.
+     */
+    public List<DualNameRepresentation> getExceptionTypes(TypeProvider<?> typeProvider, Method method) {
+        return getExceptionTypes(typeProvider.getTypeMeta(), method);
+    }
+
+    /**
+     * Returns representations of received method parameter types in scope of received class.
+     *
+     * @param clazz  <code>Class</code> where method should be resolved.
+     * @param method <code>Method</code> to resolve parameter types for.
+     * @return list with representations of method parameter types.
+     */
+    public List<DualNameRepresentation> getParameterTypes(Class<?> clazz, Method method) {
+        return getParameterTypes(new TypeMeta<>(clazz), method);
+    }
+
+    /**
+     * Returns representations of received method parameter types in scope of received type.
+     *
+     * @param typeMeta <code>TypeMeta</code> of type where method should be resolved.
+     * @param method   <code>Method</code> to resolve parameter types for.
+     * @return list with representations of method parameter types.
+     */
+    public List<DualNameRepresentation> getParameterTypes(TypeMeta<?> typeMeta, Method method) {
+        return toRepresentations(typeNodeResolver.resolveParameterTypes(typeMeta, method));
+    }
+
+    /**
+     * Returns representations of received method parameter types in scope of type received from type provider.
+     *
+     * @param typeProvider <code>TypeProvider</code> with type where method should be resolved.
+     * @param method       <code>Method</code> to resolve parameter types for.
+     * @return list with representations of method parameter types.
+     */
+    public List<DualNameRepresentation> getParameterTypes(TypeProvider<?> typeProvider, Method method) {
+        return getParameterTypes(typeProvider.getTypeMeta(), method);
+    }
+
+    /**
+     * Returns representations of received method return type in scope of received class.
+     *
+     * @param clazz  <code>Class</code> where method should be resolved.
+     * @param method <code>Method</code> to resolve return type for.
+     * @return representations of method return type.
+     */
+    public DualNameRepresentation getReturnType(Class<?> clazz, Method method) {
+        return getReturnType(new TypeMeta<>(clazz), method);
+    }
+
+    /**
+     * Returns representations of received method return type in scope of received type.
+     *
+     * @param typeMeta <code>TypeMeta</code> of type where method should be resolved.
+     * @param method   <code>Method</code> to resolve return type for.
+     * @return representations of method return type.
+     */
+    public DualNameRepresentation getReturnType(TypeMeta<?> typeMeta, Method method) {
+        return new DualNameRepresentation(typeNodeResolver.resolveReturnType(typeMeta, method));
+    }
+
+    /**
+     * Returns representations of received method return type in scope of type received from type provider.
+     *
+     * @param typeProvider <code>TypeProvider</code> with type where method should be resolved.
+     * @param method       <code>Method</code> to resolve return type for.
+     * @return representations of method return type.
+     */
+    public DualNameRepresentation getReturnType(TypeProvider<?> typeProvider, Method method) {
+        return getReturnType(typeProvider.getTypeMeta(), method);
+    }
+
+    /**
+     * Returns representations of received field type in scope of received class.
+     *
+     * @param clazz <code>Class</code> where field should be resolved.
+     * @param field <code>Field</code> to resolve type for.
+     * @return representations of field type.
+     */
+    public DualNameRepresentation resolveField(Class<?> clazz, Field field) {
+        return new DualNameRepresentation(typeNodeResolver.resolveField(clazz, field));
+    }
+
+    /**
+     * Returns representations of received field type in scope of received type.
+     *
+     * @param typeMeta <code>TypeMeta</code> of type where field should be resolved.
+     * @param field    <code>Field</code> to resolve type for.
+     * @return representations of field type.
+     */
+    public DualNameRepresentation resolveField(TypeMeta<?> typeMeta, Field field) {
+        return new DualNameRepresentation(typeNodeResolver.resolveField(typeMeta, field));
+    }
+
+    /**
+     * Returns representations of received field type in scope of type received from type provider.
+     *
+     * @param typeProvider <code>TypeProvider</code> with type where field should be resolved.
+     * @param field        <code>Field</code> to resolve type for.
+     * @return representations of field type.
+     */
+    public DualNameRepresentation resolveField(TypeProvider<?> typeProvider, Field field) {
+        return new DualNameRepresentation(typeNodeResolver.resolveField(typeProvider, field));
+    }
+
+    private List<DualNameRepresentation> toRepresentations(List<TypeNode> typeNodes) {
+        if (typeNodes.isEmpty()) {
+            return Collections.emptyList();
+        }
+        List<DualNameRepresentation> representations = new ArrayList<>(typeNodes.size());
+        for (TypeNode typeNode : typeNodes) {
+            representations.add(new DualNameRepresentation(typeNode));
+        }
+        return representations;
+    }
+}
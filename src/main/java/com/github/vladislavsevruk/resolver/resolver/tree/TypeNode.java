@@ -0,0 +1,276 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Uladzislau Seuruk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.vladislavsevruk.resolver.resolver.tree;
+
+import com.github.vladislavsevruk.resolver.cache.WeakInternPool;
+import com.github.vladislavsevruk.resolver.util.ClassNameStyle;
+import com.github.vladislavsevruk.resolver.util.StringRepresentationRenderer;
+import lombok.Getter;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Immutable node of resolved type tree: raw class or unresolved type variable name, wildcard bound, array depth and
+ * type arguments or type parameters of generic class used without type arguments. Nodes are hash-consed, so
+ * structurally equal nodes are the same instance and may be compared by identity. String representations are rendered
+ * lazily on demand and cached per class name style.
+ */
+public final class TypeNode {
+
+    private static final String ARRAY_SUFFIX = "[]";
+    private static final WeakInternPool<TypeNode> NODES = new WeakInternPool<>();
+    private static final TypeNode[] NO_TYPE_ARGUMENTS = new TypeNode[0];
+    @Getter
+    private final int arrayDepth;
+    @Getter
+    private final boolean genericClass;
+    private final int hashCode;
+    @Getter
+    private final Class<?> rawType;
+    private final TypeNode[] typeArguments;
+    @Getter
+    private final String variableName;
+    @Getter
+    private final WildcardBound wildcardBound;
+    private volatile String fullName;
+    private volatile String shortName;
+
+    private TypeNode(Class<?> rawType, String variableName, WildcardBound wildcardBound, int arrayDepth,
+            boolean genericClass, TypeNode[] typeArguments) {
+        this.rawType = rawType;
+        this.variableName = variableName;
+        this.wildcardBound = wildcardBound;
+        this.arrayDepth = arrayDepth;
+        this.genericClass = genericClass;
+        this.typeArguments = typeArguments;
+        int hash = rawType != null ? rawType.hashCode() : String.valueOf(variableName).hashCode();
+        hash = 31 * hash + wildcardBound.hashCode();
+        hash = 31 * hash + arrayDepth;
+        hash = 31 * hash + Boolean.hashCode(genericClass);
+        this.hashCode = 31 * hash + Arrays.hashCode(typeArguments);
+    }
+
+    /**
+     * Returns node for array with received component node.
+     *
+     * @param componentType node of array component type.
+     * @return node for array type.
+     */
+    public static TypeNode arrayOf(TypeNode componentType) {
+        return componentType.withArrayDepth(componentType.arrayDepth + 1);
+    }
+
+    /**
+     * Returns node for wildcard with received lower bound.
+     *
+     * @param bound node of wildcard lower bound.
+     * @return node for wildcard type.
+     */
+    public static TypeNode lowerBounded(TypeNode bound) {
+        return intern(null, null, WildcardBound.LOWER, 0, false, new TypeNode[]{ bound });
+    }
+
+    /**
+     * Returns node for received class. Array classes are represented by node of their component class with
+     * corresponding array depth.
+     *
+     * @param clazz class to get node for.
+     * @return node for received class.
+     */
+    public static TypeNode ofClass(Class<?> clazz) {
+        int arrayDepth = 0;
+        Class<?> componentType = clazz;
+        while (componentType.isArray()) {
+            componentType = componentType.getComponentType();
+            ++arrayDepth;
+        }
+        return intern(componentType, null, WildcardBound.NONE, arrayDepth, false, NO_TYPE_ARGUMENTS);
+    }
+
+    /**
+     * Returns node for generic class used without type arguments. Such classes are rendered with their type
+     * parameters the same way as class resolvers render them.
+     *
+     * @param clazz          generic class.
+     * @param typeParameters nodes of actual types of class type parameters.
+     * @return node for generic class.
+     */
+    public static TypeNode ofGenericClass(Class<?> clazz, TypeNode... typeParameters) {
+        return intern(clazz, null, WildcardBound.NONE, 0, true,
+                typeParameters.length == 0 ? NO_TYPE_ARGUMENTS : typeParameters.clone());
+    }
+
+    /**
+     * Returns node for parameterized type with received raw type and type arguments.
+     *
+     * @param rawType       raw class of parameterized type.
+     * @param typeArguments nodes of type arguments.
+     * @return node for parameterized type.
+     */
+    public static TypeNode ofParameterized(Class<?> rawType, TypeNode... typeArguments) {
+        return intern(rawType, null, WildcardBound.NONE, 0, false,
+                typeArguments.length == 0 ? NO_TYPE_ARGUMENTS : typeArguments.clone());
+    }
+
+    /**
+     * Returns node for type variable that has no actual type.
+     *
+     * @param name name of type variable.
+     * @return node for unresolved type variable.
+     */
+    public static TypeNode ofVariable(String name) {
+        return intern(null, name, WildcardBound.NONE, 0, false, NO_TYPE_ARGUMENTS);
+    }
+
+    /**
+     * Returns node for wildcard with received upper bound.
+     *
+     * @param bound node of wildcard upper bound.
+     * @return node for wildcard type.
+     */
+    public static TypeNode upperBounded(TypeNode bound) {
+        return intern(null, null, WildcardBound.UPPER, 0, false, new TypeNode[]{ bound });
+    }
+
+    private static TypeNode intern(Class<?> rawType, String variableName, WildcardBound wildcardBound,
+            int arrayDepth, boolean genericClass, TypeNode[] typeArguments) {
+        return NODES
+                .intern(new TypeNode(rawType, variableName, wildcardBound, arrayDepth, genericClass, typeArguments));
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof TypeNode)) {
+            return false;
+        }
+        TypeNode that = (TypeNode) o;
+        if (hashCode != that.hashCode || arrayDepth != that.arrayDepth || genericClass != that.genericClass
+                || rawType != that.rawType || wildcardBound != that.wildcardBound
+                || typeArguments.length != that.typeArguments.length
+                || (variableName == null ? that.variableName != null : !variableName.equals(that.variableName))) {
+            return false;
+        }
+        // type arguments are already hash-consed so identity comparison is enough
+        for (int i = 0; i < typeArguments.length; ++i) {
+            if (typeArguments[i] != that.typeArguments[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns nodes of type arguments of parameterized type, type parameters of generic class or single bound of
+     * bounded wildcard.
+     */
+    public List<TypeNode> getTypeArguments() {
+        return typeArguments.length == 0 ? Collections.emptyList()
+                : Collections.unmodifiableList(Arrays.asList(typeArguments));
+    }
+
+    @Override
+    public int hashCode() {
+        return hashCode;
+    }
+
+    /**
+     * Returns string representation of this node using received class name style.
+     *
+     * @param classNameStyle style of class names.
+     * @return string representation of this node.
+     */
+    public String render(ClassNameStyle classNameStyle) {
+        if (classNameStyle == ClassNameStyle.SHORT_NAME) {
+            String name = shortName;
+            if (name == null) {
+                name = renderNode(classNameStyle);
+                shortName = name;
+            }
+            return name;
+        }
+        String name = fullName;
+        if (name == null) {
+            name = renderNode(classNameStyle);
+            fullName = name;
+        }
+        return name;
+    }
+
+    @Override
+    public String toString() {
+        return render(ClassNameStyle.FULL_NAME);
+    }
+
+    /**
+     * Returns node that differs from this one only by array depth.
+     *
+     * @param newArrayDepth array depth of new node.
+     * @return node with received array depth.
+     * @throws IllegalArgumentException if this node is wildcard or received array depth is negative.
+     */
+    public TypeNode withArrayDepth(int newArrayDepth) {
+        if (wildcardBound != WildcardBound.NONE || newArrayDepth < 0) {
+            throw new IllegalArgumentException("Cannot change array depth of " + this + " to " + newArrayDepth);
+        }
+        if (newArrayDepth == arrayDepth) {
+            return this;
+        }
+        return intern(rawType, variableName, wildcardBound, newArrayDepth, genericClass, typeArguments);
+    }
+
+    private String renderNode(ClassNameStyle classNameStyle) {
+        switch (wildcardBound) {
+            case LOWER:
+                return "? super " + typeArguments[0].render(classNameStyle);
+            case UPPER:
+                return "? extends " + typeArguments[0].render(classNameStyle);
+            default:
+                break;
+        }
+        String name = rawType != null ? classNameStyle.getName(rawType) : variableName;
+        if (typeArguments.length != 0) {
+            String[] renderedArguments = new String[typeArguments.length];
+            for (int i = 0; i < typeArguments.length; ++i) {
+                renderedArguments[i] = typeArguments[i].render(classNameStyle);
+            }
+            name = genericClass ? StringRepresentationRenderer.renderParameterizedType(name, renderedArguments,
+                    StringRepresentationRenderer.CLASS_ARGUMENTS_DELIMITER)
+                    : StringRepresentationRenderer.renderParameterizedType(name, renderedArguments);
+        }
+        if (arrayDepth == 0) {
+            return name;
+        }
+        StringBuilder stringBuilder = new StringBuilder(name.length() + arrayDepth * ARRAY_SUFFIX.length())
+                .append(name);
+        for (int i = 0; i < arrayDepth; ++i) {
+            stringBuilder.append(ARRAY_SUFFIX);
+        }
+        return stringBuilder.toString();
+    }
+}
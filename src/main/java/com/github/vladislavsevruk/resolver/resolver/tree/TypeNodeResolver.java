@@ -0,0 +1,256 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Uladzislau Seuruk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.vladislavsevruk.resolver.resolver.tree;
+
+import com.github.vladislavsevruk.resolver.cache.BoundedConcurrentCache;
+import com.github.vladislavsevruk.resolver.cache.TypeMetaKey;
+import com.github.vladislavsevruk.resolver.type.TypeMeta;
+import com.github.vladislavsevruk.resolver.type.TypeProvider;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.GenericArrayType;
+import java.lang.reflect.Method;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.lang.reflect.TypeVariable;
+import java.lang.reflect.WildcardType;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Resolves types of fields and methods to <code>TypeNode</code> trees. Type variables of received type and its
+ * superclasses and interfaces are mapped once per type structure and kept in bounded cache, so trees are built
+ * without string rendering and may be rendered to full or short names later. Actual types of received type are
+ * mapped the same way as string representation variable mapper does it: array types are built from their component
+ * classes, generic classes without type arguments keep their type parameters and wildcard flag is ignored. Trees
+ * reproduce representations of default full and short name modules only, custom resolving modules aren't applied.
+ *
+ * @see TypeNode
+ */
+public final class TypeNodeResolver {
+
+    public static final int DEFAULT_MAXIMUM_SIZE = 1_000;
+    private final BoundedConcurrentCache<TypeMetaKey, Map<Class<?>, Map<TypeVariable<?>, TypeNode>>> hierarchies;
+
+    public TypeNodeResolver() {
+        this(DEFAULT_MAXIMUM_SIZE);
+    }
+
+    public TypeNodeResolver(int maximumSize) {
+        this.hierarchies = new BoundedConcurrentCache<>(maximumSize);
+    }
+
+    /**
+     * Returns tree of received type with received type variables mapping.
+     *
+     * @param typeVariables map with actual types of type variables.
+     * @param type          <code>Type</code> to build tree for.
+     * @return tree of received type.
+     * @throws IllegalArgumentException if received type is not one of standard <code>Type</code> implementations.
+     */
+    public TypeNode resolve(Map<TypeVariable<?>, TypeNode> typeVariables, Type type) {
+        if (type instanceof Class) {
+            return resolveClass(typeVariables, (Class<?>) type);
+        }
+        if (type instanceof ParameterizedType) {
+            ParameterizedType parameterizedType = (ParameterizedType) type;
+            return TypeNode.ofParameterized((Class<?>) parameterizedType.getRawType(),
+                    resolveAll(typeVariables, parameterizedType.getActualTypeArguments()));
+        }
+        if (type instanceof TypeVariable) {
+            TypeNode actualType = typeVariables.get(type);
+            return actualType != null ? actualType : TypeNode.ofVariable(((TypeVariable<?>) type).getName());
+        }
+        if (type instanceof GenericArrayType) {
+            return TypeNode.arrayOf(resolve(typeVariables, ((GenericArrayType) type).getGenericComponentType()));
+        }
+        if (type instanceof WildcardType) {
+            return resolveWildcard(typeVariables, (WildcardType) type);
+        }
+        throw new IllegalArgumentException("Unsupported type implementation: " + type.getClass().getName());
+    }
+
+    /**
+     * Returns trees of received method exception types in scope of received type.
+     *
+     * @param typeMeta <code>TypeMeta</code> of type where method should be resolved.
+     * @param method   <code>Method</code> to build exception type trees for.
+     * @return list with trees of method exception types.
+     */
+    public List<TypeNode> resolveExceptionTypes(TypeMeta<?> typeMeta, Method method) {
+        Type[] exceptionTypes = method.getGenericExceptionTypes();
+        if (exceptionTypes.length == 0) {
+            return Collections.emptyList();
+        }
+        return Arrays.asList(resolveAll(getTypeVariables(typeMeta, method.getDeclaringClass()), exceptionTypes));
+    }
+
+    /**
+     * Returns tree of received field type in scope of received class.
+     *
+     * @param clazz <code>Class</code> where field should be resolved.
+     * @param field <code>Field</code> to build type tree for.
+     * @return tree of field type.
+     */
+    public TypeNode resolveField(Class<?> clazz, Field field) {
+        return resolveField(new TypeMeta<>(clazz), field);
+    }
+
+    /**
+     * Returns tree of received field type in scope of received type.
+     *
+     * @param typeMeta <code>TypeMeta</code> of type where field should be resolved.
+     * @param field    <code>Field</code> to build type tree for.
+     * @return tree of field type.
+     */
+    public TypeNode resolveField(TypeMeta<?> typeMeta, Field field) {
+        return resolve(getTypeVariables(typeMeta, field.getDeclaringClass()), field.getGenericType());
+    }
+
+    /**
+     * Returns tree of received field type in scope of type received from type provider.
+     *
+     * @param typeProvider <code>TypeProvider</code> with type where field should be resolved.
+     * @param field        <code>Field</code> to build type tree for.
+     * @return tree of field type.
+     */
+    public TypeNode resolveField(TypeProvider<?> typeProvider, Field field) {
+        return resolveField(typeProvider.getTypeMeta(), field);
+    }
+
+    /**
+     * Returns trees of received method parameter types in scope of received type.
+     *
+     * @param typeMeta <code>TypeMeta</code> of type where method should be resolved.
+     * @param method   <code>Method</code> to build parameter type trees for.
+     * @return list with trees of method parameter types.
+     */
+    public List<TypeNode> resolveParameterTypes(TypeMeta<?> typeMeta, Method method) {
+        Type[] parameterTypes = method.getGenericParameterTypes();
+        if (parameterTypes.length == 0) {
+            return Collections.emptyList();
+        }
+        return Arrays.asList(resolveAll(getTypeVariables(typeMeta, method.getDeclaringClass()), parameterTypes));
+    }
+
+    /**
+     * Returns tree of received method return type in scope of received type.
+     *
+     * @param typeMeta <code>TypeMeta</code> of type where method should be resolved.
+     * @param method   <code>Method</code> to build return type tree for.
+     * @return tree of method return type.
+     */
+    public TypeNode resolveReturnType(TypeMeta<?> typeMeta, Method method) {
+        return resolve(getTypeVariables(typeMeta, method.getDeclaringClass()), method.getGenericReturnType());
+    }
+
+    private Map<TypeVariable<?>, TypeNode> getTypeVariables(TypeMeta<?> typeMeta, Class<?> declaringClass) {
+        Map<TypeVariable<?>, TypeNode> typeVariables = hierarchies
+                .computeIfAbsent(TypeMetaKey.of(typeMeta), key -> mapHierarchy(typeMeta)).get(declaringClass);
+        return typeVariables != null ? typeVariables : Collections.emptyMap();
+    }
+
+    private void mapClass(Map<Class<?>, Map<TypeVariable<?>, TypeNode>> hierarchy, Class<?> clazz,
+            Map<TypeVariable<?>, TypeNode> typeVariables) {
+        if (hierarchy.putIfAbsent(clazz, typeVariables) != null) {
+            return;
+        }
+        Type superclass = clazz.getGenericSuperclass();
+        if (superclass != null) {
+            mapSupertype(hierarchy, superclass, typeVariables);
+        }
+        for (Type implementedInterface : clazz.getGenericInterfaces()) {
+            mapSupertype(hierarchy, implementedInterface, typeVariables);
+        }
+    }
+
+    private Map<Class<?>, Map<TypeVariable<?>, TypeNode>> mapHierarchy(TypeMeta<?> typeMeta) {
+        Class<?> clazz = typeMeta.getType();
+        TypeVariable<?>[] typeParameters = clazz.getTypeParameters();
+        TypeMeta<?>[] genericTypes = typeMeta.getGenericTypes();
+        Map<TypeVariable<?>, TypeNode> typeVariables = new HashMap<>();
+        if (genericTypes != null && genericTypes.length == typeParameters.length) {
+            for (int i = 0; i < typeParameters.length; ++i) {
+                typeVariables.put(typeParameters[i], toTypeNode(genericTypes[i]));
+            }
+        }
+        Map<Class<?>, Map<TypeVariable<?>, TypeNode>> hierarchy = new HashMap<>();
+        mapClass(hierarchy, clazz, typeVariables);
+        return hierarchy;
+    }
+
+    private void mapSupertype(Map<Class<?>, Map<TypeVariable<?>, TypeNode>> hierarchy, Type supertype,
+            Map<TypeVariable<?>, TypeNode> typeVariables) {
+        if (supertype instanceof Class) {
+            mapClass(hierarchy, (Class<?>) supertype, Collections.emptyMap());
+            return;
+        }
+        ParameterizedType parameterizedSupertype = (ParameterizedType) supertype;
+        Class<?> rawType = (Class<?>) parameterizedSupertype.getRawType();
+        TypeVariable<?>[] typeParameters = rawType.getTypeParameters();
+        Type[] actualTypeArguments = parameterizedSupertype.getActualTypeArguments();
+        Map<TypeVariable<?>, TypeNode> supertypeVariables = new HashMap<>();
+        for (int i = 0; i < typeParameters.length; ++i) {
+            supertypeVariables.put(typeParameters[i], resolve(typeVariables, actualTypeArguments[i]));
+        }
+        mapClass(hierarchy, rawType, supertypeVariables);
+    }
+
+    private TypeNode resolveClass(Map<TypeVariable<?>, TypeNode> typeVariables, Class<?> clazz) {
+        if (clazz.isArray()) {
+            return TypeNode.arrayOf(resolveClass(typeVariables, clazz.getComponentType()));
+        }
+        TypeVariable<?>[] typeParameters = clazz.getTypeParameters();
+        if (typeParameters.length == 0) {
+            return TypeNode.ofClass(clazz);
+        }
+        return TypeNode.ofGenericClass(clazz, resolveAll(typeVariables, typeParameters));
+    }
+
+    private TypeNode[] resolveAll(Map<TypeVariable<?>, TypeNode> typeVariables, Type[] types) {
+        TypeNode[] typeNodes = new TypeNode[types.length];
+        for (int i = 0; i < types.length; ++i) {
+            typeNodes[i] = resolve(typeVariables, types[i]);
+        }
+        return typeNodes;
+    }
+
+    private TypeNode resolveWildcard(Map<TypeVariable<?>, TypeNode> typeVariables, WildcardType wildcardType) {
+        Type[] lowerBounds = wildcardType.getLowerBounds();
+        if (lowerBounds.length != 0) {
+            return TypeNode.lowerBounded(resolve(typeVariables, lowerBounds[0]));
+        }
+        // wildcard without bounds has implicit Object upper bound and is rendered by wildcard resolver the same way
+        return TypeNode.upperBounded(resolve(typeVariables, wildcardType.getUpperBounds()[0]));
+    }
+
+    private TypeNode toTypeNode(TypeMeta<?> typeMeta) {
+        // actual type is resolved as class in scope of its own type variables like string representation mapper does
+        Class<?> clazz = typeMeta.getType();
+        return resolveClass(getTypeVariables(typeMeta, clazz), clazz);
+    }
+}
@@ -0,0 +1,272 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Uladzislau Seuruk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.vladislavsevruk.resolver.resolver.writer;
+
+import com.github.vladislavsevruk.resolver.context.ResolvingContext;
+import com.github.vladislavsevruk.resolver.context.StringRepresentationResolvingContextManager;
+import com.github.vladislavsevruk.resolver.type.TypeMeta;
+import com.github.vladislavsevruk.resolver.type.TypeVariableMap;
+import com.github.vladislavsevruk.resolver.util.ClassNameStyle;
+import com.github.vladislavsevruk.resolver.util.StringRepresentationRenderer;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.reflect.Field;
+import java.lang.reflect.GenericArrayType;
+import java.lang.reflect.Method;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.lang.reflect.TypeVariable;
+import java.lang.reflect.WildcardType;
+
+/**
+ * Writes string representations of types directly to received <code>Appendable</code>, like
+ * <code>StringBuilder</code>, <code>Writer</code> or <code>CharBuffer</code>, without creating intermediate string
+ * for every nesting level. Classes, parameterized types, generic arrays, type variables and bounded wildcards are
+ * written token by token using class name style of built-in type resolver storage of resolving context, other types
+ * are resolved by type resolvers of resolving context and written as a whole. If resolving context uses custom type
+ * resolver picker or storage all types are resolved by its type resolvers so their representations are preserved.
+ * Render methods write representation to reusable per-thread buffer so only resulting string is allocated.
+ */
+public final class StringRepresentationWriter {
+
+    private static final String ARRAY_SUFFIX = "[]";
+    private static final ThreadLocal<StringBuilder> BUFFER = ThreadLocal.withInitial(StringBuilder::new);
+    private static final String LOWER_BOUND_PREFIX = "? super ";
+    private static final int MAXIMUM_RETAINED_BUFFER_CAPACITY = 4096;
+    private static final String UPPER_BOUND_PREFIX = "? extends ";
+    private final ClassNameStyle classNameStyle;
+    private final ResolvingContext<String> context;
+
+    public StringRepresentationWriter() {
+        this(StringRepresentationResolvingContextManager.getContext());
+    }
+
+    public StringRepresentationWriter(ResolvingContext<String> context) {
+        this.context = context;
+        this.classNameStyle = ClassNameStyle.of(context);
+    }
+
+    /**
+     * Renders representation of received type using received type variable map into per-thread buffer.
+     *
+     * @param typeVariableMap <code>TypeVariableMap</code> with actual types of type variables.
+     * @param type            <code>Type</code> to render representation for.
+     * @return representation of received type.
+     */
+    public String render(TypeVariableMap<String> typeVariableMap, Type type) {
+        StringBuilder buffer = BUFFER.get();
+        try {
+            write(typeVariableMap, type, buffer);
+            return buffer.toString();
+        } finally {
+            releaseBuffer(buffer);
+        }
+    }
+
+    /**
+     * Renders representation of received field type in scope of received type into per-thread buffer.
+     *
+     * @param typeMeta <code>TypeMeta</code> of type where field should be resolved.
+     * @param field    <code>Field</code> to render type representation for.
+     * @return representation of field type.
+     */
+    public String renderField(TypeMeta<?> typeMeta, Field field) {
+        StringBuilder buffer = BUFFER.get();
+        try {
+            writeField(typeMeta, field, buffer);
+            return buffer.toString();
+        } finally {
+            releaseBuffer(buffer);
+        }
+    }
+
+    /**
+     * Renders representation of received method return type in scope of received type into per-thread buffer.
+     *
+     * @param typeMeta <code>TypeMeta</code> of type where method should be resolved.
+     * @param method   <code>Method</code> to render return type representation for.
+     * @return representation of method return type.
+     */
+    public String renderReturnType(TypeMeta<?> typeMeta, Method method) {
+        StringBuilder buffer = BUFFER.get();
+        try {
+            writeReturnType(typeMeta, method, buffer);
+            return buffer.toString();
+        } finally {
+            releaseBuffer(buffer);
+        }
+    }
+
+    /**
+     * Writes representation of received type using received type variable map.
+     *
+     * @param typeVariableMap <code>TypeVariableMap</code> with actual types of type variables.
+     * @param type            <code>Type</code> to write representation for.
+     * @param appendable      <code>Appendable</code> to write representation to.
+     * @throws UncheckedIOException if received appendable throws <code>IOException</code>.
+     */
+    public void write(TypeVariableMap<String> typeVariableMap, Type type, Appendable appendable) {
+        try {
+            writeType(typeVariableMap, type, appendable);
+        } catch (IOException ioEx) {
+            throw new UncheckedIOException(ioEx);
+        }
+    }
+
+    /**
+     * Writes representation of received field type in scope of received type.
+     *
+     * @param typeMeta   <code>TypeMeta</code> of type where field should be resolved.
+     * @param field      <code>Field</code> to write type representation for.
+     * @param appendable <code>Appendable</code> to write representation to.
+     * @throws UncheckedIOException if received appendable throws <code>IOException</code>.
+     */
+    public void writeField(TypeMeta<?> typeMeta, Field field, Appendable appendable) {
+        write(getTypeVariableMap(typeMeta, field.getDeclaringClass()), field.getGenericType(), appendable);
+    }
+
+    /**
+     * Writes representations of received method parameter types in scope of received type separated by comma.
+     *
+     * @param typeMeta   <code>TypeMeta</code> of type where method should be resolved.
+     * @param method     <code>Method</code> to write parameter types representations for.
+     * @param appendable <code>Appendable</code> to write representations to.
+     * @throws UncheckedIOException if received appendable throws <code>IOException</code>.
+     */
+    public void writeParameterTypes(TypeMeta<?> typeMeta, Method method, Appendable appendable) {
+        TypeVariableMap<String> typeVariableMap = getTypeVariableMap(typeMeta, method.getDeclaringClass());
+        try {
+            Type[] parameterTypes = method.getGenericParameterTypes();
+            for (int i = 0; i < parameterTypes.length; ++i) {
+                if (i != 0) {
+                    appendable.append(StringRepresentationRenderer.ARGUMENTS_DELIMITER);
+                }
+                writeType(typeVariableMap, parameterTypes[i], appendable);
+            }
+        } catch (IOException ioEx) {
+            throw new UncheckedIOException(ioEx);
+        }
+    }
+
+    /**
+     * Writes representation of received method return type in scope of received type.
+     *
+     * @param typeMeta   <code>TypeMeta</code> of type where method should be resolved.
+     * @param method     <code>Method</code> to write return type representation for.
+     * @param appendable <code>Appendable</code> to write representation to.
+     * @throws UncheckedIOException if received appendable throws <code>IOException</code>.
+     */
+    public void writeReturnType(TypeMeta<?> typeMeta, Method method, Appendable appendable) {
+        write(getTypeVariableMap(typeMeta, method.getDeclaringClass()), method.getGenericReturnType(), appendable);
+    }
+
+    private TypeVariableMap<String> getTypeVariableMap(TypeMeta<?> typeMeta, Class<?> declaringClass) {
+        return context.getMappedVariableHierarchyStorage().get(typeMeta).getTypeVariableMap(declaringClass);
+    }
+
+    private void releaseBuffer(StringBuilder buffer) {
+        buffer.setLength(0);
+        if (buffer.capacity() > MAXIMUM_RETAINED_BUFFER_CAPACITY) {
+            // don't retain unusually large buffers for the whole thread lifetime
+            BUFFER.remove();
+        }
+    }
+
+    private void writeClass(TypeVariableMap<String> typeVariableMap, Class<?> clazz, Appendable appendable)
+            throws IOException {
+        if (clazz.isArray()) {
+            writeClass(typeVariableMap, clazz.getComponentType(), appendable);
+            appendable.append(ARRAY_SUFFIX);
+        } else if (clazz.getTypeParameters().length != 0) {
+            // raw generic classes are rendered with their type parameters by class resolver
+            writeResolved(typeVariableMap, clazz, appendable);
+        } else {
+            appendable.append(classNameStyle.getName(clazz));
+        }
+    }
+
+    private void writeParameterizedType(TypeVariableMap<String> typeVariableMap, ParameterizedType parameterizedType,
+            Appendable appendable) throws IOException {
+        appendable.append(classNameStyle.getName((Class<?>) parameterizedType.getRawType())).append('<');
+        Type[] actualTypeArguments = parameterizedType.getActualTypeArguments();
+        for (int i = 0; i < actualTypeArguments.length; ++i) {
+            if (i != 0) {
+                appendable.append(StringRepresentationRenderer.ARGUMENTS_DELIMITER);
+            }
+            writeType(typeVariableMap, actualTypeArguments[i], appendable);
+        }
+        appendable.append('>');
+    }
+
+    private void writeResolved(TypeVariableMap<String> typeVariableMap, Type type, Appendable appendable)
+            throws IOException {
+        appendable.append(context.getTypeResolverPicker().pickTypeResolver(type).resolve(typeVariableMap, type));
+    }
+
+    private void writeType(TypeVariableMap<String> typeVariableMap, Type type, Appendable appendable)
+            throws IOException {
+        if (classNameStyle == null) {
+            // representations of custom modules can't be written token by token
+            writeResolved(typeVariableMap, type, appendable);
+        } else if (type instanceof Class) {
+            writeClass(typeVariableMap, (Class<?>) type, appendable);
+        } else if (type instanceof ParameterizedType) {
+            writeParameterizedType(typeVariableMap, (ParameterizedType) type, appendable);
+        } else if (type instanceof TypeVariable) {
+            writeTypeVariable(typeVariableMap, (TypeVariable<?>) type, appendable);
+        } else if (type instanceof GenericArrayType) {
+            writeType(typeVariableMap, ((GenericArrayType) type).getGenericComponentType(), appendable);
+            appendable.append(ARRAY_SUFFIX);
+        } else if (type instanceof WildcardType) {
+            writeWildcardType(typeVariableMap, (WildcardType) type, appendable);
+        } else {
+            writeResolved(typeVariableMap, type, appendable);
+        }
+    }
+
+    private void writeTypeVariable(TypeVariableMap<String> typeVariableMap, TypeVariable<?> typeVariable,
+            Appendable appendable) throws IOException {
+        String actualType = typeVariableMap.getActualType(typeVariable);
+        appendable.append(actualType != null ? actualType : typeVariable.getTypeName());
+    }
+
+    private void writeWildcardType(TypeVariableMap<String> typeVariableMap, WildcardType wildcardType,
+            Appendable appendable) throws IOException {
+        Type[] lowerBounds = wildcardType.getLowerBounds();
+        if (lowerBounds.length != 0) {
+            appendable.append(LOWER_BOUND_PREFIX);
+            writeType(typeVariableMap, lowerBounds[0], appendable);
+            return;
+        }
+        Type upperBound = wildcardType.getUpperBounds()[0];
+        if (upperBound == Object.class) {
+            // unbounded wildcard representation is defined by wildcard resolver
+            writeResolved(typeVariableMap, wildcardType, appendable);
+            return;
+        }
+        appendable.append(UPPER_BOUND_PREFIX);
+        writeType(typeVariableMap, upperBound, appendable);
+    }
+}
@@ -23,23 +23,58 @@
  */
 package com.github.vladislavsevruk.resolver.type.storage;
 
+import com.github.vladislavsevruk.resolver.cache.BoundedConcurrentCache;
+import com.github.vladislavsevruk.resolver.cache.TypeMetaKey;
 import com.github.vladislavsevruk.resolver.context.ResolvingContext;
 import com.github.vladislavsevruk.resolver.context.StringRepresentationResolvingContextManager;
+import com.github.vladislavsevruk.resolver.metrics.ResolverMetricsManager;
+import com.github.vladislavsevruk.resolver.type.MappedVariableHierarchy;
+import com.github.vladislavsevruk.resolver.type.TypeMeta;
 
 /**
  * Implementation of <code>MappedVariableHierarchyStorage</code> for string representation of superclasses generic
- * types.
+ * types. Mapped hierarchies are kept only in bounded cache that is read without locking so resolving from many threads,
+ * including virtual ones, doesn't contend on storage. Hierarchies evicted from cache are mapped again by type variable
+ * mapper of resolving context, so storage never keeps more hierarchies than its maximum size and doesn't hold classes
+ * of unloaded class loaders indefinitely.
  *
  * @see MappedVariableHierarchyStorage
  */
 public final class StringRepresentationMappedVariableHierarchyStorage
-        extends BaseMappedVariableHierarchyStorage<String> {
+        implements MappedVariableHierarchyStorage<String> {
+
+    public static final int DEFAULT_MAXIMUM_SIZE = 1_000;
+    private final BoundedConcurrentCache<TypeMetaKey, MappedVariableHierarchy<String>> hierarchies;
+    private final ResolvingContext<String> resolvingContext;
 
     public StringRepresentationMappedVariableHierarchyStorage() {
         this(StringRepresentationResolvingContextManager.getContext());
     }
 
     public StringRepresentationMappedVariableHierarchyStorage(ResolvingContext<String> resolvingContext) {
-        super(resolvingContext);
+        this(resolvingContext, DEFAULT_MAXIMUM_SIZE);
+    }
+
+    public StringRepresentationMappedVariableHierarchyStorage(ResolvingContext<String> resolvingContext,
+            int maximumSize) {
+        this.resolvingContext = resolvingContext;
+        this.hierarchies = new BoundedConcurrentCache<>(maximumSize);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public MappedVariableHierarchy<String> get(TypeMeta<?> typeMeta) {
+        TypeMetaKey key = TypeMetaKey.of(typeMeta);
+        MappedVariableHierarchy<String> hierarchy = hierarchies.get(key);
+        ResolverMetricsManager.getMetrics()
+                .recordCacheAccess(StringRepresentationMappedVariableHierarchyStorage.class, hierarchy != null);
+        if (hierarchy != null) {
+            return hierarchy;
+        }
+        // hierarchy is mapped outside of any lock, concurrent mappings of the same type keep first stored result
+        return hierarchies
+                .computeIfAbsent(key, k -> resolvingContext.getTypeVariableMapper().mapTypeVariables(typeMeta));
     }
 }
@@ -0,0 +1,68 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Uladzislau Seuruk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.vladislavsevruk.resolver.util;
+
+/**
+ * Caches full and simple names of classes. Names are computed once per class and kept by class itself using
+ * <code>ClassValue</code>, so lookups have no shared map contention and cached names do not prevent unloading of
+ * classes and their class loaders.
+ */
+public final class ClassNameCache {
+
+    private static final ClassValue<String> NAMES = new ClassValue<String>() {
+        @Override
+        protected String computeValue(Class<?> type) {
+            return type.getName();
+        }
+    };
+    private static final ClassValue<String> SIMPLE_NAMES = new ClassValue<String>() {
+        @Override
+        protected String computeValue(Class<?> type) {
+            return type.getSimpleName();
+        }
+    };
+
+    private ClassNameCache() {
+    }
+
+    /**
+     * Returns cached result of <code>Class.getName()</code> for received class.
+     *
+     * @param clazz class to get name for.
+     * @return full name of received class.
+     */
+    public static String getName(Class<?> clazz) {
+        return NAMES.get(clazz);
+    }
+
+    /**
+     * Returns cached result of <code>Class.getSimpleName()</code> for received class.
+     *
+     * @param clazz class to get simple name for.
+     * @return simple name of received class.
+     */
+    public static String getSimpleName(Class<?> clazz) {
+        return SIMPLE_NAMES.get(clazz);
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Uladzislau Seuruk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.vladislavsevruk.resolver.util;
+
+import com.github.vladislavsevruk.resolver.context.ResolvingContext;
+import com.github.vladislavsevruk.resolver.resolver.picker.DispatchingStringRepresentationResolverPicker;
+import com.github.vladislavsevruk.resolver.resolver.picker.StringRepresentationResolverPicker;
+import com.github.vladislavsevruk.resolver.resolver.picker.TypeResolverPicker;
+import com.github.vladislavsevruk.resolver.resolver.storage.FullNameResolverStorage;
+import com.github.vladislavsevruk.resolver.resolver.storage.ShortNameRepresentationResolverStorage;
+
+/**
+ * Contains styles of class names for string representations.
+ */
+public enum ClassNameStyle {
+    /**
+     * Fully qualified class names, like <code>java.util.List</code>.
+     */
+    FULL_NAME {
+        @Override
+        public String getName(Class<?> clazz) {
+            return ClassNameCache.getName(clazz);
+        }
+    },
+    /**
+     * Simple class names, like <code>List</code>.
+     */
+    SHORT_NAME {
+        @Override
+        public String getName(Class<?> clazz) {
+            return ClassNameCache.getSimpleName(clazz);
+        }
+    };
+
+    /**
+     * Returns class name style of representations produced by received resolving context. Style can be determined
+     * only for contexts that pick type resolvers using built-in type resolver picker from built-in type resolver
+     * storage, as custom modules may produce representations in any format.
+     *
+     * @param context <code>ResolvingContext</code> to get class name style for.
+     * @return <code>ClassNameStyle</code> of received context or <code>null</code> if context uses custom type
+     * resolver picker or type resolver storage.
+     */
+    public static ClassNameStyle of(ResolvingContext<String> context) {
+        if (!isBuiltInPicker(context.getTypeResolverPicker())) {
+            return null;
+        }
+        Class<?> storageClass = context.getTypeResolverStorage().getClass();
+        if (storageClass == FullNameResolverStorage.class) {
+            return FULL_NAME;
+        }
+        if (storageClass == ShortNameRepresentationResolverStorage.class) {
+            return SHORT_NAME;
+        }
+        return null;
+    }
+
+    /**
+     * Returns name of received class in this style.
+     *
+     * @param clazz class to get name for.
+     * @return class name in this style.
+     */
+    public abstract String getName(Class<?> clazz);
+
+    private static boolean isBuiltInPicker(TypeResolverPicker<String> typeResolverPicker) {
+        return typeResolverPicker instanceof StringRepresentationResolverPicker
+                || typeResolverPicker instanceof DispatchingStringRepresentationResolverPicker;
+    }
+}
@@ -0,0 +1,64 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Uladzislau Seuruk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.vladislavsevruk.resolver.util;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Executable;
+import java.lang.reflect.Member;
+
+/**
+ * Builds string descriptors of fields, methods and constructors. Descriptor consists of name of declaring class, name
+ * of member and, for executables, type names of erased parameter types, e.g.
+ * <code>java.util.List.add(int,java.lang.Object)</code>. Constructors are named as <code>&lt;init&gt;</code>.
+ */
+public final class MemberDescriptor {
+
+    public static final String CONSTRUCTOR_NAME = "<init>";
+
+    private MemberDescriptor() {
+    }
+
+    /**
+     * Returns descriptor of received field, method or constructor.
+     *
+     * @param member <code>Member</code> to build descriptor for.
+     * @return descriptor of received member.
+     */
+    public static String of(Member member) {
+        StringBuilder stringBuilder = new StringBuilder(ClassNameCache.getName(member.getDeclaringClass()))
+                .append('.');
+        if (!(member instanceof Executable)) {
+            return stringBuilder.append(member.getName()).toString();
+        }
+        stringBuilder.append(member instanceof Constructor ? CONSTRUCTOR_NAME : member.getName()).append('(');
+        Class<?>[] parameterTypes = ((Executable) member).getParameterTypes();
+        for (int i = 0; i < parameterTypes.length; ++i) {
+            if (i != 0) {
+                stringBuilder.append(',');
+            }
+            stringBuilder.append(parameterTypes[i].getTypeName());
+        }
+        return stringBuilder.append(')').toString();
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Uladzislau Seuruk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.vladislavsevruk.resolver.util;
+
+/**
+ * Renders string representations of complex types without format pattern parsing and intermediate strings.
+ */
+public final class StringRepresentationRenderer {
+
+    public static final String ARGUMENTS_DELIMITER = ", ";
+    public static final String CLASS_ARGUMENTS_DELIMITER = " ,";
+
+    private StringRepresentationRenderer() {
+    }
+
+    /**
+     * Renders representation of parameterized type using default arguments delimiter.
+     *
+     * @param rawType   representation of raw type.
+     * @param arguments representations of type arguments.
+     * @return representation of parameterized type in <code>rawType&lt;argument1, argument2&gt;</code> form.
+     */
+    public static String renderParameterizedType(String rawType, String[] arguments) {
+        return renderParameterizedType(rawType, arguments, ARGUMENTS_DELIMITER);
+    }
+
+    /**
+     * Renders representation of parameterized type into builder sized for the whole result.
+     *
+     * @param rawType   representation of raw type.
+     * @param arguments representations of type arguments.
+     * @param delimiter delimiter between type arguments.
+     * @return representation of parameterized type in <code>rawType&lt;argument1, argument2&gt;</code> form.
+     */
+    public static String renderParameterizedType(String rawType, String[] arguments, String delimiter) {
+        int length = rawType.length() + 2;
+        for (String argument : arguments) {
+            length += String.valueOf(argument).length();
+        }
+        if (arguments.length > 1) {
+            length += delimiter.length() * (arguments.length - 1);
+        }
+        StringBuilder builder = new StringBuilder(length).append(rawType).append('<');
+        for (int i = 0; i < arguments.length; ++i) {
+            if (i != 0) {
+                builder.append(delimiter);
+            }
+            builder.append(arguments[i]);
+        }
+        return builder.append('>').toString();
+    }
+}
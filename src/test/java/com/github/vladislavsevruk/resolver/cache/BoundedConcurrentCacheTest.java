@@ -0,0 +1,90 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Uladzislau Seuruk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.vladislavsevruk.resolver.cache;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class BoundedConcurrentCacheTest {
+
+    @Test
+    void clearedKeyAddedAgainIsNotEvictedEarlyTest() {
+        BoundedConcurrentCache<String, String> cache = new BoundedConcurrentCache<>(2);
+        cache.computeIfAbsent("a", String::toUpperCase);
+        cache.computeIfAbsent("b", String::toUpperCase);
+        cache.clear();
+        cache.computeIfAbsent("c", String::toUpperCase);
+        cache.computeIfAbsent("a", String::toUpperCase);
+        cache.computeIfAbsent("d", String::toUpperCase);
+        Assertions.assertNull(cache.get("c"));
+        Assertions.assertEquals("A", cache.get("a"));
+        Assertions.assertEquals("D", cache.get("d"));
+        Assertions.assertEquals(2, cache.size());
+    }
+
+    @Test
+    void eldestEntryIsEvictedTest() {
+        BoundedConcurrentCache<String, String> cache = new BoundedConcurrentCache<>(2);
+        cache.computeIfAbsent("a", String::toUpperCase);
+        cache.computeIfAbsent("b", String::toUpperCase);
+        cache.computeIfAbsent("c", String::toUpperCase);
+        Assertions.assertNull(cache.get("a"));
+        Assertions.assertEquals("B", cache.get("b"));
+        Assertions.assertEquals("C", cache.get("c"));
+        Assertions.assertEquals(2, cache.size());
+    }
+
+    @Test
+    void nonPositiveMaximumSizeTest() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new BoundedConcurrentCache<>(0));
+    }
+
+    @Test
+    void nullValueIsNotCachedTest() {
+        BoundedConcurrentCache<String, String> cache = new BoundedConcurrentCache<>(2);
+        Assertions.assertNull(cache.computeIfAbsent("a", key -> null));
+        Assertions.assertEquals(0, cache.size());
+        Assertions.assertEquals("A", cache.computeIfAbsent("a", String::toUpperCase));
+    }
+
+    @Test
+    void presentValueIsNotRecomputedTest() {
+        BoundedConcurrentCache<String, String> cache = new BoundedConcurrentCache<>(2);
+        cache.computeIfAbsent("a", String::toUpperCase);
+        Assertions.assertEquals("A", cache.computeIfAbsent("a", key -> "B"));
+        Assertions.assertEquals(1, cache.size());
+    }
+
+    @Test
+    void putReplacesPresentValueTest() {
+        BoundedConcurrentCache<String, String> cache = new BoundedConcurrentCache<>(2);
+        cache.computeIfAbsent("a", String::toUpperCase);
+        cache.computeIfAbsent("b", String::toUpperCase);
+        cache.put("a", "B");
+        cache.put("c", "C");
+        Assertions.assertNull(cache.get("a"));
+        Assertions.assertEquals("B", cache.get("b"));
+        Assertions.assertEquals("C", cache.get("c"));
+    }
+}
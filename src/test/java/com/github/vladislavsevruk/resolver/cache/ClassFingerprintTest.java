@@ -0,0 +1,107 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Uladzislau Seuruk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.vladislavsevruk.resolver.cache;
+
+import com.github.vladislavsevruk.resolver.test.data.TestModel;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.ToolProvider;
+import java.net.URI;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+class ClassFingerprintTest {
+
+    @TempDir
+    Path temporaryDirectory;
+
+    @Test
+    void arrayFingerprintIsUnavailableTest() {
+        Assertions.assertEquals(ClassFingerprint.UNAVAILABLE, ClassFingerprint.of(String[].class));
+    }
+
+    @Test
+    void differentClassesHaveDifferentFingerprintsTest() {
+        Assertions.assertNotEquals(ClassFingerprint.of(String.class), ClassFingerprint.of(TestModel.class));
+    }
+
+    @Test
+    void fingerprintIsStableTest() {
+        long fingerprint = ClassFingerprint.of(TestModel.class);
+        Assertions.assertTrue(fingerprint >= 0);
+        Assertions.assertEquals(fingerprint, ClassFingerprint.of(TestModel.class));
+    }
+
+    @Test
+    void primitiveFingerprintIsUnavailableTest() {
+        Assertions.assertEquals(ClassFingerprint.UNAVAILABLE, ClassFingerprint.of(int.class));
+    }
+
+    @Test
+    void referencedClassTypeParametersChangeFingerprintTest() throws Exception {
+        String model = "package test.model; public class Model { private Item item; }";
+        Class<?> model1 = compileAndLoad(temporaryDirectory.resolve("v1"), model,
+                "package test.model; public class Item {}");
+        Class<?> model2 = compileAndLoad(temporaryDirectory.resolve("v2"), model,
+                "package test.model; public class Item<T> {}");
+        Assertions.assertArrayEquals(Files.readAllBytes(temporaryDirectory.resolve("v1/test/model/Model.class")),
+                Files.readAllBytes(temporaryDirectory.resolve("v2/test/model/Model.class")));
+        Assertions.assertNotEquals(ClassFingerprint.of(model1), ClassFingerprint.of(model2));
+    }
+
+    private Class<?> compileAndLoad(Path outputDirectory, String modelSource, String itemSource) throws Exception {
+        Files.createDirectories(outputDirectory);
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+        List<String> options = Arrays.asList("-d", outputDirectory.toString(), "-proc:none", "-Xlint:none");
+        List<JavaFileObject> sourceFiles = Arrays.asList(toSourceFile("Model", modelSource),
+                toSourceFile("Item", itemSource));
+        Assertions.assertTrue(compiler.getTask(null, null, diagnostics, options, null, sourceFiles).call(),
+                diagnostics.getDiagnostics().toString());
+        // class loader isn't closed as fingerprint reads bytecode of loaded classes through it
+        URLClassLoader classLoader = new URLClassLoader(new URL[]{ outputDirectory.toUri().toURL() },
+                getClass().getClassLoader());
+        return classLoader.loadClass("test.model.Model");
+    }
+
+    private JavaFileObject toSourceFile(String fileName, String source) {
+        return new SimpleJavaFileObject(URI.create("string:///test/model/" + fileName + ".java"),
+                JavaFileObject.Kind.SOURCE) {
+            @Override
+            public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+                return source;
+            }
+        };
+    }
+}
@@ -0,0 +1,210 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Uladzislau Seuruk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.vladislavsevruk.resolver.cache;
+
+import com.github.vladislavsevruk.resolver.resolver.executable.ExecutableSignature;
+import com.github.vladislavsevruk.resolver.test.data.TestModel;
+import com.github.vladislavsevruk.resolver.type.TypeMeta;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.lang.reflect.Executable;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.util.Collections;
+import java.util.Map;
+import java.util.function.Function;
+
+class PersistentRepresentationStoreTest {
+
+    private static final Function<TypeMeta<?>, Map<Field, String>> FAILING_FIELD_RESOLVER = typeMeta -> {
+        throw new AssertionError("Persisted table should be used");
+    };
+    @TempDir
+    Path temporaryDirectory;
+
+    @Test
+    void corruptedFileIsIgnoredTest() throws IOException, NoSuchFieldException {
+        Path file = temporaryDirectory.resolve("representations.bin");
+        Files.write(file, new byte[]{ 0x54, 0x53, 0x52, 0x52, 0, 0, 0, 1, 1, 2, 3 });
+        PersistentRepresentationStore store = new PersistentRepresentationStore(file, clazz -> 1L);
+        Assertions.assertEquals(0, store.size());
+        Field field = TestModel.class.getDeclaredField("simpleField");
+        Assertions.assertEquals(String.class.getName(), store
+                .getFieldRepresentation(new TypeMeta<>(TestModel.class), field,
+                        typeMeta -> Collections.singletonMap(field, String.class.getName())));
+        Assertions.assertEquals(1, store.getMissCount());
+    }
+
+    @Test
+    void equalTypeMetasShareTableTest() throws NoSuchFieldException {
+        Field field = TestModel.class.getDeclaredField("genericField");
+        PersistentRepresentationStore store = new PersistentRepresentationStore(
+                temporaryDirectory.resolve("representations.bin"), clazz -> 1L);
+        store.getFieldRepresentation(new TypeMeta<>(TestModel.class,
+                        new TypeMeta<?>[]{ new TypeMeta<>(Long.class), new TypeMeta<>(Short.class) }), field,
+                typeMeta -> Collections.singletonMap(field, Long.class.getName()));
+        Assertions.assertEquals(Long.class.getName(), store.getFieldRepresentation(new TypeMeta<>(TestModel.class,
+                        new TypeMeta<?>[]{ new TypeMeta<>(Long.class), new TypeMeta<>(Short.class) }), field,
+                FAILING_FIELD_RESOLVER));
+        Assertions.assertEquals(1, store.getHitCount());
+        Assertions.assertEquals(1, store.getMissCount());
+    }
+
+    @Test
+    void evictedIndexedTableIsFoundByTypeKeyTest() throws NoSuchFieldException {
+        Field field = TestModel.class.getDeclaredField("genericField");
+        TypeMeta<?> longTypeMeta = new TypeMeta<>(TestModel.class,
+                new TypeMeta<?>[]{ new TypeMeta<>(Long.class), new TypeMeta<>(Short.class) });
+        TypeMeta<?> byteTypeMeta = new TypeMeta<>(TestModel.class,
+                new TypeMeta<?>[]{ new TypeMeta<>(Byte.class), new TypeMeta<>(Short.class) });
+        PersistentRepresentationStore store = new PersistentRepresentationStore(
+                temporaryDirectory.resolve("representations.bin"), 1, clazz -> 1L);
+        store.getFieldRepresentation(longTypeMeta, field,
+                typeMeta -> Collections.singletonMap(field, Long.class.getName()));
+        store.getFieldRepresentation(byteTypeMeta, field,
+                typeMeta -> Collections.singletonMap(field, Byte.class.getName()));
+        Assertions.assertEquals(Long.class.getName(),
+                store.getFieldRepresentation(longTypeMeta, field, FAILING_FIELD_RESOLVER));
+        Assertions.assertEquals(1, store.getHitCount());
+        Assertions.assertEquals(2, store.getMissCount());
+    }
+
+    @Test
+    void executableSignaturesArePersistedTest() throws NoSuchMethodException {
+        Path file = temporaryDirectory.resolve("representations.bin");
+        Method method = TestModel.class.getMethod("getExceptionType");
+        TypeMeta<?> typeMeta = new TypeMeta<>(TestModel.class);
+        ExecutableSignature signature = new ExecutableSignature(Double.class.getName(), Collections.emptyList(),
+                Collections.singletonList(ParseException.class.getName()));
+        PersistentRepresentationStore store = new PersistentRepresentationStore(file, clazz -> 1L);
+        store.getExecutableSignature(typeMeta, method,
+                meta -> Collections.<Executable, ExecutableSignature>singletonMap(method, signature));
+        store.flush();
+        PersistentRepresentationStore reloadedStore = new PersistentRepresentationStore(file, clazz -> 1L);
+        Assertions.assertEquals(signature, reloadedStore.getExecutableSignature(typeMeta, method, meta -> {
+            throw new AssertionError("Persisted table should be used");
+        }));
+        Assertions.assertEquals(1, reloadedStore.getHitCount());
+    }
+
+    @Test
+    void flushWithoutChangesDoesNotCreateFileTest() {
+        Path file = temporaryDirectory.resolve("representations.bin");
+        new PersistentRepresentationStore(file, clazz -> 1L).flush();
+        Assertions.assertFalse(Files.exists(file));
+    }
+
+    @Test
+    void missingFileStartsEmptyStoreTest() {
+        PersistentRepresentationStore store = new PersistentRepresentationStore(
+                temporaryDirectory.resolve("representations.bin"), clazz -> 1L);
+        Assertions.assertEquals(0, store.size());
+    }
+
+    @Test
+    void parameterizedTypesArePersistedSeparatelyTest() throws NoSuchFieldException {
+        Path file = temporaryDirectory.resolve("representations.bin");
+        Field field = TestModel.class.getDeclaredField("genericField");
+        TypeMeta<?> longTypeMeta = new TypeMeta<>(TestModel.class,
+                new TypeMeta<?>[]{ new TypeMeta<>(Long.class), new TypeMeta<>(Short.class) });
+        TypeMeta<?> byteTypeMeta = new TypeMeta<>(TestModel.class,
+                new TypeMeta<?>[]{ new TypeMeta<>(Byte.class), new TypeMeta<>(Short.class) });
+        PersistentRepresentationStore store = new PersistentRepresentationStore(file, clazz -> 1L);
+        store.getFieldRepresentation(longTypeMeta, field,
+                typeMeta -> Collections.singletonMap(field, Long.class.getName()));
+        store.getFieldRepresentation(byteTypeMeta, field,
+                typeMeta -> Collections.singletonMap(field, Byte.class.getName()));
+        store.flush();
+        PersistentRepresentationStore reloadedStore = new PersistentRepresentationStore(file, clazz -> 1L);
+        Assertions.assertEquals(2, reloadedStore.size());
+        Assertions.assertEquals(Long.class.getName(),
+                reloadedStore.getFieldRepresentation(longTypeMeta, field, FAILING_FIELD_RESOLVER));
+        Assertions.assertEquals(Byte.class.getName(),
+                reloadedStore.getFieldRepresentation(byteTypeMeta, field, FAILING_FIELD_RESOLVER));
+    }
+
+    @Test
+    void persistedTableIsLoadedTest() throws NoSuchFieldException {
+        Path file = temporaryDirectory.resolve("representations.bin");
+        Field field = TestModel.class.getDeclaredField("simpleField");
+        TypeMeta<?> typeMeta = new TypeMeta<>(TestModel.class);
+        PersistentRepresentationStore store = new PersistentRepresentationStore(file, clazz -> 1L);
+        store.getFieldRepresentation(typeMeta, field, meta -> Collections.singletonMap(field, String.class.getName()));
+        store.flush();
+        PersistentRepresentationStore reloadedStore = new PersistentRepresentationStore(file, clazz -> 1L);
+        Assertions.assertEquals(1, reloadedStore.size());
+        Assertions.assertEquals(String.class.getName(),
+                reloadedStore.getFieldRepresentation(typeMeta, field, FAILING_FIELD_RESOLVER));
+        Assertions.assertEquals(1, reloadedStore.getHitCount());
+        Assertions.assertEquals(0, reloadedStore.getMissCount());
+    }
+
+    @Test
+    void reloadedStoreReplacesLoadedFileTest() throws IOException, NoSuchFieldException {
+        Path file = temporaryDirectory.resolve("representations.bin");
+        Field simpleField = TestModel.class.getDeclaredField("simpleField");
+        Field wrapperField = TestModel.class.getDeclaredField("wrapperField");
+        PersistentRepresentationStore store = new PersistentRepresentationStore(file, clazz -> 1L);
+        store.getFieldRepresentation(new TypeMeta<>(TestModel.class), simpleField,
+                meta -> Collections.singletonMap(simpleField, String.class.getName()));
+        store.flush();
+        PersistentRepresentationStore reloadedStore = new PersistentRepresentationStore(file, clazz -> 1L);
+        reloadedStore.getFieldRepresentation(new TypeMeta<>(Long.class), wrapperField,
+                meta -> Collections.singletonMap(wrapperField, Short.class.getName()));
+        reloadedStore.flush();
+        Assertions.assertEquals(2, new PersistentRepresentationStore(file, clazz -> 1L).size());
+        Files.delete(file);
+    }
+
+    @Test
+    void staleTableIsResolvedAgainTest() throws NoSuchFieldException {
+        Path file = temporaryDirectory.resolve("representations.bin");
+        Field field = TestModel.class.getDeclaredField("simpleField");
+        TypeMeta<?> typeMeta = new TypeMeta<>(TestModel.class);
+        PersistentRepresentationStore store = new PersistentRepresentationStore(file, clazz -> 1L);
+        store.getFieldRepresentation(typeMeta, field, meta -> Collections.singletonMap(field, "OldRepresentation"));
+        store.flush();
+        PersistentRepresentationStore reloadedStore = new PersistentRepresentationStore(file, clazz -> 2L);
+        Assertions.assertEquals(String.class.getName(), reloadedStore.getFieldRepresentation(typeMeta, field,
+                meta -> Collections.singletonMap(field, String.class.getName())));
+        Assertions.assertEquals(1, reloadedStore.getStaleCount());
+        Assertions.assertEquals(1, reloadedStore.getMissCount());
+    }
+
+    @Test
+    void unavailableFingerprintIsNotPersistedTest() throws NoSuchFieldException {
+        Field field = TestModel.class.getDeclaredField("simpleField");
+        PersistentRepresentationStore store = new PersistentRepresentationStore(
+                temporaryDirectory.resolve("representations.bin"), clazz -> ClassFingerprint.UNAVAILABLE);
+        Assertions.assertNull(
+                store.getFieldRepresentation(new TypeMeta<>(TestModel.class), field, FAILING_FIELD_RESOLVER));
+        Assertions.assertEquals(0, store.size());
+    }
+}
@@ -0,0 +1,72 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Uladzislau Seuruk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.vladislavsevruk.resolver.cache;
+
+import com.github.vladislavsevruk.resolver.type.TypeMeta;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+class TypeMetaKeyTest {
+
+    @Test
+    void differentGenericTypesHaveDifferentKeysTest() {
+        TypeMeta<?> listOfStrings = new TypeMeta<>(List.class, new TypeMeta<?>[]{ new TypeMeta<>(String.class) });
+        TypeMeta<?> listOfLongs = new TypeMeta<>(List.class, new TypeMeta<?>[]{ new TypeMeta<>(Long.class) });
+        Assertions.assertNotEquals(TypeMetaKey.of(listOfStrings), TypeMetaKey.of(listOfLongs));
+    }
+
+    @Test
+    void equalLeafTypeMetasHaveSameKeyTest() {
+        Assertions.assertSame(TypeMetaKey.of(new TypeMeta<>(String.class)),
+                TypeMetaKey.of(new TypeMeta<>(String.class)));
+    }
+
+    @Test
+    void equalNestedTypeMetasHaveSameKeyTest() {
+        Assertions.assertSame(TypeMetaKey.of(createMapOfLists()), TypeMetaKey.of(createMapOfLists()));
+    }
+
+    @Test
+    void leafWithEmptyGenericTypesHasSameKeyTest() {
+        Assertions.assertSame(TypeMetaKey.of(new TypeMeta<>(String.class, new TypeMeta<?>[0])),
+                TypeMetaKey.of(new TypeMeta<>(String.class)));
+    }
+
+    @Test
+    void wildcardAndNonWildcardHaveDifferentKeysTest() {
+        TypeMetaKey wildcardKey = TypeMetaKey.of(new TypeMeta<>(Number.class, new TypeMeta<?>[0], true));
+        TypeMetaKey nonWildcardKey = TypeMetaKey.of(new TypeMeta<>(Number.class));
+        Assertions.assertNotEquals(wildcardKey, nonWildcardKey);
+        Assertions.assertSame(wildcardKey, TypeMetaKey.of(new TypeMeta<>(Number.class, new TypeMeta<?>[0], true)));
+    }
+
+    private TypeMeta<?> createMapOfLists() {
+        TypeMeta<?> wildcardNumber = new TypeMeta<>(Number.class, new TypeMeta<?>[0], true);
+        TypeMeta<?> listOfNumbers = new TypeMeta<>(List.class, new TypeMeta<?>[]{ wildcardNumber });
+        return new TypeMeta<>(Map.class, new TypeMeta<?>[]{ new TypeMeta<>(String.class), listOfNumbers });
+    }
+}
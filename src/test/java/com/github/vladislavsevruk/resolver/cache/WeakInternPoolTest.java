@@ -0,0 +1,71 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Uladzislau Seuruk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.vladislavsevruk.resolver.cache;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class WeakInternPoolTest {
+
+    @Test
+    void clearPoolTest() {
+        WeakInternPool<String> pool = new WeakInternPool<>();
+        pool.intern(new String("java.lang.String"));
+        pool.clear();
+        Assertions.assertEquals(0, pool.size());
+        Assertions.assertEquals(1, pool.getMissCount());
+    }
+
+    @Test
+    void equalValuesShareCanonicalInstanceTest() {
+        WeakInternPool<String> pool = new WeakInternPool<>();
+        String value1 = new String("java.util.List<java.lang.String>");
+        String value2 = new String("java.util.List<java.lang.String>");
+        Assertions.assertSame(value1, pool.intern(value1));
+        Assertions.assertSame(value1, pool.intern(value2));
+        Assertions.assertEquals(1, pool.getHitCount());
+        Assertions.assertEquals(1, pool.getMissCount());
+        Assertions.assertEquals(1, pool.size());
+    }
+
+    @Test
+    void internNullTest() {
+        WeakInternPool<String> pool = new WeakInternPool<>();
+        Assertions.assertNull(pool.intern(null));
+        Assertions.assertEquals(0, pool.getHitCount());
+        Assertions.assertEquals(0, pool.getMissCount());
+    }
+
+    @Test
+    void differentValuesArePooledSeparatelyTest() {
+        WeakInternPool<String> pool = new WeakInternPool<>();
+        String value1 = "java.lang.Long";
+        String value2 = "java.lang.Short";
+        Assertions.assertSame(value1, pool.intern(value1));
+        Assertions.assertSame(value2, pool.intern(value2));
+        Assertions.assertEquals(0, pool.getHitCount());
+        Assertions.assertEquals(2, pool.getMissCount());
+        Assertions.assertEquals(2, pool.size());
+    }
+}
@@ -23,9 +23,13 @@
  */
 package com.github.vladislavsevruk.resolver.context;
 
+import com.github.vladislavsevruk.resolver.metrics.InMemoryResolverMetrics;
+import com.github.vladislavsevruk.resolver.metrics.ResolverMetricsManager;
+import com.github.vladislavsevruk.resolver.resolver.field.FieldStringRepresentationResolver;
 import com.github.vladislavsevruk.resolver.resolver.picker.TypeResolverPicker;
 import com.github.vladislavsevruk.resolver.resolver.storage.FullNameResolverStorage;
 import com.github.vladislavsevruk.resolver.resolver.storage.TypeResolverStorage;
+import com.github.vladislavsevruk.resolver.test.data.TestModel;
 import com.github.vladislavsevruk.resolver.type.mapper.StringRepresentationVariableMapper;
 import com.github.vladislavsevruk.resolver.type.mapper.TypeVariableMapper;
 import com.github.vladislavsevruk.resolver.type.storage.MappedVariableHierarchyStorage;
@@ -37,6 +41,16 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
 @ExtendWith(MockitoExtension.class)
 class StringRepresentationResolvingContextManagerTest {
 
@@ -72,6 +86,51 @@ class StringRepresentationResolvingContextManagerTest {
         Assertions.assertEquals(typeVariableMapper, resolvingContext2.getTypeVariableMapper());
     }
 
+    @Test
+    void autoRefreshContextOnceAfterModulesReplacementTest() {
+        resetModulesAndContext();
+        StringRepresentationResolvingContextManager.enableContextAutoRefresh();
+        AtomicInteger createdMappers = new AtomicInteger();
+        StringRepresentationResolvingModuleFactory.replaceModules(
+                modules -> modules.withMappedVariableHierarchyStorage(context -> mappedVariableHierarchyStorage)
+                        .withTypeResolverPicker(context -> typeResolverPicker)
+                        .withTypeResolverStorage(context -> typeResolverStorage)
+                        .withTypeVariableMapper(context -> {
+                            createdMappers.incrementAndGet();
+                            return typeVariableMapper;
+                        }));
+        ResolvingContext<String> resolvingContext = StringRepresentationResolvingContextManager.getContext();
+        Assertions.assertEquals(1, createdMappers.get());
+        Assertions.assertEquals(mappedVariableHierarchyStorage, resolvingContext.getMappedVariableHierarchyStorage());
+        Assertions.assertEquals(typeResolverPicker, resolvingContext.getTypeResolverPicker());
+        Assertions.assertEquals(typeResolverStorage, resolvingContext.getTypeResolverStorage());
+        Assertions.assertEquals(typeVariableMapper, resolvingContext.getTypeVariableMapper());
+    }
+
+    @Test
+    void autoRefreshContextOnceAfterTransactionCommitTest() {
+        resetModulesAndContext();
+        StringRepresentationResolvingContextManager.enableContextAutoRefresh();
+        AtomicInteger createdMappers = new AtomicInteger();
+        ResolvingContext<String> resolvingContext1 = StringRepresentationResolvingContextManager.getContext();
+        StringRepresentationResolvingModulesTransaction transaction = StringRepresentationResolvingModuleFactory
+                .beginTransaction().replaceMappedVariableHierarchyStorage(context -> mappedVariableHierarchyStorage)
+                .replaceTypeResolverPicker(context -> typeResolverPicker)
+                .replaceTypeResolverStorage(context -> typeResolverStorage).replaceTypeVariableMapper(context -> {
+                    createdMappers.incrementAndGet();
+                    return typeVariableMapper;
+                });
+        Assertions.assertSame(resolvingContext1, StringRepresentationResolvingContextManager.getContext());
+        Assertions.assertNull(StringRepresentationResolvingModuleFactory.typeVariableMapper());
+        transaction.commit();
+        ResolvingContext<String> resolvingContext2 = StringRepresentationResolvingContextManager.getContext();
+        Assertions.assertEquals(1, createdMappers.get());
+        Assertions.assertEquals(mappedVariableHierarchyStorage, resolvingContext2.getMappedVariableHierarchyStorage());
+        Assertions.assertEquals(typeResolverPicker, resolvingContext2.getTypeResolverPicker());
+        Assertions.assertEquals(typeResolverStorage, resolvingContext2.getTypeResolverStorage());
+        Assertions.assertEquals(typeVariableMapper, resolvingContext2.getTypeVariableMapper());
+    }
+
     @Test
     void autoRefreshContextAfterMappedVariableHierarchyStorageUpdatesTest() {
         resetModulesAndContext();
@@ -135,6 +194,34 @@ class StringRepresentationResolvingContextManagerTest {
         Assertions.assertEquals(typeVariableMapper, resolvingContext2.getTypeVariableMapper());
     }
 
+    @Test
+    void contextIsFullyInitializedForConcurrentReadersTest() throws ExecutionException, InterruptedException {
+        resetModulesAndContext();
+        ExecutorService executorService = Executors.newFixedThreadPool(4);
+        AtomicBoolean refreshing = new AtomicBoolean(true);
+        List<Future<Boolean>> readers = new ArrayList<>();
+        for (int i = 0; i < 4; ++i) {
+            readers.add(executorService.submit(() -> {
+                boolean allInitialized = true;
+                while (refreshing.get()) {
+                    ResolvingContext<String> context = StringRepresentationResolvingContextManager.getContext();
+                    allInitialized &= context.getMappedVariableHierarchyStorage() != null
+                            && context.getTypeResolverPicker() != null && context.getTypeResolverStorage() != null
+                            && context.getTypeVariableMapper() != null;
+                }
+                return allInitialized;
+            }));
+        }
+        for (int i = 0; i < 100; ++i) {
+            StringRepresentationResolvingContextManager.refreshContext();
+        }
+        refreshing.set(false);
+        for (Future<Boolean> reader : readers) {
+            Assertions.assertTrue(reader.get());
+        }
+        executorService.shutdown();
+    }
+
     @Test
     void equalContextAfterRefreshWithoutUpdatesTest() {
         ResolvingContext<String> resolvingContext1 = StringRepresentationResolvingContextManager.getContext();
@@ -236,6 +323,25 @@ class StringRepresentationResolvingContextManagerTest {
                 resolvingContext2.getMappedVariableHierarchyStorage().getClass());
     }
 
+    @Test
+    void refreshContextIsReportedToMetricsTest() throws NoSuchFieldException {
+        resetModulesAndContext();
+        InMemoryResolverMetrics metrics = new InMemoryResolverMetrics();
+        ResolverMetricsManager.setMetrics(metrics);
+        try {
+            Field field = TestModel.class.getDeclaredField("parameterizedFieldSingleParameter");
+            new FieldStringRepresentationResolver().resolveField(TestModel.class, field);
+            StringRepresentationResolvingContextManager.refreshContext();
+            new FieldStringRepresentationResolver().resolveField(TestModel.class, field);
+        } finally {
+            ResolverMetricsManager.setMetrics(null);
+        }
+        Assertions.assertEquals(1, metrics.getContextRefreshCount());
+        Assertions.assertEquals(2, metrics.getResolveCount(FieldStringRepresentationResolver.class));
+        // refreshed context has new hierarchy storage so hierarchy is mapped again
+        Assertions.assertEquals(2, metrics.getCacheMissCount(StringRepresentationMappedVariableHierarchyStorage.class));
+    }
+
     @Test
     void sameContextIsReturnedIfAutoRefreshDisabledAfterMappedVariableHierarchyStorageUpdatesTest() {
         resetModulesAndContext();
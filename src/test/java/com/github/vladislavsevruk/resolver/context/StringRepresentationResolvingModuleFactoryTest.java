@@ -79,6 +79,45 @@ class StringRepresentationResolvingModuleFactoryTest {
                 StringRepresentationResolvingModuleFactory.mappedVariableHierarchyStorage());
     }
 
+    @Test
+    void committedTransactionCannotBeReusedTest() {
+        StringRepresentationResolvingModulesTransaction transaction = StringRepresentationResolvingModuleFactory
+                .beginTransaction();
+        transaction.commit();
+        Assertions.assertThrows(IllegalStateException.class, transaction::commit);
+        Assertions.assertThrows(IllegalStateException.class,
+                () -> transaction.replaceTypeResolverPicker(context -> typeResolverPicker));
+    }
+
+    @Test
+    void replaceModulesTest() {
+        ResolvingModuleFactoryMethod<String, MappedVariableHierarchyStorage<String>> storageFactoryMethod
+                = context -> mappedVariableHierarchyStorage;
+        ResolvingModuleFactoryMethod<String, TypeVariableMapper<String>> mapperFactoryMethod
+                = context -> typeVariableMapper;
+        StringRepresentationResolvingModuleFactory.replaceModules(
+                modules -> modules.withMappedVariableHierarchyStorage(storageFactoryMethod)
+                        .withTypeVariableMapper(mapperFactoryMethod));
+        StringRepresentationResolvingModules modules = StringRepresentationResolvingModuleFactory.modules();
+        Assertions.assertEquals(storageFactoryMethod, modules.getMappedVariableHierarchyStorage());
+        Assertions.assertEquals(mapperFactoryMethod, modules.getTypeVariableMapper());
+        Assertions.assertEquals(storageFactoryMethod,
+                StringRepresentationResolvingModuleFactory.mappedVariableHierarchyStorage());
+        Assertions.assertEquals(mapperFactoryMethod, StringRepresentationResolvingModuleFactory.typeVariableMapper());
+    }
+
+    @Test
+    void replaceModulesUsingTransactionTest() {
+        ResolvingModuleFactoryMethod<String, TypeResolverPicker<String>> pickerFactoryMethod
+                = context -> typeResolverPicker;
+        ResolvingModuleFactoryMethod<String, TypeResolverStorage<String>> storageFactoryMethod
+                = context -> typeResolverStorage;
+        StringRepresentationResolvingModuleFactory.beginTransaction().replaceTypeResolverPicker(pickerFactoryMethod)
+                .replaceTypeResolverStorage(storageFactoryMethod).commit();
+        Assertions.assertEquals(pickerFactoryMethod, StringRepresentationResolvingModuleFactory.typeResolverPicker());
+        Assertions.assertEquals(storageFactoryMethod, StringRepresentationResolvingModuleFactory.typeResolverStorage());
+    }
+
     @Test
     void replaceTypeResolverPickerTest() {
         ResolvingModuleFactoryMethod<String, TypeResolverPicker<String>> factoryMethod = context -> typeResolverPicker;
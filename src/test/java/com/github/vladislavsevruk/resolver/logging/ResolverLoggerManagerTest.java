@@ -0,0 +1,86 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Uladzislau Seuruk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.vladislavsevruk.resolver.logging;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class ResolverLoggerManagerTest {
+
+    @Mock
+    private ResolverLogger delegate;
+
+    @AfterEach
+    void resetLoggerFactory() {
+        ResolverLoggerManager.setLoggerFactory(null);
+    }
+
+    @Test
+    void delegateIsCreatedOncePerFactoryTest() {
+        int[] createdLoggers = new int[1];
+        ResolverLoggerManager.setLoggerFactory(loggingClass -> {
+            ++createdLoggers[0];
+            return delegate;
+        });
+        ResolverLogger logger = ResolverLoggerManager.getLogger(ResolverLoggerManagerTest.class);
+        logger.debug("first");
+        logger.debug("second");
+        Assertions.assertEquals(1, createdLoggers[0]);
+    }
+
+    @Test
+    void loggingIsDisabledByDefaultTest() {
+        ResolverLogger logger = ResolverLoggerManager.getLogger(ResolverLoggerManagerTest.class);
+        Assertions.assertFalse(logger.isDebugEnabled());
+        Assertions.assertFalse(logger.isInfoEnabled());
+        Assertions.assertFalse(logger.isWarnEnabled());
+    }
+
+    @Test
+    void nullFactoryDisablesLoggingTest() {
+        ResolverLoggerManager.setLoggerFactory(loggingClass -> delegate);
+        ResolverLogger logger = ResolverLoggerManager.getLogger(ResolverLoggerManagerTest.class);
+        ResolverLoggerManager.setLoggerFactory(null);
+        logger.info("message");
+        Assertions.assertFalse(logger.isInfoEnabled());
+        Mockito.verifyNoInteractions(delegate);
+    }
+
+    @Test
+    void replacedFactoryIsUsedByExistingLoggerTest() {
+        ResolverLogger logger = ResolverLoggerManager.getLogger(ResolverLoggerManagerTest.class);
+        ResolverLoggerManager.setLoggerFactory(loggingClass -> delegate);
+        Mockito.when(delegate.isDebugEnabled()).thenReturn(true);
+        Assertions.assertTrue(logger.isDebugEnabled());
+        Exception cause = new Exception();
+        logger.warn("message", cause);
+        Mockito.verify(delegate).warn("message", cause);
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Uladzislau Seuruk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.vladislavsevruk.resolver.metrics;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class InMemoryResolverMetricsTest {
+
+    @Test
+    void cacheAccessesAreCountedPerOwnerTest() {
+        InMemoryResolverMetrics metrics = new InMemoryResolverMetrics();
+        metrics.recordCacheAccess(String.class, true);
+        metrics.recordCacheAccess(String.class, true);
+        metrics.recordCacheAccess(String.class, true);
+        metrics.recordCacheAccess(String.class, false);
+        metrics.recordCacheAccess(Integer.class, false);
+        Assertions.assertEquals(3, metrics.getCacheHitCount(String.class));
+        Assertions.assertEquals(1, metrics.getCacheMissCount(String.class));
+        Assertions.assertEquals(0.75, metrics.getCacheHitRatio(String.class));
+        Assertions.assertEquals(0, metrics.getCacheHitCount(Integer.class));
+        Assertions.assertEquals(1, metrics.getCacheMissCount(Integer.class));
+        Assertions.assertEquals(0, metrics.getCacheHitRatio(Integer.class));
+    }
+
+    @Test
+    void contextRefreshesAreCountedTest() {
+        InMemoryResolverMetrics metrics = new InMemoryResolverMetrics();
+        metrics.recordContextRefresh();
+        metrics.recordContextRefresh();
+        Assertions.assertEquals(2, metrics.getContextRefreshCount());
+    }
+
+    @Test
+    void resetRemovesRecordedMetricsTest() {
+        InMemoryResolverMetrics metrics = new InMemoryResolverMetrics();
+        metrics.recordCacheAccess(String.class, true);
+        metrics.recordContextRefresh();
+        metrics.startResolution(String.class, String.class).stop();
+        metrics.reset();
+        Assertions.assertEquals(0, metrics.getCacheHitCount(String.class));
+        Assertions.assertEquals(0, metrics.getContextRefreshCount());
+        Assertions.assertEquals(0, metrics.getResolveCount(String.class));
+        Assertions.assertTrue(metrics.getResolverClasses().isEmpty());
+    }
+
+    @Test
+    void resolutionsAreCountedPerResolverClassTest() {
+        InMemoryResolverMetrics metrics = new InMemoryResolverMetrics();
+        metrics.startResolution(String.class, Integer.class).stop();
+        metrics.startResolution(String.class, Long.class).stop();
+        metrics.startResolution(Integer.class, Long.class).stop();
+        Assertions.assertEquals(2, metrics.getResolveCount(String.class));
+        Assertions.assertEquals(1, metrics.getResolveCount(Integer.class));
+        Assertions.assertEquals(0, metrics.getResolveCount(Long.class));
+        Assertions.assertEquals(2, metrics.getResolverClasses().size());
+        Assertions.assertEquals(2, metrics.getLatencyHistogram(String.class).getCount());
+        Assertions.assertNull(metrics.getLatencyHistogram(Long.class));
+    }
+
+    @Test
+    void unfinishedResolutionIsNotCountedTest() {
+        InMemoryResolverMetrics metrics = new InMemoryResolverMetrics();
+        metrics.startResolution(String.class, Integer.class);
+        Assertions.assertEquals(0, metrics.getResolveCount(String.class));
+    }
+}
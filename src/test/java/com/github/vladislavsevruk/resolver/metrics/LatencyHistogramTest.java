@@ -0,0 +1,86 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Uladzislau Seuruk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.vladislavsevruk.resolver.metrics;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class LatencyHistogramTest {
+
+    @Test
+    void emptyHistogramTest() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        Assertions.assertEquals(0, histogram.getCount());
+        Assertions.assertEquals(0, histogram.getMaxNanos());
+        Assertions.assertEquals(0, histogram.getMeanNanos());
+        Assertions.assertEquals(0, histogram.getPercentileNanos(99));
+    }
+
+    @Test
+    void illegalPercentileThrowsExceptionTest() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        Assertions.assertThrows(IllegalArgumentException.class, () -> histogram.getPercentileNanos(-1));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> histogram.getPercentileNanos(101));
+    }
+
+    @Test
+    void negativeValueIsRecordedAsZeroTest() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(-5);
+        Assertions.assertEquals(1, histogram.getBucketCount(0));
+        Assertions.assertEquals(0, histogram.getTotalNanos());
+    }
+
+    @Test
+    void percentileIsBoundedByMaximumTest() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(1);
+        histogram.record(2);
+        histogram.record(3);
+        histogram.record(100);
+        Assertions.assertEquals(3, histogram.getPercentileNanos(50));
+        Assertions.assertEquals(100, histogram.getPercentileNanos(100));
+    }
+
+    @Test
+    void valuesAreCountedAtExponentialBucketsTest() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(0);
+        histogram.record(1);
+        histogram.record(2);
+        histogram.record(3);
+        histogram.record(1000);
+        Assertions.assertEquals(1, histogram.getBucketCount(0));
+        Assertions.assertEquals(1, histogram.getBucketCount(1));
+        Assertions.assertEquals(2, histogram.getBucketCount(2));
+        Assertions.assertEquals(1, histogram.getBucketCount(10));
+        Assertions.assertEquals(1023, LatencyHistogram.getBucketUpperBound(10));
+        Assertions.assertEquals(Long.MAX_VALUE,
+                LatencyHistogram.getBucketUpperBound(LatencyHistogram.BUCKETS_COUNT - 1));
+        Assertions.assertEquals(5, histogram.getCount());
+        Assertions.assertEquals(1006, histogram.getTotalNanos());
+        Assertions.assertEquals(1000, histogram.getMaxNanos());
+        Assertions.assertEquals(201.2, histogram.getMeanNanos(), 0.001);
+    }
+}
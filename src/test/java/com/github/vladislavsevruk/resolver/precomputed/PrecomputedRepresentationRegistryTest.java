@@ -0,0 +1,124 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Uladzislau Seuruk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.vladislavsevruk.resolver.precomputed;
+
+import com.github.vladislavsevruk.resolver.resolver.executable.ExecutableSignature;
+import com.github.vladislavsevruk.resolver.test.data.PrecomputedTestModel;
+import com.github.vladislavsevruk.resolver.test.data.PrecomputedTestParent;
+import com.github.vladislavsevruk.resolver.test.data.TestModel;
+import com.github.vladislavsevruk.resolver.type.TypeMeta;
+import com.github.vladislavsevruk.resolver.util.ClassNameStyle;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+class PrecomputedRepresentationRegistryTest {
+
+    @Test
+    void defaultRegistryContainsGeneratedTableTest() {
+        PrecomputedRepresentationTable table = PrecomputedRepresentationRegistry.getDefault()
+                .getTable(PrecomputedTestModel.class);
+        Assertions.assertNotNull(table);
+        Assertions.assertEquals(PrecomputedTestModel.class, table.getType());
+    }
+
+    @Test
+    void emptyRegistryTest() throws NoSuchFieldException {
+        PrecomputedRepresentationRegistry registry = new PrecomputedRepresentationRegistry(Collections.emptyList());
+        Field field = PrecomputedTestModel.class.getDeclaredField("primitiveField");
+        Assertions.assertEquals(0, registry.size());
+        Assertions.assertNull(registry
+                .getFieldRepresentation(new TypeMeta<>(PrecomputedTestModel.class), field, ClassNameStyle.FULL_NAME));
+    }
+
+    @Test
+    void getPrecomputedExecutableSignatureTest() throws NoSuchMethodException {
+        Method method = PrecomputedTestModel.class.getMethod("setWrapperArray", Integer[].class, int.class);
+        ExecutableSignature expectedSignature = new ExecutableSignature("void",
+                Arrays.asList(Integer.class.getName() + "[]", "int"),
+                Collections.singletonList(IOException.class.getName()));
+        Assertions.assertEquals(expectedSignature, PrecomputedRepresentationRegistry.getDefault()
+                .getExecutableSignature(new TypeMeta<>(PrecomputedTestModel.class), method, ClassNameStyle.FULL_NAME));
+    }
+
+    @Test
+    void getPrecomputedFieldRepresentationTest() throws NoSuchFieldException {
+        Field field = PrecomputedTestModel.class.getDeclaredField("genericMapField");
+        String expectedRepresentation = String.format("%s<%s, T[]>", Map.class.getName(), String.class.getName());
+        Assertions.assertEquals(expectedRepresentation, PrecomputedRepresentationRegistry.getDefault()
+                .getFieldRepresentation(new TypeMeta<>(PrecomputedTestModel.class), field, ClassNameStyle.FULL_NAME));
+    }
+
+    @Test
+    void getPrecomputedInheritedFieldRepresentationTest() throws NoSuchFieldException {
+        Field field = PrecomputedTestParent.class.getDeclaredField("parentField");
+        String expectedRepresentation = String.format("%s<T>", List.class.getName());
+        Assertions.assertEquals(expectedRepresentation, PrecomputedRepresentationRegistry.getDefault()
+                .getFieldRepresentation(new TypeMeta<>(PrecomputedTestModel.class), field, ClassNameStyle.FULL_NAME));
+    }
+
+    @Test
+    void getPrecomputedShortNameFieldRepresentationTest() throws NoSuchFieldException {
+        Field field = PrecomputedTestModel.class.getDeclaredField("genericMapField");
+        Assertions.assertEquals("Map<String, T[]>", PrecomputedRepresentationRegistry.getDefault()
+                .getFieldRepresentation(new TypeMeta<>(PrecomputedTestModel.class), field, ClassNameStyle.SHORT_NAME));
+    }
+
+    @Test
+    void parameterizedTypeMetaIsNotServedTest() throws NoSuchFieldException {
+        Field field = PrecomputedTestModel.class.getDeclaredField("primitiveField");
+        TypeMeta<?> typeMeta = new TypeMeta<>(PrecomputedTestModel.class,
+                new TypeMeta<?>[]{ new TypeMeta<>(Long.class) });
+        Assertions.assertNull(PrecomputedRepresentationRegistry.getDefault()
+                .getFieldRepresentation(typeMeta, field, ClassNameStyle.FULL_NAME));
+    }
+
+    @Test
+    void rawTypeUsageIsNotPrecomputedTest() throws NoSuchFieldException {
+        Field field = PrecomputedTestModel.class.getDeclaredField("rawField");
+        Assertions.assertNull(PrecomputedRepresentationRegistry.getDefault()
+                .getFieldRepresentation(new TypeMeta<>(PrecomputedTestModel.class), field, ClassNameStyle.FULL_NAME));
+    }
+
+    @Test
+    void typeWithoutTableIsNotServedTest() throws NoSuchFieldException {
+        Field field = TestModel.class.getDeclaredField("simpleField");
+        Assertions.assertNull(PrecomputedRepresentationRegistry.getDefault()
+                .getFieldRepresentation(new TypeMeta<>(TestModel.class), field, ClassNameStyle.FULL_NAME));
+    }
+
+    @Test
+    void unknownClassNameStyleIsNotServedTest() throws NoSuchFieldException {
+        Field field = PrecomputedTestModel.class.getDeclaredField("genericMapField");
+        Assertions.assertNull(PrecomputedRepresentationRegistry.getDefault()
+                .getFieldRepresentation(new TypeMeta<>(PrecomputedTestModel.class), field, null));
+    }
+}
@@ -0,0 +1,118 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Uladzislau Seuruk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.vladislavsevruk.resolver.resolver.batch;
+
+import com.github.vladislavsevruk.resolver.resolver.executable.ExecutableSignature;
+import com.github.vladislavsevruk.resolver.resolver.executable.ExecutableStringRepresentationResolver;
+import com.github.vladislavsevruk.resolver.resolver.field.FieldStringRepresentationResolver;
+import com.github.vladislavsevruk.resolver.test.context.ShortNameRepresentationContext;
+import com.github.vladislavsevruk.resolver.test.data.TestModel;
+import com.github.vladislavsevruk.resolver.type.TypeMeta;
+import com.github.vladislavsevruk.resolver.type.TypeProvider;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+class BatchStringRepresentationResolverTest {
+
+    @Test
+    void equalTasksTest() throws NoSuchFieldException {
+        Field field = TestModel.class.getDeclaredField("wrapperField");
+        ResolvingTask task1 = ResolvingTask.forField(new TypeProvider<TestModel<Long, Short>>() {}.getTypeMeta(),
+                field);
+        ResolvingTask task2 = ResolvingTask.forField(new TypeProvider<TestModel<Long, Short>>() {}.getTypeMeta(),
+                field);
+        Assertions.assertEquals(task1, task2);
+        Assertions.assertEquals(task1.hashCode(), task2.hashCode());
+    }
+
+    @Test
+    void invalidPartitionSizeThrowsExceptionTest() {
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> new BatchStringRepresentationResolver(ForkJoinPool.commonPool(), 0));
+    }
+
+    @Test
+    void resolveMixedTasksTest() {
+        TypeMeta<?> typeMeta = new TypeProvider<TestModel<Long, Short>>() {}.getTypeMeta();
+        List<ResolvingTask> tasks = new ArrayList<>();
+        for (Field field : TestModel.class.getDeclaredFields()) {
+            tasks.add(ResolvingTask.forField(typeMeta, field));
+        }
+        for (Method method : TestModel.class.getDeclaredMethods()) {
+            if (Modifier.isPublic(method.getModifiers())) {
+                tasks.add(ResolvingTask.forMethod(typeMeta, method));
+            }
+        }
+        BatchResult result = new BatchStringRepresentationResolver(new ForkJoinPool(4), 2).resolve(tasks);
+        FieldStringRepresentationResolver fieldResolver = new FieldStringRepresentationResolver();
+        ExecutableStringRepresentationResolver executableResolver = new ExecutableStringRepresentationResolver();
+        Assertions.assertEquals(tasks.size(), result.getTasksCount());
+        Assertions.assertEquals(tasks.size(),
+                result.getFieldRepresentations().size() + result.getExecutableSignatures().size());
+        result.getFieldRepresentations().forEach((task, representation) -> Assertions
+                .assertEquals(fieldResolver.resolveField(typeMeta, (Field) task.getMember()), representation));
+        result.getExecutableSignatures().forEach((task, signature) -> {
+            Method method = (Method) task.getMember();
+            Assertions.assertEquals(executableResolver.getReturnType(typeMeta, method), signature.getReturnType());
+            Assertions.assertEquals(executableResolver.getParameterTypes(typeMeta, method),
+                    signature.getParameterTypes());
+            Assertions.assertEquals(executableResolver.getExceptionTypes(typeMeta, method),
+                    signature.getExceptionTypes());
+        });
+        Assertions.assertEquals(tasks.get(0), result.getFieldRepresentations().keySet().iterator().next());
+    }
+
+    @Test
+    void resolveStreamTest() throws NoSuchFieldException, NoSuchMethodException {
+        ResolvingTask fieldTask = ResolvingTask
+                .forField(TestModel.class, TestModel.class.getDeclaredField("wrapperField"));
+        ResolvingTask methodTask = ResolvingTask
+                .forMethod(TestModel.class, TestModel.class.getMethod("getWrapperReturnType"));
+        BatchResult result = new BatchStringRepresentationResolver().resolve(Arrays.asList(fieldTask, methodTask)
+                .stream());
+        Assertions.assertEquals(Short.class.getName(), result.getFieldRepresentations().get(fieldTask));
+        Assertions.assertEquals(
+                new ExecutableSignature(Double.class.getName(), Collections.emptyList(), Collections.emptyList()),
+                result.getExecutableSignatures().get(methodTask));
+        Assertions.assertTrue(result.getThroughput() > 0);
+    }
+
+    @Test
+    void resolveUsingReceivedContextTest() throws NoSuchFieldException {
+        ResolvingTask task = ResolvingTask.forField(TestModel.class, TestModel.class.getDeclaredField("wrapperField"));
+        BatchResult result = new BatchStringRepresentationResolver(new ShortNameRepresentationContext(),
+                ForkJoinPool.commonPool(), BatchStringRepresentationResolver.DEFAULT_PARTITION_SIZE)
+                .resolve(Collections.singletonList(task));
+        Assertions.assertEquals("Short", result.getFieldRepresentations().get(task));
+    }
+}
@@ -0,0 +1,157 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Uladzislau Seuruk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.vladislavsevruk.resolver.resolver.executable;
+
+import com.github.vladislavsevruk.resolver.exception.TypeResolvingException;
+import com.github.vladislavsevruk.resolver.metrics.InMemoryResolverMetrics;
+import com.github.vladislavsevruk.resolver.metrics.ResolverMetricsManager;
+import com.github.vladislavsevruk.resolver.test.data.TestModel;
+import com.github.vladislavsevruk.resolver.type.TypeMeta;
+import com.github.vladislavsevruk.resolver.type.TypeProvider;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.lang.reflect.Method;
+import java.text.ParseException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+@ExtendWith(MockitoExtension.class)
+class CachingExecutableStringRepresentationResolverTest {
+
+    @Mock
+    private ExecutableTypeResolver<String> delegate;
+
+    @Test
+    void cacheAccessesAreReportedToMetricsTest() throws NoSuchMethodException {
+        InMemoryResolverMetrics metrics = new InMemoryResolverMetrics();
+        ResolverMetricsManager.setMetrics(metrics);
+        try {
+            TypeProvider<?> typeProvider = new TypeProvider<TestModel<Float, Long>>() {};
+            Method method = TestModel.class.getMethod("getSeveralParameterizedParameterTypes", List.class, Set.class);
+            CachingExecutableStringRepresentationResolver resolver
+                    = new CachingExecutableStringRepresentationResolver();
+            resolver.getReturnType(typeProvider, method);
+            resolver.getParameterTypes(typeProvider, method);
+            resolver.getExceptionTypes(typeProvider, method);
+        } finally {
+            ResolverMetricsManager.setMetrics(null);
+        }
+        Assertions.assertEquals(2, metrics.getCacheHitCount(CachingExecutableStringRepresentationResolver.class));
+        Assertions.assertEquals(1, metrics.getCacheMissCount(CachingExecutableStringRepresentationResolver.class));
+        Assertions.assertEquals(3, metrics.getResolveCount(ExecutableStringRepresentationResolver.class));
+    }
+
+    @Test
+    void eldestSignatureIsEvictedTest() throws NoSuchMethodException {
+        Method method1 = TestModel.class.getMethod("getSimpleReturnType");
+        Method method2 = TestModel.class.getMethod("getWrapperReturnType");
+        TypeMeta<?> typeMeta = new TypeMeta<>(TestModel.class);
+        Mockito.when(delegate.getReturnType(typeMeta, method1)).thenReturn(String.class.getName());
+        Mockito.when(delegate.getReturnType(typeMeta, method2)).thenReturn(Double.class.getName());
+        Mockito.when(delegate.getParameterTypes(Mockito.eq(typeMeta), Mockito.any(Method.class)))
+                .thenReturn(Collections.emptyList());
+        Mockito.when(delegate.getExceptionTypes(Mockito.eq(typeMeta), Mockito.any(Method.class)))
+                .thenReturn(Collections.emptyList());
+        CachingExecutableStringRepresentationResolver resolver = new CachingExecutableStringRepresentationResolver(
+                delegate, 1);
+        resolver.getReturnType(typeMeta, method1);
+        resolver.getReturnType(typeMeta, method2);
+        resolver.getReturnType(typeMeta, method1);
+        Mockito.verify(delegate, Mockito.times(2)).getReturnType(typeMeta, method1);
+        Mockito.verify(delegate, Mockito.times(1)).getReturnType(typeMeta, method2);
+    }
+
+    @Test
+    void failedResolveIsNotCachedTest() throws NoSuchMethodException {
+        Method method = TestModel.class.getMethod("wait");
+        CachingExecutableStringRepresentationResolver resolver = new CachingExecutableStringRepresentationResolver();
+        Assertions.assertThrows(TypeResolvingException.class,
+                () -> resolver.getParameterTypes(TestModel.class, method));
+        Assertions.assertThrows(TypeResolvingException.class,
+                () -> resolver.getParameterTypes(TestModel.class, method));
+    }
+
+    @Test
+    void invalidMaximumSizeThrowsExceptionTest() {
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> new CachingExecutableStringRepresentationResolver(delegate, -1));
+    }
+
+    @Test
+    void signatureIsResolvedOnceTest() throws NoSuchMethodException {
+        Method method = TestModel.class.getMethod("getExceptionType");
+        TypeMeta<?> typeMeta = new TypeMeta<>(TestModel.class);
+        Mockito.when(delegate.getReturnType(typeMeta, method)).thenReturn(Double.class.getName());
+        Mockito.when(delegate.getParameterTypes(typeMeta, method)).thenReturn(Collections.emptyList());
+        Mockito.when(delegate.getExceptionTypes(typeMeta, method))
+                .thenReturn(Collections.singletonList(ParseException.class.getName()));
+        CachingExecutableStringRepresentationResolver resolver = new CachingExecutableStringRepresentationResolver(
+                delegate);
+        resolver.getReturnType(typeMeta, method);
+        resolver.getParameterTypes(typeMeta, method);
+        resolver.getExceptionTypes(typeMeta, method);
+        Mockito.verify(delegate, Mockito.times(1)).getReturnType(typeMeta, method);
+        Mockito.verify(delegate, Mockito.times(1)).getParameterTypes(typeMeta, method);
+        Mockito.verify(delegate, Mockito.times(1)).getExceptionTypes(typeMeta, method);
+    }
+
+    @Test
+    void signatureTest() throws NoSuchMethodException {
+        Method method = TestModel.class
+                .getMethod("getSeveralParameterizedParameterTypeSeveralInnerParameterTypes", List.class, Set.class);
+        CachingExecutableStringRepresentationResolver resolver = new CachingExecutableStringRepresentationResolver();
+        ExecutableSignature signature = resolver
+                .getSignature(new TypeProvider<TestModel<Short, Byte>>() {}.getTypeMeta(), method);
+        List<String> expectedParameterTypes = Arrays.asList(
+                String.format("%s<%s<%s, %s>>", List.class.getName(), Map.class.getName(), Short.class.getName(),
+                        Byte.class.getName()),
+                String.format("%s<%s<%s, %s>>", Set.class.getName(), Map.Entry.class.getName(), Short.class.getName(),
+                        Byte.class.getName()));
+        Assertions.assertEquals(void.class.getName(), signature.getReturnType());
+        Assertions.assertEquals(expectedParameterTypes, signature.getParameterTypes());
+        Assertions.assertTrue(signature.getExceptionTypes().isEmpty());
+        Assertions.assertThrows(UnsupportedOperationException.class,
+                () -> signature.getParameterTypes().add(String.class.getName()));
+    }
+
+    @Test
+    void sameSignatureForEqualTypeMetasTest() throws NoSuchMethodException {
+        Method method = TestModel.class.getMethod("getGenericReturnType");
+        CachingExecutableStringRepresentationResolver resolver = new CachingExecutableStringRepresentationResolver();
+        ExecutableSignature signature1 = resolver
+                .getSignature(new TypeProvider<TestModel<Short, Byte>>() {}.getTypeMeta(), method);
+        ExecutableSignature signature2 = resolver
+                .getSignature(new TypeProvider<TestModel<Short, Byte>>() {}.getTypeMeta(), method);
+        Assertions.assertEquals(Short.class.getName(), signature1.getReturnType());
+        Assertions.assertSame(signature1, signature2);
+    }
+}
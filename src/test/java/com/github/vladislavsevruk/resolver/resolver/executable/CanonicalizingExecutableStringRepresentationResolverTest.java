@@ -0,0 +1,60 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Uladzislau Seuruk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.vladislavsevruk.resolver.resolver.executable;
+
+import com.github.vladislavsevruk.resolver.test.data.TestModel;
+import com.github.vladislavsevruk.resolver.type.TypeProvider;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.List;
+
+class CanonicalizingExecutableStringRepresentationResolverTest {
+
+    @Test
+    void equalRepresentationsShareInstanceTest() throws NoSuchMethodException {
+        Method method = TestModel.class.getMethod("getSimpleReturnType");
+        CanonicalizingExecutableStringRepresentationResolver resolver
+                = new CanonicalizingExecutableStringRepresentationResolver();
+        String result1 = resolver.getReturnType(new TypeProvider<TestModel<Long, Short>>() {}, method);
+        String result2 = resolver.getReturnType(TestModel.class, method);
+        Assertions.assertEquals(String.class.getName(), result1);
+        Assertions.assertSame(result1, result2);
+        Assertions.assertEquals(1, resolver.getInternPool().getHitCount());
+    }
+
+    @Test
+    void parameterTypesAreCanonicalizedTest() throws NoSuchMethodException {
+        Method method = TestModel.class.getMethod("getSeveralGenericParameterTypes", Object.class, Object.class);
+        CanonicalizingExecutableStringRepresentationResolver resolver
+                = new CanonicalizingExecutableStringRepresentationResolver();
+        List<String> result = resolver
+                .getParameterTypes(new TypeProvider<TestModel<Long, Long>>() {}, method);
+        Assertions.assertEquals(Arrays.asList(Long.class.getName(), Long.class.getName()), result);
+        Assertions.assertSame(result.get(0), result.get(1));
+        Assertions.assertEquals(1, resolver.getInternPool().size());
+    }
+}
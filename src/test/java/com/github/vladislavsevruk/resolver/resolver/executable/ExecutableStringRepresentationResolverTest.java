@@ -24,17 +24,25 @@
 package com.github.vladislavsevruk.resolver.resolver.executable;
 
 import com.github.vladislavsevruk.resolver.exception.TypeResolvingException;
+import com.github.vladislavsevruk.resolver.metrics.InMemoryResolverMetrics;
+import com.github.vladislavsevruk.resolver.metrics.ResolverMetricsManager;
 import com.github.vladislavsevruk.resolver.test.data.TestModel;
 import com.github.vladislavsevruk.resolver.type.TypeMeta;
 import com.github.vladislavsevruk.resolver.type.TypeProvider;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Executable;
 import java.lang.reflect.Method;
 import java.text.ParseException;
+import java.util.AbstractCollection;
+import java.util.AbstractList;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -1100,4 +1108,78 @@ class ExecutableStringRepresentationResolverTest {
                 .getReturnType(typeProvider, TestModel.class.getMethod("getWrapperReturnType"));
         Assertions.assertEquals(Double.class.getName(), result);
     }
+
+    @Test
+    void resolveExecutableTypesAreReportedToMetricsTest() throws NoSuchMethodException {
+        InMemoryResolverMetrics metrics = new InMemoryResolverMetrics();
+        ResolverMetricsManager.setMetrics(metrics);
+        try {
+            TypeProvider<?> typeProvider = new TypeProvider<TestModel<Float, Long>>() {};
+            Method method = TestModel.class.getMethod("getSeveralParameterizedParameterTypes", List.class, Set.class);
+            executableTypeResolver.getReturnType(typeProvider, method);
+            executableTypeResolver.getParameterTypes(typeProvider, method);
+            executableTypeResolver.getExceptionTypes(TestModel.class, method);
+        } finally {
+            ResolverMetricsManager.setMetrics(null);
+        }
+        Assertions.assertEquals(3, metrics.getResolveCount(ExecutableStringRepresentationResolver.class));
+        Assertions.assertEquals(3,
+                metrics.getLatencyHistogram(ExecutableStringRepresentationResolver.class).getCount());
+    }
+
+    @Test
+    void resolveSignaturesConstructorTest() throws NoSuchMethodException {
+        Map<Executable, ExecutableSignature> result = executableTypeResolver.resolveSignatures(TestModel.class);
+        Constructor<?> constructor = TestModel.class.getDeclaredConstructor();
+        Assertions.assertEquals(constructor, result.keySet().iterator().next());
+        Assertions.assertEquals(new ExecutableSignature("void", Collections.emptyList(), Collections.emptyList()),
+                result.get(constructor));
+    }
+
+    @Test
+    void resolveSignaturesInParallelTest() {
+        TypeMeta<?> typeMeta = new TypeMeta<>(TestModel.class,
+                new TypeMeta<?>[]{ new TypeMeta<>(Float.class), new TypeMeta<>(Long.class) });
+        Map<Executable, ExecutableSignature> sequentialResult = executableTypeResolver
+                .resolveSignatures(typeMeta, false);
+        Map<Executable, ExecutableSignature> parallelResult = executableTypeResolver.resolveSignatures(typeMeta, true);
+        Assertions.assertEquals(new ArrayList<>(sequentialResult.entrySet()),
+                new ArrayList<>(parallelResult.entrySet()));
+    }
+
+    @Test
+    void resolveSignaturesMatchesSingleMethodResolvingTest() {
+        TypeProvider<?> typeProvider = new TypeProvider<TestModel<Float, Long>>() {};
+        Map<Executable, ExecutableSignature> result = executableTypeResolver.resolveSignatures(typeProvider);
+        for (Method method : TestModel.class.getDeclaredMethods()) {
+            if (method.isSynthetic()) {
+                continue;
+            }
+            ExecutableSignature signature = result.get(method);
+            Assertions.assertEquals(executableTypeResolver.getReturnType(typeProvider, method),
+                    signature.getReturnType());
+            Assertions.assertEquals(executableTypeResolver.getParameterTypes(typeProvider, method),
+                    signature.getParameterTypes());
+            Assertions.assertEquals(executableTypeResolver.getExceptionTypes(typeProvider, method),
+                    signature.getExceptionTypes());
+        }
+    }
+
+    @Test
+    void resolveSignaturesSkipsObjectMethodsTest() throws NoSuchMethodException {
+        Map<Executable, ExecutableSignature> result = executableTypeResolver.resolveSignatures(TestModel.class);
+        Assertions.assertFalse(result.containsKey(Object.class.getMethod("wait")));
+        Assertions.assertTrue(result.containsKey(LinkedList.class.getMethod("getFirst")));
+        Assertions.assertTrue(result.containsKey(AbstractCollection.class.getMethod("isEmpty")));
+    }
+
+    @Test
+    void resolveSignaturesSkipsOverriddenMethodsTest() throws NoSuchMethodException {
+        Map<Executable, ExecutableSignature> result = executableTypeResolver.resolveSignatures(TestModel.class);
+        Assertions.assertTrue(result.containsKey(LinkedList.class.getMethod("add", Object.class)));
+        Assertions.assertFalse(result.containsKey(AbstractList.class.getMethod("add", Object.class)));
+        Assertions.assertFalse(result.containsKey(Collection.class.getMethod("add", Object.class)));
+        Assertions.assertFalse(result.containsKey(Collection.class.getMethod("isEmpty")));
+        Assertions.assertTrue(result.containsKey(Collection.class.getMethod("stream")));
+    }
 }
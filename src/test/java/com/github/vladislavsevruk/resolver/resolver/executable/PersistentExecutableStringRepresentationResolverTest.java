@@ -0,0 +1,64 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Uladzislau Seuruk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.vladislavsevruk.resolver.resolver.executable;
+
+import com.github.vladislavsevruk.resolver.cache.PersistentRepresentationStore;
+import com.github.vladislavsevruk.resolver.test.data.TestModel;
+import com.github.vladislavsevruk.resolver.type.TypeMeta;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.lang.reflect.Method;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.util.Collections;
+
+class PersistentExecutableStringRepresentationResolverTest {
+
+    @TempDir
+    Path temporaryDirectory;
+
+    @Test
+    void warmStartUsesPersistedSignaturesTest() throws NoSuchMethodException {
+        Path file = temporaryDirectory.resolve("representations.bin");
+        Method method = TestModel.class.getMethod("getExceptionType");
+        TypeMeta<?> typeMeta = new TypeMeta<>(TestModel.class);
+        ExecutableSignature expectedSignature = new ExecutableSignature(Double.class.getName(),
+                Collections.emptyList(), Collections.singletonList(ParseException.class.getName()));
+        PersistentRepresentationStore store = new PersistentRepresentationStore(file);
+        Assertions.assertEquals(expectedSignature,
+                new PersistentExecutableStringRepresentationResolver(store).getSignature(typeMeta, method));
+        store.flush();
+        PersistentRepresentationStore reloadedStore = new PersistentRepresentationStore(file);
+        PersistentExecutableStringRepresentationResolver resolver
+                = new PersistentExecutableStringRepresentationResolver(reloadedStore);
+        Assertions.assertEquals(Double.class.getName(), resolver.getReturnType(typeMeta, method));
+        Assertions.assertEquals(Collections.emptyList(), resolver.getParameterTypes(typeMeta, method));
+        Assertions.assertEquals(Collections.singletonList(ParseException.class.getName()),
+                resolver.getExceptionTypes(typeMeta, method));
+        Assertions.assertEquals(3, reloadedStore.getHitCount());
+        Assertions.assertEquals(0, reloadedStore.getMissCount());
+    }
+}
@@ -0,0 +1,121 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Uladzislau Seuruk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.vladislavsevruk.resolver.resolver.executable;
+
+import com.github.vladislavsevruk.resolver.test.context.ShortNameRepresentationContext;
+import com.github.vladislavsevruk.resolver.test.data.PrecomputedTestModel;
+import com.github.vladislavsevruk.resolver.type.TypeMeta;
+import com.github.vladislavsevruk.resolver.util.ClassNameStyle;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.lang.reflect.Executable;
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.Map;
+
+@ExtendWith(MockitoExtension.class)
+class PrecomputedExecutableStringRepresentationResolverTest {
+
+    @Mock
+    private ExecutableTypeResolver<String> delegate;
+
+    @Test
+    void methodWithoutPrecomputedSignatureIsResolvedByDelegateTest() throws NoSuchMethodException {
+        Method method = PrecomputedTestModel.class.getMethod("getRawReturnType");
+        TypeMeta<?> typeMeta = new TypeMeta<>(PrecomputedTestModel.class);
+        Mockito.when(delegate.getReturnType(typeMeta, method)).thenReturn(List.class.getName());
+        Assertions.assertEquals(List.class.getName(),
+                new PrecomputedExecutableStringRepresentationResolver(delegate, ClassNameStyle.FULL_NAME)
+                        .getReturnType(typeMeta, method));
+    }
+
+    @Test
+    void precomputedSignatureIsUsedTest() throws NoSuchMethodException {
+        Method method = PrecomputedTestModel.class.getMethod("getMethodGenericType", Map.class);
+        PrecomputedExecutableStringRepresentationResolver resolver
+                = new PrecomputedExecutableStringRepresentationResolver(delegate, ClassNameStyle.FULL_NAME);
+        Assertions.assertEquals(String.format("%s<V>", List.class.getName()),
+                resolver.getReturnType(PrecomputedTestModel.class, method));
+        Assertions.assertEquals(String.format("%s<T, ? super V>", Map.class.getName()),
+                resolver.getParameterTypes(PrecomputedTestModel.class, method).get(0));
+        Assertions.assertTrue(resolver.getExceptionTypes(PrecomputedTestModel.class, method).isEmpty());
+        Mockito.verifyNoInteractions(delegate);
+    }
+
+    @Test
+    void precomputedShortNameSignatureIsUsedTest() throws NoSuchMethodException {
+        Method method = PrecomputedTestModel.class.getMethod("getMethodGenericType", Map.class);
+        PrecomputedExecutableStringRepresentationResolver resolver
+                = new PrecomputedExecutableStringRepresentationResolver(delegate, ClassNameStyle.SHORT_NAME);
+        Assertions.assertEquals("List<V>", resolver.getReturnType(PrecomputedTestModel.class, method));
+        Assertions.assertEquals("Map<T, ? super V>",
+                resolver.getParameterTypes(PrecomputedTestModel.class, method).get(0));
+        Mockito.verifyNoInteractions(delegate);
+    }
+
+    @Test
+    void precomputedShortNameSignaturesMatchResolvedOnesTest() {
+        ShortNameRepresentationContext context = new ShortNameRepresentationContext();
+        assertPrecomputedSignaturesMatchResolvedOnes(new ExecutableStringRepresentationResolver(context),
+                new PrecomputedExecutableStringRepresentationResolver(context));
+    }
+
+    @Test
+    void precomputedSignaturesMatchResolvedOnesTest() {
+        assertPrecomputedSignaturesMatchResolvedOnes(new ExecutableStringRepresentationResolver(),
+                new PrecomputedExecutableStringRepresentationResolver());
+    }
+
+    @Test
+    void unknownClassNameStyleIsResolvedByDelegateTest() throws NoSuchMethodException {
+        Method method = PrecomputedTestModel.class.getMethod("getMethodGenericType", Map.class);
+        TypeMeta<?> typeMeta = new TypeMeta<>(PrecomputedTestModel.class);
+        Mockito.when(delegate.getReturnType(typeMeta, method)).thenReturn("CustomList");
+        Assertions.assertEquals("CustomList",
+                new PrecomputedExecutableStringRepresentationResolver(delegate, null).getReturnType(typeMeta, method));
+    }
+
+    private void assertPrecomputedSignaturesMatchResolvedOnes(ExecutableStringRepresentationResolver executableResolver,
+            PrecomputedExecutableStringRepresentationResolver precomputedResolver) {
+        Map<Executable, ExecutableSignature> resolvedSignatures = executableResolver
+                .resolveSignatures(PrecomputedTestModel.class);
+        for (Map.Entry<Executable, ExecutableSignature> entry : resolvedSignatures.entrySet()) {
+            if (entry.getKey() instanceof Method) {
+                Method method = (Method) entry.getKey();
+                ExecutableSignature signature = entry.getValue();
+                Assertions.assertEquals(signature.getReturnType(),
+                        precomputedResolver.getReturnType(PrecomputedTestModel.class, method), method.toString());
+                Assertions.assertEquals(signature.getParameterTypes(),
+                        precomputedResolver.getParameterTypes(PrecomputedTestModel.class, method), method.toString());
+                Assertions.assertEquals(signature.getExceptionTypes(),
+                        precomputedResolver.getExceptionTypes(PrecomputedTestModel.class, method), method.toString());
+            }
+        }
+    }
+}
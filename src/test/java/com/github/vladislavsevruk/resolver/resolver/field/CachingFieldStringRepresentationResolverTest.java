@@ -0,0 +1,134 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Uladzislau Seuruk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.vladislavsevruk.resolver.resolver.field;
+
+import com.github.vladislavsevruk.resolver.cache.WeakInternPool;
+import com.github.vladislavsevruk.resolver.metrics.InMemoryResolverMetrics;
+import com.github.vladislavsevruk.resolver.metrics.ResolverMetricsManager;
+import com.github.vladislavsevruk.resolver.test.data.TestModel;
+import com.github.vladislavsevruk.resolver.type.TypeMeta;
+import com.github.vladislavsevruk.resolver.type.TypeProvider;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.lang.reflect.Field;
+import java.util.List;
+
+@ExtendWith(MockitoExtension.class)
+class CachingFieldStringRepresentationResolverTest {
+
+    @Mock
+    private FieldTypeResolver<String> delegate;
+
+    @Test
+    void cacheAccessesAreReportedToMetricsTest() throws NoSuchFieldException {
+        InMemoryResolverMetrics metrics = new InMemoryResolverMetrics();
+        ResolverMetricsManager.setMetrics(metrics);
+        try {
+            Field field = TestModel.class.getDeclaredField("parameterizedFieldSingleParameter");
+            CachingFieldStringRepresentationResolver resolver = new CachingFieldStringRepresentationResolver();
+            resolver.resolveField(new TypeProvider<TestModel<Long, Short>>() {}, field);
+            resolver.resolveField(new TypeProvider<TestModel<Long, Short>>() {}, field);
+            resolver.resolveField(new TypeProvider<TestModel<Short, Long>>() {}, field);
+        } finally {
+            ResolverMetricsManager.setMetrics(null);
+        }
+        Assertions.assertEquals(1, metrics.getCacheHitCount(CachingFieldStringRepresentationResolver.class));
+        Assertions.assertEquals(2, metrics.getCacheMissCount(CachingFieldStringRepresentationResolver.class));
+        Assertions.assertEquals(2, metrics.getResolveCount(FieldStringRepresentationResolver.class));
+    }
+
+    @Test
+    void cachedRepresentationIsCanonicalTest() throws NoSuchFieldException {
+        Field field = TestModel.class.getDeclaredField("simpleField");
+        TypeMeta<?> typeMeta = new TypeMeta<>(TestModel.class);
+        String canonicalRepresentation = new String("java.lang.String");
+        WeakInternPool<String> internPool = new WeakInternPool<>();
+        internPool.intern(canonicalRepresentation);
+        Mockito.when(delegate.resolveField(typeMeta, field)).thenReturn(new String("java.lang.String"));
+        CachingFieldStringRepresentationResolver resolver = new CachingFieldStringRepresentationResolver(delegate,
+                CachingFieldStringRepresentationResolver.DEFAULT_MAXIMUM_SIZE, internPool);
+        Assertions.assertSame(canonicalRepresentation, resolver.resolveField(typeMeta, field));
+        Assertions.assertEquals(1, internPool.getHitCount());
+    }
+
+    @Test
+    void eldestEntryIsEvictedTest() throws NoSuchFieldException {
+        Field field1 = TestModel.class.getDeclaredField("simpleField");
+        Field field2 = TestModel.class.getDeclaredField("wrapperField");
+        TypeMeta<?> typeMeta = new TypeMeta<>(TestModel.class);
+        Mockito.when(delegate.resolveField(typeMeta, field1)).thenReturn(String.class.getName());
+        Mockito.when(delegate.resolveField(typeMeta, field2)).thenReturn(Short.class.getName());
+        CachingFieldStringRepresentationResolver resolver = new CachingFieldStringRepresentationResolver(delegate,
+                1);
+        resolver.resolveField(typeMeta, field1);
+        resolver.resolveField(typeMeta, field2);
+        resolver.resolveField(typeMeta, field1);
+        Mockito.verify(delegate, Mockito.times(2)).resolveField(typeMeta, field1);
+        Mockito.verify(delegate, Mockito.times(1)).resolveField(typeMeta, field2);
+    }
+
+    @Test
+    void equalTypeMetasShareCachedRepresentationTest() throws NoSuchFieldException {
+        Field field = TestModel.class.getDeclaredField("parameterizedFieldSingleParameter");
+        CachingFieldStringRepresentationResolver resolver = new CachingFieldStringRepresentationResolver();
+        String result1 = resolver.resolveField(new TypeProvider<TestModel<Long, Short>>() {}, field);
+        String result2 = resolver.resolveField(new TypeProvider<TestModel<Long, Short>>() {}, field);
+        String expectedRepresentation = String.format("%s<%s>", List.class.getName(), Long.class.getName());
+        Assertions.assertEquals(expectedRepresentation, result1);
+        Assertions.assertSame(result1, result2);
+    }
+
+    @Test
+    void invalidMaximumSizeThrowsExceptionTest() {
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> new CachingFieldStringRepresentationResolver(delegate, 0));
+    }
+
+    @Test
+    void repeatedResolveUsesCacheTest() throws NoSuchFieldException {
+        Field field = TestModel.class.getDeclaredField("genericField");
+        TypeMeta<?> typeMeta = new TypeMeta<>(TestModel.class,
+                new TypeMeta<?>[]{ new TypeMeta<>(Long.class), new TypeMeta<>(Short.class) });
+        Mockito.when(delegate.resolveField(typeMeta, field)).thenReturn(Long.class.getName());
+        CachingFieldStringRepresentationResolver resolver = new CachingFieldStringRepresentationResolver(delegate);
+        Assertions.assertEquals(Long.class.getName(), resolver.resolveField(typeMeta, field));
+        Assertions.assertEquals(Long.class.getName(), resolver.resolveField(typeMeta, field));
+        Mockito.verify(delegate, Mockito.times(1)).resolveField(typeMeta, field);
+    }
+
+    @Test
+    void typeMetasWithDifferentGenericTypesAreCachedSeparatelyTest() throws NoSuchFieldException {
+        Field field = TestModel.class.getDeclaredField("genericField");
+        CachingFieldStringRepresentationResolver resolver = new CachingFieldStringRepresentationResolver();
+        Assertions.assertEquals(Long.class.getName(),
+                resolver.resolveField(new TypeProvider<TestModel<Long, Short>>() {}, field));
+        Assertions.assertEquals(Byte.class.getName(),
+                resolver.resolveField(new TypeProvider<TestModel<Byte, Short>>() {}, field));
+    }
+}
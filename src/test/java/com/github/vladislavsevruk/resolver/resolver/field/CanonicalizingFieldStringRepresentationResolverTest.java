@@ -0,0 +1,65 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Uladzislau Seuruk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.vladislavsevruk.resolver.resolver.field;
+
+import com.github.vladislavsevruk.resolver.cache.WeakInternPool;
+import com.github.vladislavsevruk.resolver.test.data.TestModel;
+import com.github.vladislavsevruk.resolver.type.TypeProvider;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Field;
+import java.util.List;
+
+class CanonicalizingFieldStringRepresentationResolverTest {
+
+    @Test
+    void equalRepresentationsShareInstanceTest() throws NoSuchFieldException {
+        Field field = TestModel.class.getDeclaredField("parameterizedFieldSingleParameter");
+        CanonicalizingFieldStringRepresentationResolver resolver
+                = new CanonicalizingFieldStringRepresentationResolver();
+        String result1 = resolver.resolveField(new TypeProvider<TestModel<Long, Short>>() {}, field);
+        String result2 = resolver.resolveField(new TypeProvider<TestModel<Long, Short>>() {}, field);
+        String expectedRepresentation = String.format("%s<%s>", List.class.getName(), Long.class.getName());
+        Assertions.assertEquals(expectedRepresentation, result1);
+        Assertions.assertSame(result1, result2);
+    }
+
+    @Test
+    void sharedPoolCountersTest() throws NoSuchFieldException {
+        Field field1 = TestModel.class.getDeclaredField("simpleField");
+        Field field2 = TestModel.class.getDeclaredField("wrapperField");
+        WeakInternPool<String> internPool = new WeakInternPool<>();
+        CanonicalizingFieldStringRepresentationResolver resolver
+                = new CanonicalizingFieldStringRepresentationResolver(new FieldStringRepresentationResolver(),
+                internPool);
+        resolver.resolveField(TestModel.class, field1);
+        resolver.resolveField(TestModel.class, field2);
+        resolver.resolveField(TestModel.class, field1);
+        Assertions.assertSame(internPool, resolver.getInternPool());
+        Assertions.assertEquals(1, internPool.getHitCount());
+        Assertions.assertEquals(2, internPool.getMissCount());
+        Assertions.assertEquals(2, internPool.size());
+    }
+}
@@ -23,6 +23,8 @@
  */
 package com.github.vladislavsevruk.resolver.resolver.field;
 
+import com.github.vladislavsevruk.resolver.metrics.InMemoryResolverMetrics;
+import com.github.vladislavsevruk.resolver.metrics.ResolverMetricsManager;
 import com.github.vladislavsevruk.resolver.test.context.ShortNameRepresentationContext;
 import com.github.vladislavsevruk.resolver.test.data.TestModel;
 import com.github.vladislavsevruk.resolver.type.TypeMeta;
@@ -31,6 +33,7 @@ import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
 import java.lang.reflect.Field;
+import java.util.AbstractList;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -512,4 +515,46 @@ class FieldStringRepresentationResolverTest {
         String result = fieldTypeResolver.resolveField(typeProvider, field);
         Assertions.assertEquals(Short.class.getName(), result);
     }
+
+    @Test
+    void resolveFieldIsReportedToMetricsTest() throws NoSuchFieldException {
+        InMemoryResolverMetrics metrics = new InMemoryResolverMetrics();
+        ResolverMetricsManager.setMetrics(metrics);
+        try {
+            Field field = TestModel.class.getDeclaredField("parameterizedFieldSingleParameter");
+            fieldTypeResolver.resolveField(TestModel.class, field);
+            fieldTypeResolver.resolveField(new TypeProvider<TestModel<Long, Short>>() {}, field);
+        } finally {
+            ResolverMetricsManager.setMetrics(null);
+        }
+        Assertions.assertEquals(2, metrics.getResolveCount(FieldStringRepresentationResolver.class));
+        Assertions.assertEquals(2, metrics.getLatencyHistogram(FieldStringRepresentationResolver.class).getCount());
+    }
+
+    @Test
+    void resolveFieldsMatchesSingleFieldResolvingTest() {
+        TypeProvider<?> typeProvider = new TypeProvider<TestModel<Double, Short>>() {};
+        Map<Field, String> result = fieldTypeResolver.resolveFields(typeProvider);
+        Assertions.assertFalse(result.isEmpty());
+        result.forEach((field, representation) -> Assertions
+                .assertEquals(fieldTypeResolver.resolveField(typeProvider, field), representation));
+    }
+
+    @Test
+    void resolveFieldsIncludesInheritedFieldsTest() throws NoSuchFieldException {
+        Map<Field, String> result = fieldTypeResolver.resolveFields(new TypeProvider<TestModel<Double, Short>>() {});
+        Assertions.assertEquals(TestModel.class, result.keySet().iterator().next().getDeclaringClass());
+        Assertions.assertEquals(Double.class.getName(), result.get(TestModel.class.getDeclaredField("genericField")));
+        Assertions.assertEquals("int", result.get(AbstractList.class.getDeclaredField("modCount")));
+    }
+
+    @Test
+    void resolveFieldsShortNameTest() throws NoSuchFieldException {
+        TypeMeta<?> typeMeta = new TypeMeta<>(TestModel.class,
+                new TypeMeta<?>[]{ new TypeMeta<>(Double.class), new TypeMeta<>(Short.class) });
+        Map<Field, String> result = shortNameFieldTypeResolver.resolveFields(typeMeta);
+        Assertions.assertEquals("Map<Short, Double>",
+                result.get(TestModel.class.getDeclaredField("parameterizedFieldSeveralParameters")));
+        Assertions.assertEquals("Short", result.get(TestModel.class.getDeclaredField("wrapperField")));
+    }
 }
@@ -0,0 +1,80 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Uladzislau Seuruk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.vladislavsevruk.resolver.resolver.field;
+
+import com.github.vladislavsevruk.resolver.cache.PersistentRepresentationStore;
+import com.github.vladislavsevruk.resolver.test.data.TestModel;
+import com.github.vladislavsevruk.resolver.type.TypeProvider;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.lang.reflect.Field;
+import java.nio.file.Path;
+import java.util.List;
+
+class PersistentFieldStringRepresentationResolverTest {
+
+    @TempDir
+    Path temporaryDirectory;
+
+    @Test
+    void arrayTypeIsResolvedByDelegateTest() throws NoSuchFieldException {
+        PersistentRepresentationStore store = new PersistentRepresentationStore(
+                temporaryDirectory.resolve("representations.bin"));
+        Field field = TestModel.class.getDeclaredField("simpleField");
+        PersistentFieldStringRepresentationResolver resolver = new PersistentFieldStringRepresentationResolver(store);
+        Assertions.assertEquals(String.class.getName(), resolver.resolveField(TestModel[].class, field));
+        Assertions.assertEquals(0, store.size());
+    }
+
+    @Test
+    void resolveFieldsOfTypeOnceTest() throws NoSuchFieldException {
+        PersistentRepresentationStore store = new PersistentRepresentationStore(
+                temporaryDirectory.resolve("representations.bin"));
+        PersistentFieldStringRepresentationResolver resolver = new PersistentFieldStringRepresentationResolver(store);
+        Assertions.assertEquals(String.class.getName(),
+                resolver.resolveField(TestModel.class, TestModel.class.getDeclaredField("simpleField")));
+        Assertions.assertEquals(Short.class.getName(),
+                resolver.resolveField(TestModel.class, TestModel.class.getDeclaredField("wrapperField")));
+        Assertions.assertEquals(1, store.getMissCount());
+        Assertions.assertEquals(1, store.getHitCount());
+    }
+
+    @Test
+    void warmStartUsesPersistedRepresentationsTest() throws NoSuchFieldException {
+        Path file = temporaryDirectory.resolve("representations.bin");
+        Field field = TestModel.class.getDeclaredField("parameterizedFieldSingleParameter");
+        String expectedRepresentation = String.format("%s<%s>", List.class.getName(), Long.class.getName());
+        PersistentRepresentationStore store = new PersistentRepresentationStore(file);
+        Assertions.assertEquals(expectedRepresentation, new PersistentFieldStringRepresentationResolver(store)
+                .resolveField(new TypeProvider<TestModel<Long, Short>>() {}, field));
+        store.flush();
+        PersistentRepresentationStore reloadedStore = new PersistentRepresentationStore(file);
+        Assertions.assertEquals(expectedRepresentation, new PersistentFieldStringRepresentationResolver(reloadedStore)
+                .resolveField(new TypeProvider<TestModel<Long, Short>>() {}, field));
+        Assertions.assertEquals(1, reloadedStore.getHitCount());
+        Assertions.assertEquals(0, reloadedStore.getMissCount());
+    }
+}
@@ -0,0 +1,116 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Uladzislau Seuruk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.vladislavsevruk.resolver.resolver.field;
+
+import com.github.vladislavsevruk.resolver.test.context.ShortNameRepresentationContext;
+import com.github.vladislavsevruk.resolver.test.data.PrecomputedTestModel;
+import com.github.vladislavsevruk.resolver.type.TypeMeta;
+import com.github.vladislavsevruk.resolver.type.TypeProvider;
+import com.github.vladislavsevruk.resolver.util.ClassNameStyle;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.lang.reflect.Field;
+import java.util.List;
+import java.util.Map;
+
+@ExtendWith(MockitoExtension.class)
+class PrecomputedFieldStringRepresentationResolverTest {
+
+    @Mock
+    private FieldTypeResolver<String> delegate;
+
+    @Test
+    void fieldWithoutPrecomputedRepresentationIsResolvedByDelegateTest() throws NoSuchFieldException {
+        Field field = PrecomputedTestModel.class.getDeclaredField("rawField");
+        TypeMeta<?> typeMeta = new TypeMeta<>(PrecomputedTestModel.class);
+        Mockito.when(delegate.resolveField(typeMeta, field)).thenReturn(List.class.getName());
+        Assertions.assertEquals(List.class.getName(),
+                new PrecomputedFieldStringRepresentationResolver(delegate, ClassNameStyle.FULL_NAME)
+                        .resolveField(typeMeta, field));
+    }
+
+    @Test
+    void parameterizedTypeIsResolvedByDelegateTest() throws NoSuchFieldException {
+        Field field = PrecomputedTestModel.class.getDeclaredField("primitiveField");
+        TypeProvider<?> typeProvider = new TypeProvider<PrecomputedTestModel<Long>>() {};
+        Assertions.assertEquals("long", new PrecomputedFieldStringRepresentationResolver().resolveField(typeProvider,
+                field));
+    }
+
+    @Test
+    void precomputedRepresentationIsUsedTest() throws NoSuchFieldException {
+        Field field = PrecomputedTestModel.class.getDeclaredField("upperWildcardField");
+        PrecomputedFieldStringRepresentationResolver resolver = new PrecomputedFieldStringRepresentationResolver(
+                delegate, ClassNameStyle.FULL_NAME);
+        Assertions.assertEquals(String.format("java.util.Set<? extends %s>", Number.class.getName()),
+                resolver.resolveField(PrecomputedTestModel.class, field));
+        Mockito.verifyNoInteractions(delegate);
+    }
+
+    @Test
+    void precomputedRepresentationsMatchResolvedOnesTest() {
+        assertPrecomputedRepresentationsMatchResolvedOnes(new FieldStringRepresentationResolver(),
+                new PrecomputedFieldStringRepresentationResolver());
+    }
+
+    @Test
+    void precomputedShortNameRepresentationIsUsedTest() throws NoSuchFieldException {
+        Field field = PrecomputedTestModel.class.getDeclaredField("upperWildcardField");
+        PrecomputedFieldStringRepresentationResolver resolver = new PrecomputedFieldStringRepresentationResolver(
+                delegate, ClassNameStyle.SHORT_NAME);
+        Assertions.assertEquals("Set<? extends Number>", resolver.resolveField(PrecomputedTestModel.class, field));
+        Mockito.verifyNoInteractions(delegate);
+    }
+
+    @Test
+    void precomputedShortNameRepresentationsMatchResolvedOnesTest() {
+        ShortNameRepresentationContext context = new ShortNameRepresentationContext();
+        assertPrecomputedRepresentationsMatchResolvedOnes(new FieldStringRepresentationResolver(context),
+                new PrecomputedFieldStringRepresentationResolver(context));
+    }
+
+    @Test
+    void unknownClassNameStyleIsResolvedByDelegateTest() throws NoSuchFieldException {
+        Field field = PrecomputedTestModel.class.getDeclaredField("upperWildcardField");
+        TypeMeta<?> typeMeta = new TypeMeta<>(PrecomputedTestModel.class);
+        Mockito.when(delegate.resolveField(typeMeta, field)).thenReturn("CustomSet");
+        Assertions.assertEquals("CustomSet",
+                new PrecomputedFieldStringRepresentationResolver(delegate, null).resolveField(typeMeta, field));
+    }
+
+    private void assertPrecomputedRepresentationsMatchResolvedOnes(FieldStringRepresentationResolver fieldResolver,
+            PrecomputedFieldStringRepresentationResolver precomputedResolver) {
+        Map<Field, String> resolvedFields = fieldResolver.resolveFields(PrecomputedTestModel.class);
+        for (Map.Entry<Field, String> entry : resolvedFields.entrySet()) {
+            Assertions.assertEquals(entry.getValue(),
+                    precomputedResolver.resolveField(PrecomputedTestModel.class, entry.getKey()),
+                    entry.getKey().toString());
+        }
+    }
+}
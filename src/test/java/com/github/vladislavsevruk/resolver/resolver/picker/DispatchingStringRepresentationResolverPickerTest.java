@@ -0,0 +1,103 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Uladzislau Seuruk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.vladislavsevruk.resolver.resolver.picker;
+
+import com.github.vladislavsevruk.resolver.context.ResolvingContext;
+import com.github.vladislavsevruk.resolver.resolver.simple.TypeResolver;
+import com.github.vladislavsevruk.resolver.resolver.storage.TypeResolverStorage;
+import com.github.vladislavsevruk.resolver.test.data.TestModel;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.Arrays;
+
+@ExtendWith(MockitoExtension.class)
+class DispatchingStringRepresentationResolverPickerTest {
+
+    @Mock
+    private TypeResolver<String> classResolver;
+    @Mock
+    private TypeResolver<String> customTypeResolver;
+    @Mock
+    private TypeResolver<String> parameterizedTypeResolver;
+    @Mock
+    private ResolvingContext<String> resolvingContext;
+    @Mock
+    private TypeResolverStorage<String> typeResolverStorage;
+
+    @BeforeEach
+    void setUp() {
+        Mockito.lenient().when(classResolver.canResolve(Mockito.any()))
+                .thenAnswer(invocation -> invocation.getArgument(0) instanceof Class);
+        Mockito.lenient().when(parameterizedTypeResolver.canResolve(Mockito.any()))
+                .thenAnswer(invocation -> invocation.getArgument(0) instanceof ParameterizedType);
+        Mockito.lenient().when(customTypeResolver.canResolve(Mockito.any()))
+                .thenAnswer(invocation -> invocation.getArgument(0) instanceof CustomType);
+        Mockito.lenient().when(resolvingContext.getTypeResolverStorage()).thenReturn(typeResolverStorage);
+        Mockito.lenient().when(typeResolverStorage.getTypeResolvers())
+                .thenReturn(Arrays.asList(classResolver, parameterizedTypeResolver, customTypeResolver));
+    }
+
+    @Test
+    void customTypeIsPickedByScanningStorageTest() {
+        DispatchingStringRepresentationResolverPicker picker = new DispatchingStringRepresentationResolverPicker(
+                resolvingContext);
+        Assertions.assertSame(customTypeResolver, picker.pickTypeResolver(new CustomType()));
+    }
+
+    @Test
+    void dispatchTableIsBuiltOnceTest() throws NoSuchFieldException {
+        Type parameterizedType = TestModel.class.getDeclaredField("parameterizedFieldSingleParameter")
+                .getGenericType();
+        DispatchingStringRepresentationResolverPicker picker = new DispatchingStringRepresentationResolverPicker(
+                resolvingContext);
+        for (int i = 0; i < 10; ++i) {
+            picker.pickTypeResolver(String.class);
+            picker.pickTypeResolver(parameterizedType);
+        }
+        Mockito.verify(typeResolverStorage, Mockito.times(1)).getTypeResolvers();
+        Mockito.verify(classResolver, Mockito.never()).canResolve(String.class);
+        Mockito.verify(parameterizedTypeResolver, Mockito.never()).canResolve(parameterizedType);
+    }
+
+    @Test
+    void pickTypeResolverByTypeKindTest() throws NoSuchFieldException {
+        Type parameterizedType = TestModel.class.getDeclaredField("parameterizedFieldSingleParameter")
+                .getGenericType();
+        DispatchingStringRepresentationResolverPicker picker = new DispatchingStringRepresentationResolverPicker(
+                resolvingContext);
+        Assertions.assertSame(classResolver, picker.pickTypeResolver(String.class));
+        Assertions.assertSame(classResolver, picker.pickTypeResolver(int[].class));
+        Assertions.assertSame(parameterizedTypeResolver, picker.pickTypeResolver(parameterizedType));
+    }
+
+    private static final class CustomType implements Type {}
+}
@@ -0,0 +1,86 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Uladzislau Seuruk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.vladislavsevruk.resolver.resolver.picker;
+
+import com.github.vladislavsevruk.resolver.metrics.InMemoryResolverMetrics;
+import com.github.vladislavsevruk.resolver.metrics.ResolverMetricsManager;
+import com.github.vladislavsevruk.resolver.resolver.simple.TypeResolver;
+import com.github.vladislavsevruk.resolver.type.TypeVariableMap;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class MeteredTypeResolverPickerTest {
+
+    @Mock
+    private TypeResolverPicker<String> delegate;
+    @Mock
+    private TypeResolver<String> typeResolver;
+    @Mock
+    private TypeVariableMap<String> typeVariableMap;
+
+    @AfterEach
+    void resetMetrics() {
+        ResolverMetricsManager.setMetrics(null);
+    }
+
+    @Test
+    void missingTypeResolverIsNotWrappedTest() {
+        MeteredTypeResolverPicker picker = new MeteredTypeResolverPicker(delegate);
+        Assertions.assertNull(picker.pickTypeResolver(String.class));
+    }
+
+    @Test
+    void resolutionIsReportedToMetricsTest() {
+        InMemoryResolverMetrics metrics = new InMemoryResolverMetrics();
+        ResolverMetricsManager.setMetrics(metrics);
+        Mockito.when(delegate.pickTypeResolver(String.class)).thenReturn(typeResolver);
+        Mockito.when(typeResolver.resolve(typeVariableMap, String.class)).thenReturn("java.lang.String");
+        MeteredTypeResolverPicker picker = new MeteredTypeResolverPicker(delegate);
+        Assertions.assertEquals("java.lang.String", picker.pickTypeResolver(String.class)
+                .resolve(typeVariableMap, String.class));
+        Assertions.assertEquals(1, metrics.getResolveCount(typeResolver.getClass()));
+    }
+
+    @Test
+    void resolutionIsNotReportedWhenMetricsAreDisabledTest() {
+        Mockito.when(delegate.pickTypeResolver(String.class)).thenReturn(typeResolver);
+        Mockito.when(typeResolver.resolve(typeVariableMap, String.class)).thenReturn("java.lang.String");
+        MeteredTypeResolverPicker picker = new MeteredTypeResolverPicker(delegate);
+        Assertions.assertEquals("java.lang.String", picker.pickTypeResolver(String.class)
+                .resolve(typeVariableMap, String.class));
+    }
+
+    @Test
+    void wrapperIsReusedTest() {
+        Mockito.when(delegate.pickTypeResolver(String.class)).thenReturn(typeResolver);
+        MeteredTypeResolverPicker picker = new MeteredTypeResolverPicker(delegate);
+        Assertions.assertSame(picker.pickTypeResolver(String.class), picker.pickTypeResolver(String.class));
+    }
+}
@@ -0,0 +1,159 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Uladzislau Seuruk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.vladislavsevruk.resolver.resolver.tree;
+
+import com.github.vladislavsevruk.resolver.resolver.executable.ExecutableStringRepresentationResolver;
+import com.github.vladislavsevruk.resolver.resolver.field.FieldStringRepresentationResolver;
+import com.github.vladislavsevruk.resolver.test.context.ShortNameRepresentationContext;
+import com.github.vladislavsevruk.resolver.test.data.TestModel;
+import com.github.vladislavsevruk.resolver.type.TypeMeta;
+import com.github.vladislavsevruk.resolver.type.TypeProvider;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.text.ParseException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+class DualNameStringRepresentationResolverTest {
+
+    private DualNameStringRepresentationResolver dualNameResolver = new DualNameStringRepresentationResolver();
+    private TypeMeta<?> typeMeta = new TypeProvider<TestModel<Long, Short>>() {}.getTypeMeta();
+
+    @Test
+    void getExceptionTypesTest() throws NoSuchMethodException {
+        Method method = TestModel.class.getMethod("getExceptionType");
+        List<DualNameRepresentation> result = dualNameResolver.getExceptionTypes(TestModel.class, method);
+        Assertions.assertEquals(Collections.singletonList(
+                new DualNameRepresentation(ParseException.class.getName(), "ParseException")), result);
+        Assertions.assertEquals(result, dualNameResolver.getExceptionTypes(typeMeta, method));
+    }
+
+    @Test
+    void getParameterTypesTest() throws NoSuchMethodException {
+        Method method = TestModel.class.getMethod("getSeveralParameterizedParameterTypes", List.class, Set.class);
+        List<DualNameRepresentation> result = dualNameResolver.getParameterTypes(typeMeta, method);
+        Assertions.assertEquals(Arrays.asList(
+                new DualNameRepresentation(List.class.getName() + "<" + Long.class.getName() + ">", "List<Long>"),
+                new DualNameRepresentation(Set.class.getName() + "<" + Short.class.getName() + ">", "Set<Short>")),
+                result);
+    }
+
+    @Test
+    void getParameterTypesTypeProviderTest() throws NoSuchMethodException {
+        Method method = TestModel.class.getMethod("getSeveralParameterizedParameterTypes", List.class, Set.class);
+        List<DualNameRepresentation> result = dualNameResolver
+                .getParameterTypes(new TypeProvider<TestModel<Long, Short>>() {}, method);
+        Assertions.assertEquals(dualNameResolver.getParameterTypes(typeMeta, method), result);
+    }
+
+    @Test
+    void getReturnTypeClassTest() throws NoSuchMethodException {
+        Method method = TestModel.class.getMethod("getGenericReturnType");
+        DualNameRepresentation result = dualNameResolver.getReturnType(TestModel.class, method);
+        Assertions.assertEquals(new DualNameRepresentation("T", "T"), result);
+    }
+
+    @Test
+    void getReturnTypeMatchesResolverTest() throws NoSuchMethodException {
+        Method method = TestModel.class.getMethod("getGenericReturnType");
+        DualNameRepresentation result = dualNameResolver.getReturnType(typeMeta, method);
+        Assertions.assertEquals(new ExecutableStringRepresentationResolver().getReturnType(typeMeta, method),
+                result.getFullName());
+        Assertions.assertEquals(new ExecutableStringRepresentationResolver(new ShortNameRepresentationContext())
+                .getReturnType(typeMeta, method), result.getShortName());
+    }
+
+    @Test
+    void resolveArrayTypeArgumentFieldTest() throws NoSuchFieldException {
+        TypeMeta<?> arrayTypeMeta = new TypeMeta<>(TestModel.class,
+                new TypeMeta<?>[]{ new TypeMeta<>(Long[].class, new TypeMeta<?>[]{ new TypeMeta<>(Long.class) }),
+                                   new TypeMeta<>(Short.class) });
+        Field field = TestModel.class.getDeclaredField("parameterizedFieldSingleParameter");
+        DualNameRepresentation result = dualNameResolver.resolveField(arrayTypeMeta, field);
+        Assertions.assertEquals(
+                new DualNameRepresentation(List.class.getName() + "<" + Long.class.getName() + "[]>", "List<Long[]>"),
+                result);
+    }
+
+    @Test
+    void resolveFieldsMatchesResolversTest() {
+        assertFieldsMatchResolvers(typeMeta);
+    }
+
+    @Test
+    void resolveFieldsWithArrayTypeArgumentsMatchesResolversTest() {
+        assertFieldsMatchResolvers(new TypeProvider<TestModel<Long[], Short>>() {}.getTypeMeta());
+    }
+
+    @Test
+    void resolveFieldsWithNestedGenericTypeArgumentsMatchesResolversTest() {
+        assertFieldsMatchResolvers(new TypeProvider<TestModel<List<Long>, Map<String, Short[]>>>() {}.getTypeMeta());
+    }
+
+    @Test
+    void resolveFieldsWithUnboundedWildcardTypeArgumentsMatchesResolversTest() {
+        assertFieldsMatchResolvers(new TypeProvider<TestModel<List<?>, Set<? extends Object>>>() {}.getTypeMeta());
+    }
+
+    @Test
+    void resolveNestedGenericTypeArgumentFieldTest() throws NoSuchFieldException {
+        TypeMeta<?> nestedTypeMeta = new TypeMeta<>(TestModel.class,
+                new TypeMeta<?>[]{ new TypeMeta<>(List.class, new TypeMeta<?>[]{ new TypeMeta<>(Long.class) }),
+                                   new TypeMeta<>(Short.class) });
+        Field field = TestModel.class.getDeclaredField("parameterizedArrayField");
+        DualNameRepresentation result = dualNameResolver.resolveField(nestedTypeMeta, field);
+        Assertions.assertEquals(new DualNameRepresentation(Short.class.getName() + "[]", "Short[]"), result);
+        result = dualNameResolver.resolveField(nestedTypeMeta, TestModel.class.getDeclaredField("genericField"));
+        Assertions.assertEquals(
+                new DualNameRepresentation(List.class.getName() + "<" + Long.class.getName() + ">", "List<Long>"),
+                result);
+    }
+
+    @Test
+    void resolveUnboundedWildcardFieldTest() throws NoSuchFieldException {
+        Field field = TestModel.class.getDeclaredField("unboundedWildcardField");
+        DualNameRepresentation result = dualNameResolver.resolveField(TestModel.class, field);
+        Assertions.assertEquals(new DualNameRepresentation(
+                Set.class.getName() + "<? extends " + Object.class.getName() + ">", "Set<? extends Object>"), result);
+        Assertions.assertEquals(new FieldStringRepresentationResolver().resolveField(TestModel.class, field),
+                result.getFullName());
+    }
+
+    private void assertFieldsMatchResolvers(TypeMeta<?> typeMeta) {
+        FieldStringRepresentationResolver fullNameResolver = new FieldStringRepresentationResolver();
+        FieldStringRepresentationResolver shortNameResolver = new FieldStringRepresentationResolver(
+                new ShortNameRepresentationContext());
+        for (Field field : TestModel.class.getDeclaredFields()) {
+            DualNameRepresentation result = dualNameResolver.resolveField(typeMeta, field);
+            Assertions.assertEquals(fullNameResolver.resolveField(typeMeta, field), result.getFullName());
+            Assertions.assertEquals(shortNameResolver.resolveField(typeMeta, field), result.getShortName());
+        }
+    }
+}
@@ -0,0 +1,159 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Uladzislau Seuruk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.vladislavsevruk.resolver.resolver.tree;
+
+import com.github.vladislavsevruk.resolver.resolver.executable.ExecutableStringRepresentationResolver;
+import com.github.vladislavsevruk.resolver.resolver.field.FieldStringRepresentationResolver;
+import com.github.vladislavsevruk.resolver.test.context.ShortNameRepresentationContext;
+import com.github.vladislavsevruk.resolver.test.data.TestModel;
+import com.github.vladislavsevruk.resolver.type.TypeMeta;
+import com.github.vladislavsevruk.resolver.type.TypeProvider;
+import com.github.vladislavsevruk.resolver.util.ClassNameStyle;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+class TypeNodeResolverTest {
+
+    private TypeNodeResolver typeNodeResolver = new TypeNodeResolver();
+
+    @Test
+    void arrayTypeArgumentTest() throws NoSuchFieldException {
+        TypeMeta<?> typeMeta = new TypeMeta<>(TestModel.class,
+                new TypeMeta<?>[]{ new TypeMeta<>(Long[].class, new TypeMeta<?>[]{ new TypeMeta<>(Long.class) }),
+                                   new TypeMeta<>(Short.class) });
+        TypeNode result = typeNodeResolver.resolveField(typeMeta, TestModel.class.getDeclaredField("genericField"));
+        Assertions.assertSame(TypeNode.arrayOf(TypeNode.ofClass(Long.class)), result);
+        Assertions.assertEquals(Long.class.getName() + "[]", result.render(ClassNameStyle.FULL_NAME));
+    }
+
+    @Test
+    void inheritedFieldTest() throws NoSuchFieldException {
+        Field field = LinkedList.class.getDeclaredField("first");
+        TypeNode result = typeNodeResolver.resolveField(new TypeProvider<TestModel<Long, Short>>() {}, field);
+        Assertions.assertEquals(field.getType(), result.getRawType());
+        Assertions.assertSame(TypeNode.ofClass(Long.class), result.getTypeArguments().get(0));
+    }
+
+    @Test
+    void resolveFieldsMatchesFieldResolverTest() {
+        assertFieldsMatchFieldResolver(new TypeProvider<TestModel<Long, Short>>() {}.getTypeMeta());
+    }
+
+    @Test
+    void resolveFieldsWithArrayTypeArgumentsMatchesFieldResolverTest() {
+        assertFieldsMatchFieldResolver(new TypeProvider<TestModel<Long[], Short[][]>>() {}.getTypeMeta());
+    }
+
+    @Test
+    void resolveFieldsWithNestedGenericTypeArgumentsMatchesFieldResolverTest() {
+        assertFieldsMatchFieldResolver(
+                new TypeProvider<TestModel<List<Long>, Map<String, Set<Short>>>>() {}.getTypeMeta());
+    }
+
+    @Test
+    void resolveFieldsWithUnboundedWildcardTypeArgumentsMatchesFieldResolverTest() {
+        assertFieldsMatchFieldResolver(
+                new TypeProvider<TestModel<List<?>, Set<? extends Object>>>() {}.getTypeMeta());
+    }
+
+    @Test
+    void resolveFieldsWithWildcardTypeArgumentsMatchesFieldResolverTest() {
+        assertFieldsMatchFieldResolver(
+                new TypeProvider<TestModel<List<? extends Number>, Set<? super Short>>>() {}.getTypeMeta());
+    }
+
+    @Test
+    void resolveMethodsMatchesExecutableResolverTest() {
+        assertMethodsMatchExecutableResolver(new TypeProvider<TestModel<Long, Short>>() {}.getTypeMeta());
+    }
+
+    @Test
+    void resolveMethodsWithArrayTypeArgumentsMatchesExecutableResolverTest() {
+        assertMethodsMatchExecutableResolver(new TypeProvider<TestModel<Long[], Short[][]>>() {}.getTypeMeta());
+    }
+
+    @Test
+    void resolveMethodsWithNestedGenericTypeArgumentsMatchesExecutableResolverTest() {
+        assertMethodsMatchExecutableResolver(
+                new TypeProvider<TestModel<List<Long>, Map<String, Set<Short>>>>() {}.getTypeMeta());
+    }
+
+    @Test
+    void unboundedWildcardFieldTest() throws NoSuchFieldException {
+        TypeNode unboundedWildcard = typeNodeResolver
+                .resolveField(TestModel.class, TestModel.class.getDeclaredField("unboundedWildcardField"));
+        TypeNode objectUpperWildcard = typeNodeResolver
+                .resolveField(TestModel.class, TestModel.class.getDeclaredField("objectUpperWildcardField"));
+        TypeNode objectUpperBounded = TypeNode.upperBounded(TypeNode.ofClass(Object.class));
+        Assertions.assertSame(TypeNode.ofParameterized(Set.class, objectUpperBounded), unboundedWildcard);
+        Assertions.assertSame(TypeNode.ofParameterized(List.class, objectUpperBounded), objectUpperWildcard);
+        Assertions.assertEquals("Set<? extends Object>", unboundedWildcard.render(ClassNameStyle.SHORT_NAME));
+    }
+
+    @Test
+    void unmappedTypeVariableTest() throws NoSuchFieldException {
+        Field field = TestModel.class.getDeclaredField("genericField");
+        TypeNode result = typeNodeResolver.resolveField(TestModel.class, field);
+        Assertions.assertSame(TypeNode.ofVariable(TestModel.class.getTypeParameters()[0].getName()), result);
+    }
+
+    private void assertFieldsMatchFieldResolver(TypeMeta<?> typeMeta) {
+        FieldStringRepresentationResolver fullNameResolver = new FieldStringRepresentationResolver();
+        FieldStringRepresentationResolver shortNameResolver = new FieldStringRepresentationResolver(
+                new ShortNameRepresentationContext());
+        for (Field field : TestModel.class.getDeclaredFields()) {
+            TypeNode typeNode = typeNodeResolver.resolveField(typeMeta, field);
+            Assertions.assertEquals(fullNameResolver.resolveField(typeMeta, field),
+                    typeNode.render(ClassNameStyle.FULL_NAME));
+            Assertions.assertEquals(shortNameResolver.resolveField(typeMeta, field),
+                    typeNode.render(ClassNameStyle.SHORT_NAME));
+        }
+    }
+
+    private void assertMethodsMatchExecutableResolver(TypeMeta<?> typeMeta) {
+        ExecutableStringRepresentationResolver executableResolver = new ExecutableStringRepresentationResolver();
+        for (Method method : TestModel.class.getDeclaredMethods()) {
+            if (!Modifier.isPublic(method.getModifiers())) {
+                continue;
+            }
+            Assertions.assertEquals(executableResolver.getReturnType(typeMeta, method),
+                    typeNodeResolver.resolveReturnType(typeMeta, method).render(ClassNameStyle.FULL_NAME));
+            List<String> parameterTypes = typeNodeResolver.resolveParameterTypes(typeMeta, method).stream()
+                    .map(typeNode -> typeNode.render(ClassNameStyle.FULL_NAME)).collect(Collectors.toList());
+            Assertions.assertEquals(executableResolver.getParameterTypes(typeMeta, method), parameterTypes);
+            List<String> exceptionTypes = typeNodeResolver.resolveExceptionTypes(typeMeta, method).stream()
+                    .map(typeNode -> typeNode.render(ClassNameStyle.FULL_NAME)).collect(Collectors.toList());
+            Assertions.assertEquals(executableResolver.getExceptionTypes(typeMeta, method), exceptionTypes);
+        }
+    }
+}
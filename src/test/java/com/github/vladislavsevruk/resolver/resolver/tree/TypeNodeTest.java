@@ -0,0 +1,86 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Uladzislau Seuruk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.vladislavsevruk.resolver.resolver.tree;
+
+import com.github.vladislavsevruk.resolver.util.ClassNameStyle;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+class TypeNodeTest {
+
+    @Test
+    void arrayClassNodeTest() {
+        TypeNode typeNode = TypeNode.ofClass(int[][].class);
+        Assertions.assertEquals(int.class, typeNode.getRawType());
+        Assertions.assertEquals(2, typeNode.getArrayDepth());
+        Assertions.assertSame(TypeNode.arrayOf(TypeNode.arrayOf(TypeNode.ofClass(int.class))), typeNode);
+        Assertions.assertEquals("int[][]", typeNode.render(ClassNameStyle.SHORT_NAME));
+    }
+
+    @Test
+    void arrayDepthOfWildcardCannotBeChangedTest() {
+        TypeNode wildcard = TypeNode.upperBounded(TypeNode.ofClass(Number.class));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> TypeNode.arrayOf(wildcard));
+    }
+
+    @Test
+    void equalNodesAreSameInstanceTest() {
+        TypeNode typeNode1 = TypeNode.ofParameterized(Map.class, TypeNode.ofClass(String.class),
+                TypeNode.ofParameterized(List.class, TypeNode.ofVariable("T")));
+        TypeNode typeNode2 = TypeNode.ofParameterized(Map.class, TypeNode.ofClass(String.class),
+                TypeNode.ofParameterized(List.class, TypeNode.ofVariable("T")));
+        Assertions.assertSame(typeNode1, typeNode2);
+        Assertions.assertNotSame(typeNode1, TypeNode.ofParameterized(Map.class, TypeNode.ofClass(String.class),
+                TypeNode.ofParameterized(List.class, TypeNode.ofVariable("U"))));
+    }
+
+    @Test
+    void genericClassNodeTest() {
+        TypeNode typeNode = TypeNode.ofGenericClass(Map.class, TypeNode.ofVariable("K"), TypeNode.ofClass(Long.class));
+        Assertions.assertTrue(typeNode.isGenericClass());
+        Assertions.assertNotSame(TypeNode.ofParameterized(Map.class, TypeNode.ofVariable("K"),
+                TypeNode.ofClass(Long.class)), typeNode);
+        Assertions.assertEquals("Map<K ,Long>[]", TypeNode.arrayOf(typeNode).render(ClassNameStyle.SHORT_NAME));
+    }
+
+    @Test
+    void renderFullNameTest() {
+        TypeNode typeNode = TypeNode.arrayOf(TypeNode.ofParameterized(Map.class,
+                TypeNode.lowerBounded(TypeNode.ofClass(Integer.class)),
+                TypeNode.upperBounded(TypeNode.ofClass(Object.class))));
+        Assertions.assertEquals(Map.class.getName() + "<? super " + Integer.class.getName() + ", ? extends "
+                + Object.class.getName() + ">[]", typeNode.render(ClassNameStyle.FULL_NAME));
+        Assertions.assertSame(typeNode.render(ClassNameStyle.FULL_NAME), typeNode.toString());
+    }
+
+    @Test
+    void renderShortNameTest() {
+        TypeNode typeNode = TypeNode.ofParameterized(List.class,
+                TypeNode.upperBounded(TypeNode.arrayOf(TypeNode.ofVariable("U"))));
+        Assertions.assertEquals("List<? extends U[]>", typeNode.render(ClassNameStyle.SHORT_NAME));
+    }
+}
@@ -0,0 +1,199 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Uladzislau Seuruk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.vladislavsevruk.resolver.resolver.writer;
+
+import com.github.vladislavsevruk.resolver.context.ResolvingContext;
+import com.github.vladislavsevruk.resolver.context.StringRepresentationResolvingContextManager;
+import com.github.vladislavsevruk.resolver.resolver.executable.ExecutableStringRepresentationResolver;
+import com.github.vladislavsevruk.resolver.resolver.field.FieldStringRepresentationResolver;
+import com.github.vladislavsevruk.resolver.resolver.picker.TypeResolverPicker;
+import com.github.vladislavsevruk.resolver.resolver.simple.TypeResolver;
+import com.github.vladislavsevruk.resolver.test.context.ShortNameRepresentationContext;
+import com.github.vladislavsevruk.resolver.test.data.TestModel;
+import com.github.vladislavsevruk.resolver.type.TypeMeta;
+import com.github.vladislavsevruk.resolver.type.TypeProvider;
+import com.github.vladislavsevruk.resolver.type.TypeVariableMap;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.nio.CharBuffer;
+import java.util.List;
+
+@ExtendWith(MockitoExtension.class)
+class StringRepresentationWriterTest {
+
+    @Mock
+    private ResolvingContext<String> customContext;
+    @Mock
+    private TypeResolver<String> customTypeResolver;
+    @Mock
+    private TypeResolverPicker<String> customTypeResolverPicker;
+    private TypeMeta<?> typeMeta = new TypeProvider<TestModel<Long, Short>>() {}.getTypeMeta();
+    @Mock
+    private TypeVariableMap<String> typeVariableMap;
+
+    @Test
+    void appendableExceptionIsWrappedTest() throws NoSuchFieldException {
+        Field field = TestModel.class.getDeclaredField("wrapperField");
+        Writer closedWriter = new Writer() {
+            @Override
+            public void close() {
+                // not needed
+            }
+
+            @Override
+            public void flush() {
+                // not needed
+            }
+
+            @Override
+            public void write(char[] buffer, int offset, int length) throws IOException {
+                throw new IOException("Closed.");
+            }
+        };
+        Assertions.assertThrows(UncheckedIOException.class,
+                () -> new StringRepresentationWriter().writeField(typeMeta, field, closedWriter));
+    }
+
+    @Test
+    void renderAfterFailedWriteTest() throws NoSuchFieldException {
+        Field field = TestModel.class.getDeclaredField("parameterizedFieldSingleParameter");
+        StringRepresentationWriter writer = new StringRepresentationWriter();
+        // failure happens after raw type is already written to buffer
+        Assertions.assertThrows(IllegalStateException.class,
+                () -> writer.render(typeVariableMap, new BrokenParameterizedType()));
+        Assertions.assertEquals(List.class.getName() + "<" + Long.class.getName() + ">",
+                writer.renderField(typeMeta, field));
+    }
+
+    @Test
+    void renderFieldsMatchesResolverTest() {
+        StringRepresentationWriter writer = new StringRepresentationWriter();
+        FieldStringRepresentationResolver resolver = new FieldStringRepresentationResolver();
+        for (Field field : TestModel.class.getDeclaredFields()) {
+            Assertions.assertEquals(resolver.resolveField(typeMeta, field), writer.renderField(typeMeta, field));
+        }
+    }
+
+    @Test
+    void renderReturnTypeTest() throws NoSuchMethodException {
+        Method method = TestModel.class.getMethod("getGenericReturnType");
+        StringRepresentationWriter writer = new StringRepresentationWriter();
+        Assertions.assertEquals(Long.class.getName(), writer.renderReturnType(typeMeta, method));
+        Assertions.assertEquals(Long.class.getName(), writer.renderReturnType(typeMeta, method));
+    }
+
+    @Test
+    void writeFieldToCharBufferTest() throws NoSuchFieldException {
+        Field field = TestModel.class.getDeclaredField("parameterizedFieldSingleParameter");
+        CharBuffer charBuffer = CharBuffer.allocate(64);
+        new StringRepresentationWriter().writeField(typeMeta, field, charBuffer);
+        charBuffer.flip();
+        Assertions.assertEquals(List.class.getName() + "<" + Long.class.getName() + ">", charBuffer.toString());
+    }
+
+    @Test
+    void writeFieldWithCustomTypeResolversTest() throws NoSuchFieldException {
+        Field field = TestModel.class.getDeclaredField("parameterizedFieldSingleParameter");
+        Mockito.when(customContext.getMappedVariableHierarchyStorage()).thenReturn(
+                StringRepresentationResolvingContextManager.getContext().getMappedVariableHierarchyStorage());
+        Mockito.when(customContext.getTypeResolverPicker()).thenReturn(customTypeResolverPicker);
+        Mockito.when(customTypeResolverPicker.pickTypeResolver(field.getGenericType())).thenReturn(customTypeResolver);
+        Mockito.when(customTypeResolver.resolve(Mockito.any(), Mockito.eq(field.getGenericType())))
+                .thenReturn("CustomList");
+        StringBuilder stringBuilder = new StringBuilder();
+        new StringRepresentationWriter(customContext).writeField(typeMeta, field, stringBuilder);
+        Assertions.assertEquals("CustomList", stringBuilder.toString());
+    }
+
+    @Test
+    void writeFieldsMatchesResolverTest() {
+        assertFieldsMatchResolver(new StringRepresentationWriter(), new FieldStringRepresentationResolver());
+    }
+
+    @Test
+    void writeFieldsShortNameMatchesResolverTest() {
+        ResolvingContext<String> context = new ShortNameRepresentationContext();
+        assertFieldsMatchResolver(new StringRepresentationWriter(context),
+                new FieldStringRepresentationResolver(context));
+    }
+
+    @Test
+    void writeMethodsMatchesResolverTest() {
+        StringRepresentationWriter writer = new StringRepresentationWriter();
+        ExecutableStringRepresentationResolver resolver = new ExecutableStringRepresentationResolver();
+        for (Method method : TestModel.class.getDeclaredMethods()) {
+            if (!Modifier.isPublic(method.getModifiers())) {
+                continue;
+            }
+            StringWriter returnTypeWriter = new StringWriter();
+            writer.writeReturnType(typeMeta, method, returnTypeWriter);
+            Assertions.assertEquals(resolver.getReturnType(typeMeta, method), returnTypeWriter.toString());
+            StringBuilder parameterTypesBuilder = new StringBuilder();
+            writer.writeParameterTypes(typeMeta, method, parameterTypesBuilder);
+            Assertions.assertEquals(String.join(", ", resolver.getParameterTypes(typeMeta, method)),
+                    parameterTypesBuilder.toString());
+        }
+    }
+
+    private void assertFieldsMatchResolver(StringRepresentationWriter writer,
+            FieldStringRepresentationResolver resolver) {
+        for (Field field : TestModel.class.getDeclaredFields()) {
+            StringBuilder stringBuilder = new StringBuilder();
+            writer.writeField(typeMeta, field, stringBuilder);
+            Assertions.assertEquals(resolver.resolveField(typeMeta, field), stringBuilder.toString());
+        }
+    }
+
+    private static final class BrokenParameterizedType implements ParameterizedType {
+
+        @Override
+        public Type[] getActualTypeArguments() {
+            throw new IllegalStateException("Type arguments are not available.");
+        }
+
+        @Override
+        public Type getOwnerType() {
+            return null;
+        }
+
+        @Override
+        public Type getRawType() {
+            return List.class;
+        }
+    }
+}
@@ -38,6 +38,7 @@ public class TestModel<T, U> extends LinkedList<T> /* extend class with single t
     private Integer[][] doubledArrayField;
     private T genericField;
     private Set<? super U[]> lowerWildcardField;
+    private List<? extends Object> objectUpperWildcardField;
     private U[] parameterizedArrayField;
     private List<Long[]> parameterizedFieldInnerArray;
     private Set<List<U>> parameterizedFieldInnerParameter;
@@ -48,6 +49,7 @@ public class TestModel<T, U> extends LinkedList<T> /* extend class with single t
     private int[] primitiveArrayField;
     private long primitiveField;
     private String simpleField;
+    private Set<?> unboundedWildcardField;
     private Set<? extends U[]> upperWildcardField;
     private Integer[] wrapperArrayField;
     private Short wrapperField;
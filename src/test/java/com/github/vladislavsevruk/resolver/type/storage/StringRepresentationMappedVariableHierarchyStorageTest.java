@@ -23,6 +23,10 @@
  */
 package com.github.vladislavsevruk.resolver.type.storage;
 
+import com.github.vladislavsevruk.resolver.context.ResolvingContext;
+import com.github.vladislavsevruk.resolver.context.StringRepresentationResolvingContextManager;
+import com.github.vladislavsevruk.resolver.metrics.InMemoryResolverMetrics;
+import com.github.vladislavsevruk.resolver.metrics.ResolverMetricsManager;
 import com.github.vladislavsevruk.resolver.type.MappedVariableHierarchy;
 import com.github.vladislavsevruk.resolver.type.TypeMeta;
 import org.junit.jupiter.api.Assertions;
@@ -35,6 +39,20 @@ class StringRepresentationMappedVariableHierarchyStorageTest {
     private StringRepresentationMappedVariableHierarchyStorage realStorage
             = new StringRepresentationMappedVariableHierarchyStorage();
 
+    @Test
+    void evictedHierarchyIsNotRetainedTest() {
+        ResolvingContext<String> context = StringRepresentationResolvingContextManager.getContext();
+        StringRepresentationMappedVariableHierarchyStorage storage
+                = new StringRepresentationMappedVariableHierarchyStorage(context, 1);
+        TypeMeta<?> typeMeta1 = new TypeMeta<>(Long.class);
+        TypeMeta<?> typeMeta2 = new TypeMeta<>(Short.class);
+        MappedVariableHierarchy<String> firstHierarchy = storage.get(typeMeta1);
+        storage.get(typeMeta2);
+        MappedVariableHierarchy<String> secondHierarchy = storage.get(typeMeta1);
+        Assertions.assertEquals(firstHierarchy, secondHierarchy);
+        Assertions.assertNotSame(firstHierarchy, secondHierarchy);
+    }
+
     @Test
     void getAlreadyPresentHierarchyTest() {
         MappedVariableHierarchy<String> expectedHierarchy = new MappedVariableHierarchy<>(Long.class);
@@ -47,6 +65,33 @@ class StringRepresentationMappedVariableHierarchyStorageTest {
         Assertions.assertSame(firstHierarchy, secondHierarchy);
     }
 
+    @Test
+    void equalTypeMetasShareHierarchyTest() {
+        TypeMeta<?> typeMeta1 = new TypeMeta<>(List.class, new TypeMeta<?>[]{ new TypeMeta<>(Integer.class) });
+        TypeMeta<?> typeMeta2 = new TypeMeta<>(List.class, new TypeMeta<?>[]{ new TypeMeta<>(Integer.class) });
+        Assertions.assertSame(realStorage.get(typeMeta1), realStorage.get(typeMeta2));
+    }
+
+    @Test
+    void evictedHierarchyIsMappedAgainTest() {
+        ResolvingContext<String> context = StringRepresentationResolvingContextManager.getContext();
+        StringRepresentationMappedVariableHierarchyStorage storage
+                = new StringRepresentationMappedVariableHierarchyStorage(context, 1);
+        InMemoryResolverMetrics metrics = new InMemoryResolverMetrics();
+        ResolverMetricsManager.setMetrics(metrics);
+        try {
+            TypeMeta<?> typeMeta1 = new TypeMeta<>(Long.class);
+            TypeMeta<?> typeMeta2 = new TypeMeta<>(Short.class);
+            MappedVariableHierarchy<String> firstHierarchy = storage.get(typeMeta1);
+            storage.get(typeMeta2);
+            Assertions.assertEquals(firstHierarchy, storage.get(typeMeta1));
+        } finally {
+            ResolverMetricsManager.setMetrics(null);
+        }
+        Assertions.assertEquals(3, metrics.getCacheMissCount(StringRepresentationMappedVariableHierarchyStorage.class));
+        Assertions.assertEquals(0, metrics.getCacheHitCount(StringRepresentationMappedVariableHierarchyStorage.class));
+    }
+
     @Test
     void getHierarchyTest() {
         MappedVariableHierarchy<String> expectedHierarchy = new MappedVariableHierarchy<>(Short.class);
@@ -64,4 +109,23 @@ class StringRepresentationMappedVariableHierarchyStorageTest {
         MappedVariableHierarchy<String> secondHierarchy = realStorage.get(typeMeta2);
         Assertions.assertNotSame(firstHierarchy, secondHierarchy);
     }
+
+    @Test
+    void storedHierarchyAccessIsReportedToMetricsTest() {
+        StringRepresentationMappedVariableHierarchyStorage storage
+                = new StringRepresentationMappedVariableHierarchyStorage();
+        InMemoryResolverMetrics metrics = new InMemoryResolverMetrics();
+        ResolverMetricsManager.setMetrics(metrics);
+        try {
+            TypeMeta<?> typeMeta1 = new TypeMeta<>(List.class, new TypeMeta<?>[]{ new TypeMeta<>(Integer.class) });
+            TypeMeta<?> typeMeta2 = new TypeMeta<>(List.class, new TypeMeta<?>[]{ new TypeMeta<>(Integer.class) });
+            storage.get(typeMeta1);
+            storage.get(typeMeta2);
+            storage.get(typeMeta1);
+        } finally {
+            ResolverMetricsManager.setMetrics(null);
+        }
+        Assertions.assertEquals(1, metrics.getCacheMissCount(StringRepresentationMappedVariableHierarchyStorage.class));
+        Assertions.assertEquals(2, metrics.getCacheHitCount(StringRepresentationMappedVariableHierarchyStorage.class));
+    }
 }
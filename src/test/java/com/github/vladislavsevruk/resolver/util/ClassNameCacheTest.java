@@ -0,0 +1,58 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Uladzislau Seuruk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.vladislavsevruk.resolver.util;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+class ClassNameCacheTest {
+
+    @Test
+    void anonymousClassNamesTest() {
+        Class<?> anonymousClass = new Object() {}.getClass();
+        Assertions.assertEquals(anonymousClass.getName(), ClassNameCache.getName(anonymousClass));
+        Assertions.assertEquals("", ClassNameCache.getSimpleName(anonymousClass));
+    }
+
+    @Test
+    void arrayClassNamesTest() {
+        Assertions.assertEquals(String[].class.getName(), ClassNameCache.getName(String[].class));
+        Assertions.assertEquals("String[]", ClassNameCache.getSimpleName(String[].class));
+    }
+
+    @Test
+    void namesAreComputedOnceTest() {
+        Assertions.assertSame(ClassNameCache.getSimpleName(Map.Entry.class),
+                ClassNameCache.getSimpleName(Map.Entry.class));
+        Assertions.assertSame(ClassNameCache.getName(Map.Entry.class), ClassNameCache.getName(Map.Entry.class));
+    }
+
+    @Test
+    void nestedClassNamesTest() {
+        Assertions.assertEquals("java.util.Map$Entry", ClassNameCache.getName(Map.Entry.class));
+        Assertions.assertEquals("Entry", ClassNameCache.getSimpleName(Map.Entry.class));
+    }
+}
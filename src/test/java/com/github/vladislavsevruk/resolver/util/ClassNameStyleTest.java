@@ -0,0 +1,63 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Uladzislau Seuruk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.vladislavsevruk.resolver.util;
+
+import com.github.vladislavsevruk.resolver.context.ResolvingContext;
+import com.github.vladislavsevruk.resolver.context.StringRepresentationResolvingContextManager;
+import com.github.vladislavsevruk.resolver.resolver.picker.MeteredTypeResolverPicker;
+import com.github.vladislavsevruk.resolver.resolver.picker.TypeResolverPicker;
+import com.github.vladislavsevruk.resolver.test.context.ShortNameRepresentationContext;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class ClassNameStyleTest {
+
+    @Mock
+    private ResolvingContext<String> customContext;
+    @Mock
+    private TypeResolverPicker<String> customTypeResolverPicker;
+
+    @Test
+    void customPickerHasNoClassNameStyleTest() {
+        Mockito.when(customContext.getTypeResolverPicker())
+                .thenReturn(new MeteredTypeResolverPicker(customTypeResolverPicker));
+        Assertions.assertNull(ClassNameStyle.of(customContext));
+    }
+
+    @Test
+    void fullNameContextStyleTest() {
+        Assertions.assertEquals(ClassNameStyle.FULL_NAME,
+                ClassNameStyle.of(StringRepresentationResolvingContextManager.getContext()));
+    }
+
+    @Test
+    void shortNameContextStyleTest() {
+        Assertions.assertEquals(ClassNameStyle.SHORT_NAME, ClassNameStyle.of(new ShortNameRepresentationContext()));
+    }
+}
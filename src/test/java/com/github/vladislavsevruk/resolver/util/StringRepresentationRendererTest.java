@@ -0,0 +1,57 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Uladzislau Seuruk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.vladislavsevruk.resolver.util;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+class StringRepresentationRendererTest {
+
+    @Test
+    void renderParameterizedTypeCustomDelimiterTest() {
+        String[] arguments = { String.class.getName(), Long.class.getName() };
+        String expectedRepresentation = String.format("%s<%s>", Map.class.getName(), String.join(" ,", arguments));
+        Assertions.assertEquals(expectedRepresentation,
+                StringRepresentationRenderer.renderParameterizedType(Map.class.getName(), arguments, " ,"));
+    }
+
+    @Test
+    void renderParameterizedTypeSeveralArgumentsTest() {
+        String[] arguments = { String.class.getName(), Long.class.getName() };
+        String expectedRepresentation = String.format("%s<%s>", Map.class.getName(), String.join(", ", arguments));
+        Assertions.assertEquals(expectedRepresentation,
+                StringRepresentationRenderer.renderParameterizedType(Map.class.getName(), arguments));
+    }
+
+    @Test
+    void renderParameterizedTypeSingleArgumentTest() {
+        String[] arguments = { String.class.getName() };
+        String expectedRepresentation = String.format("%s<%s>", List.class.getName(), String.class.getName());
+        Assertions.assertEquals(expectedRepresentation,
+                StringRepresentationRenderer.renderParameterizedType(List.class.getName(), arguments));
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Uladzislau Seuruk
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.github.vladislavsevruk.resolver.context;
+
+import com.github.vladislavsevruk.resolver.resolver.field.FieldStringRepresentationResolver;
+import com.github.vladislavsevruk.resolver.test.data.TestModel;
+import com.github.vladislavsevruk.resolver.type.TypeMeta;
+import com.github.vladislavsevruk.resolver.type.TypeProvider;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.lang.reflect.Field;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+class VirtualThreadResolvingTest {
+
+    @TempDir
+    Path temporaryDirectory;
+
+    @AfterAll
+    static void setInitialAutoContextRefresh() {
+        resetModulesAndContext();
+    }
+
+    @Test
+    void resolveOnVirtualThreadsWithoutPinningTest() throws Exception {
+        ExecutorService executorService;
+        try {
+            executorService = (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor")
+                    .invoke(null);
+        } catch (NoSuchMethodException nsmEx) {
+            Assumptions.assumeTrue(false, "Virtual threads are not supported by current JVM.");
+            return;
+        }
+        resetModulesAndContext();
+        Field[] fields = TestModel.class.getDeclaredFields();
+        TypeMeta<?> typeMeta = new TypeProvider<TestModel<Long, Short>>() {}.getTypeMeta();
+        Path recordingPath = temporaryDirectory.resolve("pinning.jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable("jdk.VirtualThreadPinned").withThreshold(Duration.ZERO);
+            recording.start();
+            List<Future<?>> tasks = new ArrayList<>();
+            for (int i = 0; i < 100_000; ++i) {
+                int taskIndex = i;
+                tasks.add(executorService.submit(() -> {
+                    if (taskIndex % 10_000 == 0) {
+                        StringRepresentationResolvingContextManager.refreshContext();
+                    }
+                    for (int j = 0; j < 10; ++j) {
+                        new FieldStringRepresentationResolver()
+                                .resolveField(typeMeta, fields[(taskIndex + j) % fields.length]);
+                    }
+                }));
+            }
+            for (Future<?> task : tasks) {
+                task.get();
+            }
+            recording.stop();
+            recording.dump(recordingPath);
+        } finally {
+            executorService.shutdown();
+        }
+        Assertions.assertTrue(RecordingFile.readAllEvents(recordingPath).stream()
+                .noneMatch(event -> "jdk.VirtualThreadPinned".equals(event.getEventType().getName())));
+    }
+
+    private static void resetModulesAndContext() {
+        StringRepresentationResolvingContextManager.disableContextAutoRefresh();
+        StringRepresentationResolvingModuleFactory.replaceMappedVariableHierarchyStorage(null);
+        StringRepresentationResolvingModuleFactory.replaceTypeResolverPicker(null);
+        StringRepresentationResolvingModuleFactory.replaceTypeResolverStorage(null);
+        StringRepresentationResolvingModuleFactory.replaceTypeVariableMapper(null);
+        StringRepresentationResolvingContextManager.refreshContext();
+    }
+}